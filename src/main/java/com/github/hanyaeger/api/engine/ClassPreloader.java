@@ -0,0 +1,192 @@
+package com.github.hanyaeger.api.engine;
+
+import com.google.inject.Singleton;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link ClassPreloader} loads all classes of the Game and of Yaeger on a background thread, while the
+ * splash screen is showing. Without preloading, each class is loaded from disk the first time it is used, which
+ * happens on the JavaFX Application Thread when the first {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}
+ * is built.
+ * <p>
+ * Only the package of the Game and the packages of Yaeger are loaded, including their subpackages, so the other
+ * libraries in a jar that contains all dependencies of the Game are skipped. Each location is scanned only once.
+ * Classes are loaded, but not initialized, so no static initializer of the Game is run ahead of time.
+ */
+@Singleton
+public class ClassPreloader {
+
+    private static final String YAEGER_PACKAGE = "com.github.hanyaeger.api";
+    private static final String CLASS_EXTENSION = ".class";
+    private static final String VERSIONS_DIRECTORY = "META-INF/versions/";
+    private static final Set<String> NON_CLASSES = Set.of("module-info.class", "package-info.class");
+    private static final String THREAD_NAME = "yaeger-class-preloader";
+
+    private static ClassPreloader classPreloader;
+
+    private volatile CompletableFuture<Integer> preloading = CompletableFuture.completedFuture(0);
+
+    public static synchronized ClassPreloader getInstance() {
+        if (classPreloader == null) {
+            classPreloader = new ClassPreloader();
+        }
+        return classPreloader;
+    }
+
+    /**
+     * Load all classes in the package of the given {@link Class} and in the packages of Yaeger, on a background
+     * thread. Classes are looked up in the directory or jar from which these classes have been loaded.
+     *
+     * @param gameClass the {@link Class} of the Game, in general a subclass of {@link YaegerGame}
+     * @return a {@link CompletableFuture} that completes with the number of classes that have been loaded
+     */
+    public synchronized CompletableFuture<Integer> preload(final Class<?> gameClass) {
+        preloading = CompletableFuture.supplyAsync(() -> {
+            var packagesByLocation = new LinkedHashMap<Path, Set<String>>();
+            var classLoaders = new HashMap<Path, ClassLoader>();
+
+            for (var anchor : List.of(gameClass, ClassPreloader.class)) {
+                var packageName = anchor == ClassPreloader.class ? YAEGER_PACKAGE : anchor.getPackageName();
+
+                locationOf(anchor).ifPresent(location -> {
+                    packagesByLocation.computeIfAbsent(location, key -> new HashSet<>()).add(packageName);
+                    classLoaders.putIfAbsent(location, anchor.getClassLoader());
+                });
+            }
+
+            var loaded = 0;
+            for (var entry : packagesByLocation.entrySet()) {
+                for (var className : listClasses(entry.getKey(), entry.getValue())) {
+                    try {
+                        Class.forName(className, false, classLoaders.get(entry.getKey()));
+                        loaded++;
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        // The class will fail again when it is used, so it can safely be skipped here
+                    }
+                }
+            }
+            return loaded;
+        }, runnable -> {
+            var thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            thread.start();
+        });
+
+        return preloading;
+    }
+
+    /**
+     * Return whether preloading has finished.
+     *
+     * @return {@code true} if no classes are being loaded
+     */
+    public boolean isDone() {
+        return preloading.isDone();
+    }
+
+    /**
+     * Return the directory or jar from which the given {@link Class} has been loaded.
+     *
+     * @param anchor the {@link Class} whose location should be returned
+     * @return the {@link Path} of the location, or an empty {@link Optional} if it is not a directory or jar
+     */
+    static Optional<Path> locationOf(final Class<?> anchor) {
+        var codeSource = anchor.getProtectionDomain().getCodeSource();
+
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Path.of(codeSource.getLocation().toURI()));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // A location that can not be read is not preloaded
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Return the names of all classes at the given location that belong to one of the given packages, or to one of
+     * their subpackages.
+     *
+     * @param location the {@link Path} of a directory or jar
+     * @param packages the names of the packages
+     * @return a {@link List} of fully qualified class names
+     */
+    List<String> listClasses(final Path location, final Collection<String> packages) {
+        try {
+            if (Files.isDirectory(location)) {
+                return filter(listDirectory(location), packages);
+            } else if (Files.isRegularFile(location)) {
+                return filter(listJar(location), packages);
+            }
+        } catch (IOException e) {
+            // A location that can not be read is not preloaded
+        }
+        return List.of();
+    }
+
+    private List<String> listDirectory(final Path directory) throws IOException {
+        try (var paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile)
+                    .map(path -> directory.relativize(path).toString().replace(directory.getFileSystem().getSeparator(), "/"))
+                    .filter(ClassPreloader::isClass)
+                    .map(ClassPreloader::toClassName)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private List<String> listJar(final Path jar) throws IOException {
+        var classNames = new ArrayList<String>();
+
+        try (var jarFile = new JarFile(jar.toFile())) {
+            var entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                var name = entries.nextElement().getName();
+                if (isClass(name)) {
+                    classNames.add(toClassName(name));
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static List<String> filter(final List<String> classNames, final Collection<String> packages) {
+        return classNames.stream()
+                .filter(className -> packages.stream().anyMatch(packageName -> isInPackage(className, packageName)))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isInPackage(final String className, final String packageName) {
+        if (packageName.isEmpty()) {
+            // Only the classes of the unnamed package itself, not those of every other package
+            return className.indexOf('.') < 0;
+        }
+        return className.startsWith(packageName + ".");
+    }
+
+    private static boolean isClass(final String path) {
+        // Skips module-info and package-info, which are not regular classes, and the classes for other Java versions
+        var fileName = path.substring(path.lastIndexOf('/') + 1);
+        return path.endsWith(CLASS_EXTENSION) && !NON_CLASSES.contains(fileName) && !path.startsWith(VERSIONS_DIRECTORY);
+    }
+
+    private static String toClassName(final String path) {
+        return path.substring(0, path.length() - CLASS_EXTENSION.length()).replace('/', '.');
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.hanyaeger.api.engine;
+
+import com.google.inject.Singleton;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@link StartupTimings} measure the phases a {@link YaegerGame} goes through while starting, from the call to
+ * {@link YaegerGame#start(javafx.stage.Stage)} until the first {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}
+ * is shown. Phases that run on the JavaFX Application Thread are measured one after the other. Work that runs on a
+ * background thread is recorded with the moment it finished.
+ * <p>
+ * The report is printed when the Game is started with the command line option {@code --showStartupTimings}.
+ */
+@Singleton
+public class StartupTimings {
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final String ROW_FORMAT = "  %-40s%8d ms%n";
+
+    private static StartupTimings startupTimings;
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, Long> backgroundTasks = new LinkedHashMap<>();
+    private LongSupplier clock = System::nanoTime;
+    private long start;
+    private long last;
+
+    public static synchronized StartupTimings getInstance() {
+        if (startupTimings == null) {
+            startupTimings = new StartupTimings();
+        }
+        return startupTimings;
+    }
+
+    /**
+     * Start measuring. All previously recorded phases are removed.
+     */
+    public synchronized void start() {
+        phases.clear();
+        backgroundTasks.clear();
+        start = clock.getAsLong();
+        last = start;
+    }
+
+    /**
+     * Record the end of a phase on the JavaFX Application Thread. Its duration is the time since the end of the
+     * previous phase.
+     *
+     * @param phase the name of the phase
+     */
+    public synchronized void mark(final String phase) {
+        var now = clock.getAsLong();
+        phases.put(phase, (now - last) / NANOS_PER_MILLI);
+        last = now;
+    }
+
+    /**
+     * Record the end of work that ran on a background thread, in parallel with the other phases.
+     *
+     * @param task the name of the work
+     */
+    public synchronized void markBackground(final String task) {
+        backgroundTasks.put(task, (clock.getAsLong() - start) / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Return the phases that have been recorded through {@link #mark(String)}.
+     *
+     * @return a {@link Map} from the name of each phase to its duration in milliseconds, in the order they were
+     * recorded
+     */
+    public synchronized Map<String, Long> getPhases() {
+        return new LinkedHashMap<>(phases);
+    }
+
+    /**
+     * Return the work that has been recorded through {@link #markBackground(String)}.
+     *
+     * @return a {@link Map} from the name of the work to the number of milliseconds after the start at which it
+     * finished
+     */
+    public synchronized Map<String, Long> getBackgroundTasks() {
+        return new LinkedHashMap<>(backgroundTasks);
+    }
+
+    /**
+     * Return the time between the start and the end of the last phase.
+     *
+     * @return the total in milliseconds
+     */
+    public synchronized long getTotal() {
+        return (last - start) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Return a report of all recorded phases and background work.
+     *
+     * @return the report as a {@link String}
+     */
+    public synchronized String getReport() {
+        var report = new StringBuilder("Yaeger startup timings:").append(System.lineSeparator());
+
+        phases.forEach((phase, duration) -> report.append(String.format(ROW_FORMAT, phase, duration)));
+        report.append(String.format(ROW_FORMAT, "Total", getTotal()));
+
+        if (!backgroundTasks.isEmpty()) {
+            report.append("Finished in the background after:").append(System.lineSeparator());
+            backgroundTasks.forEach((task, finished) -> report.append(String.format(ROW_FORMAT, task, finished)));
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Set the clock that should be used, which returns the current time in nanoseconds.
+     *
+     * @param clock the {@link LongSupplier} to be used
+     */
+    void setClock(final LongSupplier clock) {
+        this.clock = clock;
+    }
+}
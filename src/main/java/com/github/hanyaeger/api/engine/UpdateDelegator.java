@@ -11,4 +11,11 @@ public interface UpdateDelegator extends Updatable {
      * @return an instance of {@link Updater}
      */
     Updater getUpdater();
+
+    /**
+     * Set the {@link Updater} to which the {@code update} should be delegated.
+     *
+     * @param updater an instance of {@link Updater}
+     */
+    void setUpdater(final Updater updater);
 }
@@ -0,0 +1,19 @@
+package com.github.hanyaeger.api.engine;
+
+/**
+ * Implement this interface on an {@link Updatable} that does not need to be updated every cycle of the Game Loop,
+ * such as an entity whose behaviour is not visible to the player. All instances of {@link Updatable} with the same
+ * interval are spread evenly across the cycles of the Game Loop, so the time required for each cycle stays the same.
+ * <p>
+ * An {@link Updatable} that is also a {@link com.github.hanyaeger.api.engine.entities.entity.motion.Moveable} still
+ * moves at its full speed, since the motion of the skipped cycles is applied before each update.
+ */
+public interface UpdateIntervalProvider {
+
+    /**
+     * Return the number of cycles of the Game Loop between two updates.
+     *
+     * @return the interval as an {@code int}, where {@code 1} means every cycle of the Game Loop
+     */
+    int getUpdateInterval();
+}
@@ -11,10 +11,14 @@ class YaegerCommandLineParser {
 
     private static final String NO_SPLASH = "--noSplash";
     private static final String NO_SPLASH_EXPLANATION = "Skip the Splash screen during start up";
+    private static final String SHOW_STARTUP_TIMINGS = "--showStartupTimings";
+    private static final String SHOW_STARTUP_TIMINGS_EXPLANATION = "Print the duration of each phase during start up";
+    private static final String CDS_TRAINING = "--cdsTraining";
+    private static final String CDS_TRAINING_EXPLANATION = "Show all scenes briefly and quit, to train a CDS archive";
     private static final String HELP = "--help";
     private static final String HELP_SORT_EXPLANATION = "Show this help screen with all commandline options";
 
-    private static final String TABLE_FORMAT = "%-14s%-50s";
+    private static final String TABLE_FORMAT = "%-22s%-50s";
 
     /**
      * Parse the given command line Arguments and create a {@link YaegerConfig} that can be used to
@@ -32,6 +36,8 @@ class YaegerCommandLineParser {
         var showSplash = args.contains(NO_SPLASH);
         var yeagerConfig = new YaegerConfig();
         yeagerConfig.setShowSplash(!showSplash);
+        yeagerConfig.setShowStartupTimings(args.contains(SHOW_STARTUP_TIMINGS));
+        yeagerConfig.setCdsTraining(args.contains(CDS_TRAINING));
 
         return yeagerConfig;
     }
@@ -41,5 +47,9 @@ class YaegerCommandLineParser {
         System.out.format(TABLE_FORMAT, " " + HELP, HELP_SORT_EXPLANATION);
         System.out.print(System.lineSeparator());
         System.out.format(TABLE_FORMAT, " " + NO_SPLASH, NO_SPLASH_EXPLANATION);
+        System.out.print(System.lineSeparator());
+        System.out.format(TABLE_FORMAT, " " + SHOW_STARTUP_TIMINGS, SHOW_STARTUP_TIMINGS_EXPLANATION);
+        System.out.print(System.lineSeparator());
+        System.out.format(TABLE_FORMAT, " " + CDS_TRAINING, CDS_TRAINING_EXPLANATION);
     }
 }
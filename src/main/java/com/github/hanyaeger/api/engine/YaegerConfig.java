@@ -9,6 +9,8 @@ import java.util.Objects;
 public class YaegerConfig {
 
     private boolean showSplash = true;
+    private boolean showStartupTimings = false;
+    private boolean cdsTraining = false;
 
     /**
      * Whether the splash screen should be shown during start up.
@@ -28,16 +30,55 @@ public class YaegerConfig {
         this.showSplash = showSplash;
     }
 
+    /**
+     * Whether the {@link StartupTimings} should be printed once the first scene is shown.
+     *
+     * @return false by default.
+     */
+    public boolean isShowStartupTimings() {
+        return showStartupTimings;
+    }
+
+    /**
+     * Set whether the {@link StartupTimings} should be printed once the first scene is shown.
+     *
+     * @param showStartupTimings A {@code boolean} value.
+     */
+    void setShowStartupTimings(final boolean showStartupTimings) {
+        this.showStartupTimings = showStartupTimings;
+    }
+
+    /**
+     * Whether this is a training run, which shows all scenes briefly and then closes the Game, so the JVM can
+     * write a class-data sharing archive.
+     *
+     * @return false by default.
+     */
+    public boolean isCdsTraining() {
+        return cdsTraining;
+    }
+
+    /**
+     * Set whether this is a training run for a class-data sharing archive.
+     *
+     * @param cdsTraining A {@code boolean} value.
+     */
+    void setCdsTraining(final boolean cdsTraining) {
+        this.cdsTraining = cdsTraining;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         YaegerConfig that = (YaegerConfig) o;
-        return showSplash == that.showSplash;
+        return showSplash == that.showSplash
+                && showStartupTimings == that.showStartupTimings
+                && cdsTraining == that.cdsTraining;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(showSplash);
+        return Objects.hash(showSplash, showStartupTimings, cdsTraining);
     }
 }
@@ -5,10 +5,18 @@ import com.github.hanyaeger.api.engine.scenes.StaticScene;
 import com.github.hanyaeger.api.engine.scenes.YaegerScene;
 import com.github.hanyaeger.api.guice.YaegerModule;
 import com.google.inject.Guice;
+import com.google.inject.Injector;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * {@link YaegerGame} is the base class that must be extended to create a Yaeger game. After extending this class,
  * two lifecycle methods will become available: {@link #setupGame()} and {@link #setupScenes()}. The methods should be used
@@ -38,6 +46,18 @@ public abstract class YaegerGame extends Application {
         yaegerStage.setActiveScene(id);
     }
 
+    /**
+     * Prepare the {@link YaegerScene} of the given {@code int} ahead of time, so that a later call to
+     * {@link #setActiveScene(int)} only needs to show it. Its assets are loaded on a background thread and its
+     * entities are created while the current {@link YaegerScene} remains active. Use this method from a
+     * level-complete screen, to make the switch to the next level instant.
+     *
+     * @param id The {@link Integer} identifying the {@link YaegerScene}
+     */
+    public void prepareScene(final int id) {
+        yaegerStage.prepareScene(id);
+    }
+
     /**
      * Stop and close the Game.
      */
@@ -64,6 +84,31 @@ public abstract class YaegerGame extends Application {
     }
 
 
+    /**
+     * Set the maximum number of instances of {@link YaegerScene} that are kept in memory while they are not active.
+     * A {@link YaegerScene} that is kept, is resumed with all its entities intact when it becomes active again,
+     * instead of being set up from scratch. When more instances of {@link YaegerScene} are kept, the least
+     * recently used are destroyed. By default no {@link YaegerScene} is kept.
+     *
+     * @param maxSuspendedScenes the maximum number of instances of {@link YaegerScene} that are kept
+     */
+    protected void setMaxSuspendedScenes(final int maxSuspendedScenes) {
+        yaegerStage.setMaxSuspendedScenes(maxSuspendedScenes);
+    }
+
+    /**
+     * Set whether entities should be injected without reflection. Each entity that is added to a
+     * {@link YaegerScene} receives collaborators from Yaeger, such as the {@link Updater} of a dynamic entity. By
+     * default these are injected by Guice, which uses reflection for each entity. When enabled, they are set through
+     * plain setter calls, which makes spawning entities faster. Entities of a class that declares its own
+     * {@code @Inject} members are still injected by Guice.
+     *
+     * @param reflectionFreeInjection {@code true} if entities should be injected without reflection
+     */
+    protected void setReflectionFreeInjection(final boolean reflectionFreeInjection) {
+        yaegerStage.setReflectionFreeInjection(reflectionFreeInjection);
+    }
+
     /**
      * Add a {@link YaegerScene} to the Game.
      *
@@ -80,6 +125,8 @@ public abstract class YaegerGame extends Application {
      * <ul>
      *     <li>{@link #setSize(Size)}</li>
      *     <li>{@link #setGameTitle(String)}</li>
+     *     <li>{@link #setMaxSuspendedScenes(int)}</li>
+     *     <li>{@link #setReflectionFreeInjection(boolean)}</li>
      * </ul>
      */
     protected abstract void setupGame();
@@ -98,11 +145,54 @@ public abstract class YaegerGame extends Application {
 
     @Override
     public void start(final Stage primaryStage) {
+        var startupTimings = StartupTimings.getInstance();
+        startupTimings.start();
+
+        // Loading classes and creating the Injector do not depend on each other, so both start right away
+        ClassPreloader.getInstance().preload(getClass())
+                .thenAccept(classes -> startupTimings.markBackground("Preload " + classes + " classes"));
+        var injectorCreation = CompletableFuture.supplyAsync(() -> Guice.createInjector(new YaegerModule()));
+
         var yaegerConfig = new YaegerCommandLineParser().parseToConfig(getParameters().getRaw());
+        startupTimings.mark("Parse command line");
+
+        showPlaceholder(primaryStage, yaegerConfig);
+
+        // The Injector is awaited off the JavaFX Application Thread, so the window stays responsive meanwhile
+        injectorCreation.thenAcceptAsync(injector -> {
+            startupTimings.mark("Create injector");
+
+            yaegerStage = new YaegerStage(this, primaryStage, yaegerConfig);
+            injector.injectMembers(yaegerStage);
+            yaegerStage.init(injector);
+        }, Platform::runLater).exceptionally(throwable -> {
+            Platform.runLater(() -> failStartup(throwable));
+            return null;
+        });
+    }
+
+    /**
+     * Show an empty window until the {@link Injector} is available. It has the background color the
+     * {@link com.github.hanyaeger.api.engine.scenes.splash.SplashScene} fades in from, so the switch is not visible.
+     */
+    private void showPlaceholder(final Stage primaryStage, final YaegerConfig yaegerConfig) {
+        primaryStage.setResizable(false);
+
+        if (yaegerConfig.isCdsTraining()) {
+            // JavaFX has no headless mode, so a training run uses an invisible window
+            primaryStage.setOpacity(0);
+        }
+        primaryStage.setScene(new Scene(new Group(), DEFAULT_GAME_DIMENSIONS.getWidth(),
+                DEFAULT_GAME_DIMENSIONS.getHeight(), Color.BLACK));
+        primaryStage.show();
+    }
 
-        var injector = Guice.createInjector(new YaegerModule());
-        yaegerStage = new YaegerStage(this, primaryStage, yaegerConfig);
-        injector.injectMembers(yaegerStage);
-        yaegerStage.init(injector);
+    private void failStartup(final Throwable throwable) {
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        var thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, cause);
+        Platform.exit();
     }
 }
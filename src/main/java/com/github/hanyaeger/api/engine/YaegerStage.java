@@ -1,5 +1,6 @@
 package com.github.hanyaeger.api.engine;
 
+import com.github.hanyaeger.api.engine.entities.EntityMembersInjector;
 import com.github.hanyaeger.api.engine.scenes.SceneCollection;
 import com.github.hanyaeger.api.guice.factories.SceneCollectionFactory;
 import com.google.inject.Inject;
@@ -21,6 +22,8 @@ public class YaegerStage implements Initializable {
     private final YaegerConfig yaegerConfig;
     private SceneCollectionFactory sceneCollectionFactory;
     private SceneCollection sceneCollection;
+    private StartupTimings startupTimings;
+    private EntityMembersInjector entityMembersInjector;
 
     YaegerStage(final YaegerGame yaegerGame, final Stage stage, final YaegerConfig yaegerConfig) {
         this.yaegerGame = yaegerGame;
@@ -39,7 +42,6 @@ public class YaegerStage implements Initializable {
 
     @Override
     public void init(final Injector injector) {
-        stage.setResizable(false);
         sceneCollection = sceneCollectionFactory.create(stage, yaegerConfig);
         injector.injectMembers(sceneCollection);
         sceneCollection.init(injector);
@@ -48,10 +50,12 @@ public class YaegerStage implements Initializable {
         yaegerGame.setupGame();
         stage.setWidth(size.getWidth());
         stage.setHeight(size.getHeight());
+        startupTimings.mark("Setup game");
 
         yaegerGame.setupScenes();
-        sceneCollection.postSetupScenes();
+        startupTimings.mark("Setup scenes");
 
+        sceneCollection.postSetupScenes();
         stage.show();
     }
 
@@ -62,6 +66,24 @@ public class YaegerStage implements Initializable {
         stage.close();
     }
 
+    /**
+     * Set the maximum number of instances of {@link YaegerScene} that are kept in memory while they are not active.
+     *
+     * @param maxSuspendedScenes the maximum number of suspended instances of {@link YaegerScene}
+     */
+    protected void setMaxSuspendedScenes(final int maxSuspendedScenes) {
+        sceneCollection.setMaxSuspendedScenes(maxSuspendedScenes);
+    }
+
+    /**
+     * Set whether the collaborators Yaeger provides to an entity should be set without reflection.
+     *
+     * @param reflectionFreeInjection {@code true} if entities should be injected without reflection
+     */
+    protected void setReflectionFreeInjection(final boolean reflectionFreeInjection) {
+        entityMembersInjector.setEnabled(reflectionFreeInjection);
+    }
+
     /**
      * Set the title of the Game.
      *
@@ -91,6 +113,25 @@ public class YaegerStage implements Initializable {
         sceneCollection.setActive(id);
     }
 
+    /**
+     * Prepare the {@link YaegerScene} of the given {@code int} ahead of time.
+     *
+     * @param id The {@link Integer} identifying the {@link YaegerScene}
+     */
+    protected void prepareScene(final int id) {
+        sceneCollection.prepare(id);
+    }
+
+    @Inject
+    public void setEntityMembersInjector(final EntityMembersInjector entityMembersInjector) {
+        this.entityMembersInjector = entityMembersInjector;
+    }
+
+    @Inject
+    public void setStartupTimings(final StartupTimings startupTimings) {
+        this.startupTimings = startupTimings;
+    }
+
     @Inject
     public void setSceneCollectionFactory(final SceneCollectionFactory sceneCollectionFactory) {
         this.sceneCollectionFactory = sceneCollectionFactory;
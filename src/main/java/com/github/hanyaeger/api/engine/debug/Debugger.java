@@ -27,6 +27,10 @@ public class Debugger implements StatisticsObserver {
     private static final String KEYLISTENERS = "Keylistening Entities:";
     private static final String AUDIO_FILES = "Audio files";
     private static final String IMAGE_FILES = "Image files";
+    private static final String IMAGE_CACHE_SIZE = "Image cache size:";
+    private static final String IMAGE_CACHE_HITS = "Image cache hits:";
+    private static final String IMAGE_CACHE_MISSES = "Image cache misses:";
+    private static final String IMAGE_CACHE_EVICTIONS = "Image cache evictions:";
 
     private AudioRepository audioRepository;
     private ImageRepository imageRepository;
@@ -45,6 +49,10 @@ public class Debugger implements StatisticsObserver {
 
     private Label audioFiles;
     private Label imageFiles;
+    private Label imageCacheSize;
+    private Label imageCacheHits;
+    private Label imageCacheMisses;
+    private Label imageCacheEvictions;
 
     public void setup(Pane pane) {
         createGridPane(pane);
@@ -88,6 +96,10 @@ public class Debugger implements StatisticsObserver {
 
         audioFiles.setText(String.valueOf(audioRepository.size()));
         imageFiles.setText(String.valueOf(imageRepository.size()));
+        imageCacheSize.setText(imageRepository.getSizeInBytes() + " / " + imageRepository.getMemoryBudget());
+        imageCacheHits.setText(String.valueOf(imageRepository.getHits()));
+        imageCacheMisses.setText(String.valueOf(imageRepository.getMisses()));
+        imageCacheEvictions.setText(String.valueOf(imageRepository.getEvictions()));
     }
 
     private void createGridPane(Pane pane) {
@@ -123,6 +135,10 @@ public class Debugger implements StatisticsObserver {
     private void addResourcesStatistics() {
         audioFiles = addDebugLine(AUDIO_FILES);
         imageFiles = addDebugLine(IMAGE_FILES);
+        imageCacheSize = addDebugLine(IMAGE_CACHE_SIZE);
+        imageCacheHits = addDebugLine(IMAGE_CACHE_HITS);
+        imageCacheMisses = addDebugLine(IMAGE_CACHE_MISSES);
+        imageCacheEvictions = addDebugLine(IMAGE_CACHE_EVICTIONS);
     }
 
     private Label addDebugLine(String label) {
@@ -2,24 +2,39 @@ package com.github.hanyaeger.api.engine.entities;
 
 import com.github.hanyaeger.api.engine.Initializable;
 import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.UpdateIntervalProvider;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
 import com.github.hanyaeger.api.engine.debug.StatisticsObserver;
 import com.github.hanyaeger.api.engine.entities.entity.Removeable;
 import com.github.hanyaeger.api.engine.entities.entity.collisions.Collided;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.ColliderGrid;
 import com.github.hanyaeger.api.engine.entities.entity.collisions.Collider;
 import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionDelegate;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.ActionListener;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.ActionState;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.InputMap;
 import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.MouseDispatcher;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Newtonian;
+import com.github.hanyaeger.api.engine.entities.entity.motion.PhysicsWorld;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.SpriteAnimationTicker;
+import com.github.hanyaeger.api.engine.scenes.Camera;
 import com.github.hanyaeger.api.engine.scenes.YaegerScene;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import javafx.scene.Group;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
 import com.github.hanyaeger.api.engine.entities.entity.events.EventTypes;
 import javafx.scene.layout.Pane;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -30,17 +45,30 @@ public class EntityCollection implements Initializable {
 
     private final EntityCollectionStatistics statistics;
     private Injector injector;
+    private EntityMembersInjector entityMembersInjector;
     private final Pane pane;
     private final List<EntitySupplier> suppliers = new ArrayList<>();
     private final List<YaegerEntity> statics = new ArrayList<>();
     private final List<Updatable> updatables = new ArrayList<>();
     private final List<KeyListener> keyListeners = new ArrayList<>();
+    private final Map<String, List<ActionListener>> actionListeners = new HashMap<>();
     private final List<Removeable> garbage = new ArrayList<>();
+    private final Map<Updatable, Long> updateSlots = new IdentityHashMap<>();
+    private final Map<Updatable, Long> reducedRateUpdates = new IdentityHashMap<>();
+    private final InputQueue inputQueue = new InputQueue();
 
     private final List<StatisticsObserver> statisticsObservers = new ArrayList<>();
 
     private final CollisionDelegate collisionDelegate;
+    private final SpriteAnimationTicker spriteAnimationTicker;
     private AnnotationProcessor annotationProcessor;
+    private Camera camera;
+    private InputMap inputMap;
+    private MouseDispatcher mouseDispatcher;
+    private PhysicsWorld physicsWorld;
+    private long cycle = 0;
+    private long nextUpdateSlot = 0;
+    private boolean inputBatching = false;
 
     /**
      * Instantiate an {@link EntityCollection} for a given {@link Group} and a {@link Set} of {@link YaegerEntity} instances.
@@ -50,6 +78,7 @@ public class EntityCollection implements Initializable {
     public EntityCollection(final Pane pane) {
         this.pane = pane;
         this.collisionDelegate = new CollisionDelegate();
+        this.spriteAnimationTicker = new SpriteAnimationTicker();
         this.statistics = new EntityCollectionStatistics();
     }
 
@@ -71,6 +100,28 @@ public class EntityCollection implements Initializable {
         this.suppliers.add(supplier);
     }
 
+    /**
+     * Register a {@link ColliderGrid}, such as the solid tiles of a
+     * {@link com.github.hanyaeger.api.engine.entities.tilemap.TileMap}.
+     *
+     * @param colliderGrid The {@link ColliderGrid} to be registered.
+     */
+    public void registerColliderGrid(final ColliderGrid colliderGrid) {
+        collisionDelegate.register(colliderGrid);
+    }
+
+    /**
+     * Set the {@link Camera} that shows the instances of {@link YaegerEntity} of this {@link EntityCollection}. The
+     * {@link Camera} is updated at the end of each cycle of the Game Loop, and entities it has culled are skipped
+     * if it excludes them from updates.
+     *
+     * @param camera The {@link Camera} to be used.
+     */
+    public void setCamera(final Camera camera) {
+        this.camera = camera;
+        collisionDelegate.setCoordinateSpace(pane);
+    }
+
     /**
      * Regist a {@link KeyListener}.
      *
@@ -80,6 +131,51 @@ public class EntityCollection implements Initializable {
         this.keyListeners.add(keyListener);
     }
 
+    /**
+     * Register an {@link ActionListener}. It will only be notified of the actions it returns through
+     * {@link ActionListener#getActions()}.
+     *
+     * @param actionListener The {@link ActionListener} to be registered.
+     */
+    public void registerActionListener(final ActionListener actionListener) {
+        actionListener.getActions().forEach(action ->
+                actionListeners.computeIfAbsent(action, name -> new ArrayList<>()).add(actionListener));
+    }
+
+    /**
+     * Set the {@link InputMap} that maps the keys and mouse buttons to the actions of which the instances of
+     * {@link ActionListener} are notified.
+     *
+     * @param inputMap The {@link InputMap} to be used.
+     */
+    public void setInputMap(final InputMap inputMap) {
+        this.inputMap = inputMap;
+    }
+
+    /**
+     * Set the {@link MouseDispatcher} that dispatches the mouse events of the {@link YaegerScene}. All entities that
+     * are initialized after this, and listen to the mouse, are registered with the {@link MouseDispatcher} instead of
+     * receiving mouse events through their own {@link javafx.scene.Node}.
+     *
+     * @param mouseDispatcher The {@link MouseDispatcher} to be used.
+     */
+    public void setMouseDispatcher(final MouseDispatcher mouseDispatcher) {
+        this.mouseDispatcher = mouseDispatcher;
+    }
+
+    /**
+     * Return the {@link PhysicsWorld} that simulates the instances of {@link Newtonian} of this
+     * {@link EntityCollection}. It is created the first time it is needed.
+     *
+     * @return The {@link PhysicsWorld} of this {@link EntityCollection}.
+     */
+    public PhysicsWorld getPhysicsWorld() {
+        if (physicsWorld == null) {
+            physicsWorld = new PhysicsWorld();
+        }
+        return physicsWorld;
+    }
+
     /**
      * Mark an {@link Removeable} as garbage. After this is done, the {@link Removeable} is set for Garbage Collection and will
      * be collected in the next Garbage Collection cycle.
@@ -92,11 +188,73 @@ public class EntityCollection implements Initializable {
 
     /**
      * Notify all {@link YaegerEntity} that implement the interface {@link KeyListener} that keys are being pressed.
+     * If input batching is enabled, the keys are queued and all instances of {@link KeyListener} are notified once,
+     * during the next cycle of the Game Loop.
      *
      * @param input A {@link Set} containing all keys currently pressed.
      */
     public void notifyGameObjectsOfPressedKeys(final Set<KeyCode> input) {
-        keyListeners.forEach(gameObject -> gameObject.onPressedKeysChange(input));
+        if (inputBatching) {
+            inputQueue.offer(input);
+        } else {
+            dispatchPressedKeys(Set.copyOf(input));
+            dispatchActions();
+        }
+    }
+
+    /**
+     * Release all keys and mouse buttons, for instance when the {@link YaegerScene} stops receiving input. All
+     * instances of {@link KeyListener} are notified of an empty {@link Set} and all instances of
+     * {@link ActionListener} of the actions that were held. Keys that are still queued are discarded.
+     */
+    public void releaseInput() {
+        inputQueue.clear();
+        if (inputMap != null) {
+            inputMap.releaseAll();
+        }
+
+        dispatchPressedKeys(Set.of());
+        dispatchActions();
+    }
+
+    /**
+     * Notify the {@link InputMap} that a {@link MouseButton} has been pressed. If no {@link InputMap} is set, this
+     * method does nothing.
+     *
+     * @param mouseButton The {@link MouseButton} that has been pressed.
+     */
+    public void notifyMouseButtonPressed(final MouseButton mouseButton) {
+        if (inputMap != null) {
+            inputMap.pressMouseButton(mouseButton);
+            if (!inputBatching) {
+                dispatchActions();
+            }
+        }
+    }
+
+    /**
+     * Notify the {@link InputMap} that a {@link MouseButton} has been released. If no {@link InputMap} is set, this
+     * method does nothing.
+     *
+     * @param mouseButton The {@link MouseButton} that has been released.
+     */
+    public void notifyMouseButtonReleased(final MouseButton mouseButton) {
+        if (inputMap != null) {
+            inputMap.releaseMouseButton(mouseButton);
+            if (!inputBatching) {
+                dispatchActions();
+            }
+        }
+    }
+
+    /**
+     * Set whether changes of the pressed keys should be queued and dispatched once per cycle of the Game Loop,
+     * instead of immediately. This should only be enabled if {@link #update(long)} is called each cycle.
+     *
+     * @param inputBatching {@code true} if input should be dispatched during {@link #update(long)}
+     */
+    public void setInputBatching(final boolean inputBatching) {
+        this.inputBatching = inputBatching;
     }
 
     /**
@@ -116,8 +274,28 @@ public class EntityCollection implements Initializable {
      * <b>Collect garbage</b> All EntityCollection that have been marked as Garbage will be removed.
      *
      * <li>
+     * <b>Dispatch input</b> If input batching is enabled and the pressed keys have changed since the previous
+     * cycle, all instances of {@link KeyListener} are notified of a single snapshot of the pressed keys. If an
+     * {@link InputMap} is set, it is updated and all instances of {@link ActionListener} are notified of the
+     * actions they are interested in, that were pressed or released during this cycle.
+     * </li>
+     * <li>
      * <b>Notify Entities</b> On all Entities that implement the interface {@link Updatable}, update()
-     * will be called.
+     * will be called. Entities that implement {@link UpdateIntervalProvider}, or that are culled by a {@link Camera}
+     * with a reduced update interval, are only updated once every interval. Each of them is assigned a slot
+     * in round-robin order, so their updates are spread across the cycles of the Game Loop. When such an Entity
+     * is a {@link Moveable}, the motion of the cycles it skipped is applied before it is updated, so it does not
+     * move slower.
+     * </li>
+     * <li>
+     * <b>Step the physics</b> If there are instances of {@link Newtonian}, the {@link PhysicsWorld} is stepped once
+     * for all of them, after which their new locations are applied. If the simulation thread of the
+     * {@link PhysicsWorld} is enabled, the step runs on that thread and its locations are applied during the next
+     * cycle.
+     * </li>
+     * <li>
+     * <b>Cycle sprites</b> All automatically cycling sprites of which the interval has elapsed are set to
+     * their next frame.
      * </li>
      * <li><b>Add supplied entities</b> Entities that should be added are so-called supplied. This means that
      * an {@link EntitySupplier} is registered with this {@link EntityCollection}. Each cycle of the Game Loop all
@@ -131,6 +309,10 @@ public class EntityCollection implements Initializable {
      * will be notified.
      * </li>
      * <li>
+     * <b>Update the Camera</b> If a {@link Camera} is set, it follows its target and culls all entities
+     * outside its viewport.
+     * </li>
+     * <li>
      * <b>Update Statics</b> Update the {@link EntityCollectionStatistics}.
      * </li>
      * <li>
@@ -142,17 +324,54 @@ public class EntityCollection implements Initializable {
      */
     public void update(final long timestamp) {
         collectGarbage();
-
-        updatables.forEach(updatable -> updatable.update(timestamp));
+        dispatchInput();
+
+        cycle++;
+        updatables.forEach(updatable -> {
+            var interval = getUpdateInterval(updatable);
+
+            if (interval == 0) {
+                // Excluded entities are frozen, so they should not catch up once they are updated again
+                reducedRateUpdates.remove(updatable);
+            } else if (interval == 1 || (cycle + updateSlots.getOrDefault(updatable, 0L)) % interval == 0) {
+                var previousUpdate = reducedRateUpdates.remove(updatable);
+                if (previousUpdate != null) {
+                    applySkippedMotion(updatable, cycle - previousUpdate - 1);
+                }
+                if (interval > 1) {
+                    reducedRateUpdates.put(updatable, cycle);
+                }
+                updatable.update(timestamp);
+            } else {
+                // The previous update was at the full rate
+                reducedRateUpdates.putIfAbsent(updatable, cycle - 1);
+            }
+        });
+        if (physicsWorld != null) {
+            physicsWorld.step(timestamp);
+        }
+        spriteAnimationTicker.update(timestamp);
         collisionDelegate.checkCollisions();
 
         addSuppliedEntities();
+        if (camera != null) {
+            camera.update(timestamp);
+        }
         updateStatistics();
         notifyStatisticsObservers();
     }
 
     public void initialUpdate() {
+        if (camera != null) {
+            // Let suppliers that depend on the viewport supply the entities within the initial viewport
+            camera.update(0);
+        }
+
         addSuppliedEntities();
+
+        if (camera != null) {
+            camera.update(0);
+        }
     }
 
     /**
@@ -162,8 +381,19 @@ public class EntityCollection implements Initializable {
         clearSuppliers();
         statics.clear();
         updatables.clear();
+        updateSlots.clear();
+        reducedRateUpdates.clear();
         garbage.clear();
         keyListeners.clear();
+        actionListeners.clear();
+        inputQueue.clear();
+        spriteAnimationTicker.clear();
+        if (mouseDispatcher != null) {
+            mouseDispatcher.clear();
+        }
+        if (physicsWorld != null) {
+            physicsWorld.clear();
+        }
     }
 
     private void clearSuppliers() {
@@ -175,6 +405,75 @@ public class EntityCollection implements Initializable {
         statisticsObservers.forEach(statisticsObserver -> statisticsObserver.update(statistics));
     }
 
+    private int getUpdateInterval(final Updatable updatable) {
+        var interval = 1;
+
+        if (updatable instanceof UpdateIntervalProvider) {
+            interval = ((UpdateIntervalProvider) updatable).getUpdateInterval();
+        }
+
+        if (camera != null) {
+            if (camera.isExcludedFromUpdates(updatable)) {
+                return 0;
+            }
+            interval = Math.max(interval, camera.getUpdateInterval(updatable));
+        }
+
+        return Math.max(1, interval);
+    }
+
+    private void applySkippedMotion(final Updatable updatable, final long skippedCycles) {
+        if (!(updatable instanceof Moveable)) {
+            return;
+        }
+
+        var moveable = (Moveable) updatable;
+        if (Double.compare(moveable.getSpeed(), 0d) == 0) {
+            return;
+        }
+
+        for (var i = 0; i < skippedCycles; i++) {
+            moveable.setAnchorLocation(moveable.getMotionApplier().updateLocation(moveable.getAnchorLocation()));
+        }
+    }
+
+    private void dispatchInput() {
+        if (!inputBatching) {
+            return;
+        }
+
+        var snapshot = inputQueue.poll();
+        if (snapshot != null) {
+            dispatchPressedKeys(snapshot);
+        }
+        dispatchActions();
+    }
+
+    private void dispatchPressedKeys(final Set<KeyCode> pressedKeys) {
+        keyListeners.forEach(keyListener -> keyListener.onPressedKeysChange(pressedKeys));
+
+        if (inputMap != null) {
+            inputMap.setPressedKeys(pressedKeys);
+        }
+    }
+
+    private void dispatchActions() {
+        if (inputMap == null) {
+            return;
+        }
+
+        var changed = inputMap.update();
+        for (var index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+            var action = inputMap.getAction(index);
+            var listeners = actionListeners.get(action);
+
+            if (listeners != null) {
+                var state = inputMap.isHeld(action) ? ActionState.PRESSED : ActionState.RELEASED;
+                listeners.forEach(listener -> listener.onAction(action, state));
+            }
+        }
+    }
+
     private void collectGarbage() {
         if (garbage.isEmpty()) {
             return;
@@ -183,12 +482,28 @@ public class EntityCollection implements Initializable {
         garbage.forEach(this::removeGameObject);
         statics.removeAll(garbage);
         updatables.removeAll(garbage);
+        garbage.forEach(updateSlots::remove);
+        garbage.forEach(reducedRateUpdates::remove);
+        actionListeners.values().forEach(listeners -> listeners.removeAll(garbage));
         garbage.clear();
     }
 
+    private void injectMembers(final YaegerEntity entity) {
+        if (entityMembersInjector == null || !entityMembersInjector.injectMembers(entity)) {
+            injector.injectMembers(entity);
+        }
+    }
+
     private void removeGameObject(final Removeable entity) {
         this.pane.getChildren().remove(entity.getNode());
         this.collisionDelegate.remove(entity);
+        this.spriteAnimationTicker.remove(entity);
+        if (mouseDispatcher != null) {
+            mouseDispatcher.remove(entity);
+        }
+        if (physicsWorld != null) {
+            physicsWorld.remove(entity);
+        }
     }
 
     private void addSuppliedEntities() {
@@ -200,9 +515,12 @@ public class EntityCollection implements Initializable {
     private void initialize(final YaegerEntity entity) {
         entity.beforeInitialize();
 
-        entity.applyEntityProcessor(yaegerEntity -> injector.injectMembers(yaegerEntity));
+        entity.applyEntityProcessor(this::injectMembers);
         entity.init(injector);
         entity.applyEntityProcessor(yaegerEntity -> annotationProcessor.invokeActivators(yaegerEntity));
+        if (mouseDispatcher != null) {
+            entity.applyEntityProcessor(mouseDispatcher::register);
+        }
 
         entity.applyEntityProcessor(yaegerEntity -> yaegerEntity.addToEntityCollection(this));
         entity.attachEventListener(EventTypes.REMOVE, event -> markAsGarbage((Removeable) event.getSource()));
@@ -211,7 +529,9 @@ public class EntityCollection implements Initializable {
 
         entity.applyEntityProcessor(this::registerKeylistener);
         entity.applyEntityProcessor(collisionDelegate::register);
+        entity.applyEntityProcessor(spriteAnimationTicker::register);
         entity.addToParent(this::addToParentNode);
+        entity.applyEntityProcessor(this::registerNewtonian);
     }
 
     /**
@@ -224,6 +544,9 @@ public class EntityCollection implements Initializable {
     public void addDynamicEntity(final Updatable dynamicEntity) {
         annotationProcessor.configureUpdateDelegators(dynamicEntity);
         updatables.add(dynamicEntity);
+        updateSlots.put(dynamicEntity, nextUpdateSlot++);
+        // It has not been updated yet, so there are no cycles to catch up on
+        reducedRateUpdates.put(dynamicEntity, cycle);
     }
 
     /**
@@ -239,6 +562,15 @@ public class EntityCollection implements Initializable {
         if (entity instanceof KeyListener) {
             registerKeyListener((KeyListener) entity);
         }
+        if (entity instanceof ActionListener) {
+            registerActionListener((ActionListener) entity);
+        }
+    }
+
+    private void registerNewtonian(final YaegerEntity entity) {
+        if (entity instanceof Newtonian) {
+            getPhysicsWorld().register(entity);
+        }
     }
 
     private void addToParentNode(final YaegerEntity entity) {
@@ -262,4 +594,9 @@ public class EntityCollection implements Initializable {
     public void setAnnotationProcessor(final AnnotationProcessor annotationProcessor) {
         this.annotationProcessor = annotationProcessor;
     }
+
+    @Inject
+    public void setEntityMembersInjector(final EntityMembersInjector entityMembersInjector) {
+        this.entityMembersInjector = entityMembersInjector;
+    }
 }
@@ -0,0 +1,190 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.UpdateDelegator;
+import com.github.hanyaeger.api.engine.Updater;
+import com.github.hanyaeger.api.engine.entities.entity.CompositeEntity;
+import com.github.hanyaeger.api.engine.entities.entity.DynamicCompositeEntity;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+import com.github.hanyaeger.api.engine.entities.entity.shape.ShapeEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.circle.CircleEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.circle.DynamicCircleEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.ellipse.DynamicEllipseEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.ellipse.EllipseEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.DynamicRectangleEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.RectangleEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.text.DynamicTextEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.text.TextEntity;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.DynamicSpriteEntity;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import com.github.hanyaeger.api.guice.factories.MotionApplierFactory;
+import com.github.hanyaeger.api.guice.factories.SpriteAnimationDelegateFactory;
+import com.github.hanyaeger.api.javafx.image.ImageViewFactory;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import javafx.scene.Group;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * An {@link EntityMembersInjector} sets the collaborators Yaeger provides to an {@link YaegerEntity} through plain
+ * setter calls, instead of through the reflection Guice uses on each call to
+ * {@link com.google.inject.Injector#injectMembers(Object)}. It produces the same result as Guice: instances that
+ * Guice creates per injection, such as an {@link Updater}, a {@link Group} or a {@link javafx.scene.shape.Shape},
+ * are created for each {@link YaegerEntity}, while singletons such as the {@link ImageRepository} are shared.
+ * <p>
+ * A class of the Game that declares its own {@link Inject} members can not be handled without reflection, so
+ * instances of such a class are left to Guice. Whether a class declares these members is determined only once
+ * for each class.
+ * <p>
+ * The {@link EntityMembersInjector} is disabled by default and can be enabled through
+ * {@link com.github.hanyaeger.api.engine.YaegerGame#setReflectionFreeInjection(boolean)}.
+ */
+@Singleton
+public class EntityMembersInjector {
+
+    // The classes whose injection points are set by this EntityMembersInjector
+    private static final Set<Class<?>> KNOWN_CLASSES = Set.of(
+            SpriteEntity.class, DynamicSpriteEntity.class,
+            CompositeEntity.class, DynamicCompositeEntity.class,
+            ShapeEntity.class, DynamicTextEntity.class, DynamicRectangleEntity.class,
+            DynamicCircleEntity.class, DynamicEllipseEntity.class);
+    private static final Set<String> INJECT_ANNOTATIONS = Set.of("com.google.inject.Inject", "javax.inject.Inject");
+
+    private static final ClassValue<Boolean> DECLARES_INJECTION_POINTS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return declaresInjectionPoints(type);
+        }
+    };
+
+    private boolean enabled = false;
+    private ImageRepository imageRepository;
+    private ImageViewFactory imageViewFactory;
+    private SpriteAnimationDelegateFactory spriteAnimationDelegateFactory;
+    private MotionApplierFactory motionApplierFactory;
+
+    /**
+     * Set whether this {@link EntityMembersInjector} should be used.
+     *
+     * @param enabled {@code true} if entities should be injected without reflection
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Return whether this {@link EntityMembersInjector} is used.
+     *
+     * @return {@code true} if entities are injected without reflection
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Inject the members of the given {@link YaegerEntity}, if this {@link EntityMembersInjector} is enabled and
+     * the {@link YaegerEntity} can be injected without reflection. The children of a {@link CompositeEntity} are not
+     * injected.
+     *
+     * @param entity the {@link YaegerEntity} to be injected
+     * @return {@code true} if the members have been injected, {@code false} if the {@link YaegerEntity} should be
+     * injected by Guice
+     */
+    public boolean injectMembers(final YaegerEntity entity) {
+        if (!enabled || !canInject(entity)) {
+            return false;
+        }
+
+        if (entity instanceof SpriteEntity) {
+            var spriteEntity = (SpriteEntity) entity;
+            spriteEntity.setSpriteAnimationDelegateFactory(spriteAnimationDelegateFactory);
+            spriteEntity.setImageRepository(imageRepository);
+            spriteEntity.setImageViewFactory(imageViewFactory);
+        } else if (entity instanceof CompositeEntity) {
+            ((CompositeEntity) entity).setGroup(new Group());
+        } else if (entity instanceof TextEntity) {
+            ((TextEntity) entity).setShape(new Text());
+        } else if (entity instanceof RectangleEntity) {
+            ((RectangleEntity) entity).setShape(new Rectangle());
+        } else if (entity instanceof CircleEntity) {
+            ((CircleEntity) entity).setShape(new Circle());
+        } else if (entity instanceof EllipseEntity) {
+            ((EllipseEntity) entity).setShape(new Ellipse());
+        }
+
+        injectDynamicMembers(entity);
+        return true;
+    }
+
+    private void injectDynamicMembers(final YaegerEntity entity) {
+        if (entity instanceof UpdateDelegator && entity instanceof Moveable) {
+            ((UpdateDelegator) entity).setUpdater(new Updater());
+            ((Moveable) entity).injectMotionApplierFactory(motionApplierFactory);
+        }
+    }
+
+    private boolean canInject(final YaegerEntity entity) {
+        // Only the shapes Yaeger provides are known, a ShapeEntity of the Game may use any other Shape
+        var knownShape = !(entity instanceof ShapeEntity)
+                || entity instanceof TextEntity
+                || entity instanceof RectangleEntity
+                || entity instanceof CircleEntity
+                || entity instanceof EllipseEntity;
+
+        return knownShape && !DECLARES_INJECTION_POINTS.get(entity.getClass());
+    }
+
+    private static boolean declaresInjectionPoints(final Class<?> type) {
+        for (var current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (KNOWN_CLASSES.contains(current)) {
+                continue;
+            }
+
+            var members = Stream.of(current.getDeclaredFields(), current.getDeclaredMethods(), current.getDeclaredConstructors())
+                    .flatMap(Arrays::stream);
+            if (members.anyMatch(EntityMembersInjector::isAnnotatedWithInject)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAnnotatedWithInject(final AnnotatedElement element) {
+        for (Annotation annotation : element.getAnnotations()) {
+            if (INJECT_ANNOTATIONS.contains(annotation.annotationType().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Inject
+    public void setImageRepository(final ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+
+    @Inject
+    public void setImageViewFactory(final ImageViewFactory imageViewFactory) {
+        this.imageViewFactory = imageViewFactory;
+    }
+
+    @Inject
+    public void setSpriteAnimationDelegateFactory(final SpriteAnimationDelegateFactory spriteAnimationDelegateFactory) {
+        this.spriteAnimationDelegateFactory = spriteAnimationDelegateFactory;
+    }
+
+    @Inject
+    public void setMotionApplierFactory(final MotionApplierFactory motionApplierFactory) {
+        this.motionApplierFactory = motionApplierFactory;
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import javafx.scene.input.KeyCode;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An {@link InputQueue} collects the changes of the pressed keys between two cycles of the Game Loop, so they
+ * can be dispatched as a single snapshot per cycle.
+ * <p>
+ * A key that is pressed and released again before the next cycle is still part of the next snapshot, and is
+ * only removed in the snapshot after it. If the pressed keys did not change since the previous snapshot, as is
+ * the case with key repeats, no snapshot is created at all.
+ */
+class InputQueue {
+
+    private final Set<KeyCode> pressedKeys = new HashSet<>();
+    private final Set<KeyCode> pressedSinceLastPoll = new HashSet<>();
+    private Set<KeyCode> lastSnapshot = Set.of();
+
+    /**
+     * Offer the keys that are currently pressed.
+     *
+     * @param input a {@link Set} containing all keys currently pressed
+     */
+    void offer(final Set<KeyCode> input) {
+        pressedKeys.clear();
+        pressedKeys.addAll(input);
+        pressedSinceLastPoll.addAll(input);
+    }
+
+    /**
+     * Return the snapshot of the pressed keys since the previous call of this method.
+     *
+     * @return an unmodifiable {@link Set} of the pressed keys, or {@code null} if these did not change since the
+     * previous snapshot
+     */
+    Set<KeyCode> poll() {
+        if (pressedSinceLastPoll.isEmpty() && pressedKeys.equals(lastSnapshot)) {
+            return null;
+        }
+
+        pressedSinceLastPoll.addAll(pressedKeys);
+        var snapshot = Set.copyOf(pressedSinceLastPoll);
+        pressedSinceLastPoll.clear();
+
+        if (snapshot.equals(lastSnapshot)) {
+            return null;
+        }
+
+        lastSnapshot = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Clear this {@link InputQueue}.
+     */
+    void clear() {
+        pressedKeys.clear();
+        pressedSinceLastPoll.clear();
+        lastSnapshot = Set.of();
+    }
+}
@@ -105,6 +105,7 @@ public abstract class DynamicCompositeEntity extends CompositeEntity implements
     }
 
     @Inject
+    @Override
     public void setUpdater(final Updater updater) {
         this.updater = updater;
     }
@@ -0,0 +1,58 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import com.google.inject.Injector;
+import javafx.scene.CacheHint;
+
+/**
+ * A {@link StaticLayer} groups instances of {@link YaegerEntity} that are not expected to change, such as the
+ * background or the menu of a {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}. The {@link StaticLayer}
+ * is cached as a bitmap, so its members are not traversed and rendered again on every frame. The cached bitmap is
+ * only rendered again when one of its members changes.
+ * <p>
+ * Members that change often, such as animated sprites, should not be part of a {@link StaticLayer}, since every
+ * change requires the entire {@link StaticLayer} to be rendered again.
+ */
+public class StaticLayer extends CompositeEntity {
+
+    /**
+     * Create a new {@link StaticLayer}, of which the origin is the top-left corner of the
+     * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+     */
+    public StaticLayer() {
+        super(new Coordinate2D(0, 0));
+    }
+
+    /**
+     * Add a member to this {@link StaticLayer}. Members can only be added before the {@link StaticLayer} is
+     * added to the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+     *
+     * @param yaegerEntity the {@link YaegerEntity} to be added
+     */
+    public void add(final YaegerEntity yaegerEntity) {
+        addEntity(yaegerEntity);
+    }
+
+    /**
+     * Return the number of members of this {@link StaticLayer}.
+     *
+     * @return the number of members as an {@code int}
+     */
+    public int size() {
+        return entities.size();
+    }
+
+    @Override
+    protected void setupEntities() {
+        // All members are added through add(YaegerEntity)
+    }
+
+    @Override
+    public void init(final Injector injector) {
+        super.init(injector);
+
+        group.ifPresent(group -> {
+            group.setCache(true);
+            group.setCacheHint(CacheHint.QUALITY);
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.Bounds;
+
+import java.util.Optional;
+
+/**
+ * A {@link ColliderGrid} contains many instances of {@link Collider} that are laid out in a grid, such as the
+ * solid tiles of a {@link com.github.hanyaeger.api.engine.entities.tilemap.TileMap}. Instead of checking a
+ * {@link Collided} against all instances of {@link Collider}, only the cells of the grid that overlap
+ * with the {@link Collided} are checked.
+ */
+public interface ColliderGrid {
+
+    /**
+     * Return the first {@link Collider} that intersects with the given {@link Bounds}.
+     *
+     * @param bounds the {@link Bounds} within the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}
+     * @return an {@link Optional} containing the {@link Collider}, or an empty {@link Optional} if no
+     * {@link Collider} intersects with the {@link Bounds}
+     */
+    Optional<Collider> findCollider(final Bounds bounds);
+}
@@ -2,6 +2,7 @@ package com.github.hanyaeger.api.engine.entities.entity.collisions;
 
 import com.github.hanyaeger.api.engine.entities.entity.Removeable;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.scene.Node;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +14,8 @@ public class CollisionDelegate {
 
     private final List<Collided> collideds;
     private final List<Collider> colliders;
+    private final List<ColliderGrid> colliderGrids;
+    private Node coordinateSpace;
 
     /**
      * Create a new CollisionDelegate.
@@ -20,6 +23,7 @@ public class CollisionDelegate {
     public CollisionDelegate() {
         collideds = new ArrayList<>();
         colliders = new ArrayList<>();
+        colliderGrids = new ArrayList<>();
     }
 
     /**
@@ -55,6 +59,27 @@ public class CollisionDelegate {
         collideds.add(collided);
     }
 
+    /**
+     * Register a {@link ColliderGrid} to be evaluated for collision detection.
+     *
+     * @param colliderGrid the {@link ColliderGrid} that should be registered
+     */
+    public void register(final ColliderGrid colliderGrid) {
+        colliderGrids.add(colliderGrid);
+    }
+
+    /**
+     * Set the {@link Node} in whose coordinate space the instances of {@link ColliderGrid} are defined. By default,
+     * this is the coordinate space of the {@link javafx.scene.Scene}. When the entities are placed on a layer that
+     * is translated, such as the world layer of a {@link com.github.hanyaeger.api.engine.scenes.Camera}, that layer
+     * should be set.
+     *
+     * @param coordinateSpace the {@link Node} that contains the entities
+     */
+    public void setCoordinateSpace(final Node coordinateSpace) {
+        this.coordinateSpace = coordinateSpace;
+    }
+
     /**
      * Remove the {@link Removeable} from the list of Objects that are taken into account
      *
@@ -70,10 +95,37 @@ public class CollisionDelegate {
     }
 
     /**
-     * Check for collisions. Each {@link Collided} is asked to check for collisions.
+     * Check for collisions. Each {@link Collided} is first checked against the registered instances of
+     * {@link ColliderGrid}, which only requires looking up the cells it overlaps. If no collision is found, the
+     * {@link Collided} is asked to check for collisions with all instances of {@link Collider}.
      */
     public void checkCollisions() {
-        collideds.forEach(collided -> collided.checkForCollisions(colliders));
+        collideds.forEach(collided -> {
+            if (!checkColliderGrids(collided)) {
+                collided.checkForCollisions(colliders);
+            }
+        });
+    }
+
+    private boolean checkColliderGrids(final Collided collided) {
+        if (colliderGrids.isEmpty()) {
+            return false;
+        }
+
+        var bounds = collided.getBoundsInScene();
+        if (coordinateSpace != null) {
+            bounds = coordinateSpace.sceneToLocal(bounds);
+        }
+
+        for (var colliderGrid : colliderGrids) {
+            var collider = colliderGrid.findCollider(bounds);
+            if (collider.isPresent()) {
+                collided.onCollision(collider.get());
+                collided.undoUpdate();
+                return true;
+            }
+        }
+        return false;
     }
 
     private void removeCollider(final Collider Collider) {
@@ -0,0 +1,31 @@
+package com.github.hanyaeger.api.engine.entities.entity.events.userinput;
+
+import java.util.Set;
+
+/**
+ * An {@link ActionListener} is notified when one of the actions it is interested in is pressed or released. The
+ * actions are bound to keys and buttons through the {@link InputMap} of the
+ * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}, which should implement
+ * {@link com.github.hanyaeger.api.engine.scenes.InputMapContainer}. This interface can be implemented by either an
+ * {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity} or an
+ * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+ */
+public interface ActionListener {
+
+    /**
+     * Return the names of the actions this {@link ActionListener} should be notified of. This method is called
+     * only once, when the {@link ActionListener} is registered.
+     *
+     * @return a {@link Set} of the names of the actions
+     */
+    Set<String> getActions();
+
+    /**
+     * Called when one of the actions returned by {@link #getActions()} is pressed or released.
+     *
+     * @param action the name of the action
+     * @param state  the {@link ActionState} of the action, being either {@link ActionState#PRESSED} or
+     *               {@link ActionState#RELEASED}
+     */
+    void onAction(final String action, final ActionState state);
+}
@@ -0,0 +1,15 @@
+package com.github.hanyaeger.api.engine.entities.entity.events.userinput;
+
+/**
+ * The change of state of an action of an {@link InputMap}, of which an {@link ActionListener} is notified.
+ */
+public enum ActionState {
+    /**
+     * The action was pressed during the current cycle of the Game Loop.
+     */
+    PRESSED,
+    /**
+     * The action was released during the current cycle of the Game Loop.
+     */
+    RELEASED
+}
@@ -0,0 +1,196 @@
+package com.github.hanyaeger.api.engine.entities.entity.events.userinput;
+
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link InputMap} maps instances of {@link KeyCode} and {@link MouseButton} to named actions, such as
+ * {@code "jump"} or {@code "fire"}. An action is held as long as any of the keys or buttons bound to it is held.
+ * <p>
+ * The state of all actions is stored in instances of {@link BitSet}, with one bit per action. Each cycle of the
+ * Game Loop, the {@link InputMap} is updated, after which an action is either pressed during this cycle, held,
+ * or released during this cycle. A key or button that is pressed and released again before the next update is
+ * still reported as pressed during that update.
+ */
+public class InputMap {
+
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final List<String> actions = new ArrayList<>();
+    private final Map<KeyCode, BitSet> keyBindings = new EnumMap<>(KeyCode.class);
+    private final Map<MouseButton, BitSet> mouseButtonBindings = new EnumMap<>(MouseButton.class);
+
+    private final Set<KeyCode> pressedKeys = EnumSet.noneOf(KeyCode.class);
+    private final Set<MouseButton> pressedMouseButtons = EnumSet.noneOf(MouseButton.class);
+    private final Set<MouseButton> mouseButtonsPressedSinceUpdate = EnumSet.noneOf(MouseButton.class);
+
+    private BitSet held = new BitSet();
+    private BitSet previous = new BitSet();
+    private final BitSet changed = new BitSet();
+
+    /**
+     * Bind the given instances of {@link KeyCode} to an action. A {@link KeyCode} can be bound to multiple actions.
+     *
+     * @param action   the name of the action
+     * @param keyCodes the instances of {@link KeyCode} that should trigger the action
+     */
+    public void bind(final String action, final KeyCode... keyCodes) {
+        var index = indexOf(action);
+        for (var keyCode : keyCodes) {
+            keyBindings.computeIfAbsent(keyCode, key -> new BitSet()).set(index);
+        }
+    }
+
+    /**
+     * Bind the given instances of {@link MouseButton} to an action. A {@link MouseButton} can be bound to multiple
+     * actions.
+     *
+     * @param action       the name of the action
+     * @param mouseButtons the instances of {@link MouseButton} that should trigger the action
+     */
+    public void bind(final String action, final MouseButton... mouseButtons) {
+        var index = indexOf(action);
+        for (var mouseButton : mouseButtons) {
+            mouseButtonBindings.computeIfAbsent(mouseButton, button -> new BitSet()).set(index);
+        }
+    }
+
+    /**
+     * Return whether the given action was pressed during the current cycle of the Game Loop.
+     *
+     * @param action the name of the action
+     * @return {@code true} if the action was not held during the previous cycle, but is held now
+     */
+    public boolean isPressed(final String action) {
+        var index = indices.get(action);
+        return index != null && held.get(index) && !previous.get(index);
+    }
+
+    /**
+     * Return whether the given action is currently held.
+     *
+     * @param action the name of the action
+     * @return {@code true} if any of the keys or buttons bound to the action is held
+     */
+    public boolean isHeld(final String action) {
+        var index = indices.get(action);
+        return index != null && held.get(index);
+    }
+
+    /**
+     * Return whether the given action was released during the current cycle of the Game Loop.
+     *
+     * @param action the name of the action
+     * @return {@code true} if the action was held during the previous cycle, but is no longer held
+     */
+    public boolean isReleased(final String action) {
+        var index = indices.get(action);
+        return index != null && !held.get(index) && previous.get(index);
+    }
+
+    /**
+     * Set the keys that are currently pressed.
+     *
+     * @param keyCodes a {@link Set} containing all keys currently pressed
+     */
+    public void setPressedKeys(final Set<KeyCode> keyCodes) {
+        pressedKeys.clear();
+        pressedKeys.addAll(keyCodes);
+    }
+
+    /**
+     * Register that the given {@link MouseButton} has been pressed.
+     *
+     * @param mouseButton the {@link MouseButton} that has been pressed
+     */
+    public void pressMouseButton(final MouseButton mouseButton) {
+        pressedMouseButtons.add(mouseButton);
+        mouseButtonsPressedSinceUpdate.add(mouseButton);
+    }
+
+    /**
+     * Register that the given {@link MouseButton} has been released.
+     *
+     * @param mouseButton the {@link MouseButton} that has been released
+     */
+    public void releaseMouseButton(final MouseButton mouseButton) {
+        pressedMouseButtons.remove(mouseButton);
+    }
+
+    /**
+     * Update the state of all actions, based on the keys and buttons that are currently pressed.
+     *
+     * @return a {@link BitSet} of the indices of all actions that were either pressed or released during this
+     * update. The {@link BitSet} is reused by the next update
+     */
+    public BitSet update() {
+        var swap = previous;
+        previous = held;
+        held = swap;
+        held.clear();
+
+        pressedKeys.forEach(keyCode -> orBinding(keyBindings, keyCode));
+        pressedMouseButtons.forEach(mouseButton -> orBinding(mouseButtonBindings, mouseButton));
+        mouseButtonsPressedSinceUpdate.forEach(mouseButton -> orBinding(mouseButtonBindings, mouseButton));
+        mouseButtonsPressedSinceUpdate.clear();
+
+        changed.clear();
+        changed.or(held);
+        changed.xor(previous);
+        return changed;
+    }
+
+    /**
+     * Return the name of the action with the given index.
+     *
+     * @param index the index of the action, as used by the {@link BitSet} returned by {@link #update()}
+     * @return the name of the action
+     */
+    public String getAction(final int index) {
+        return actions.get(index);
+    }
+
+    /**
+     * Release all keys and buttons that are currently pressed. Unlike {@link #clear()}, the actions that are held
+     * are only released during the next {@link #update()}, which then reports them as changed.
+     */
+    public void releaseAll() {
+        pressedKeys.clear();
+        pressedMouseButtons.clear();
+        mouseButtonsPressedSinceUpdate.clear();
+    }
+
+    /**
+     * Release all keys and buttons, for instance when the {@link InputMap} no longer receives input.
+     */
+    public void clear() {
+        pressedKeys.clear();
+        pressedMouseButtons.clear();
+        mouseButtonsPressedSinceUpdate.clear();
+        held.clear();
+        previous.clear();
+        changed.clear();
+    }
+
+    private <T> void orBinding(final Map<T, BitSet> bindings, final T input) {
+        var binding = bindings.get(input);
+        if (binding != null) {
+            held.or(binding);
+        }
+    }
+
+    private int indexOf(final String action) {
+        return indices.computeIfAbsent(action, name -> {
+            actions.add(name);
+            return actions.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,358 @@
+package com.github.hanyaeger.api.engine.entities.entity.events.userinput;
+
+import com.github.hanyaeger.api.engine.entities.entity.Removeable;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link MouseDispatcher} dispatches the mouse events of a {@link Scene} to all instances of
+ * {@link MouseButtonPressedListener}, {@link MouseButtonReleasedListener}, {@link MouseEnterListener} and
+ * {@link MouseExitListener}, through only one set of handlers on the {@link Scene}. The per-node handlers of the
+ * registered entities are removed and their nodes are made mouse transparent, so JavaFX no longer has to pick them.
+ * <p>
+ * The entity under the mouse pointer is looked up in a uniform grid of the bounds of all registered entities. The
+ * grid is only rebuilt after an entity has been registered or removed, or after the bounds of a registered entity
+ * in the {@link Scene} have changed. If entities overlap, the entity that is shown on top receives the event,
+ * followed by the entities that contain it, such as a
+ * {@link com.github.hanyaeger.api.engine.entities.entity.CompositeEntity}. Which entity is shown on top follows the
+ * view order and the order of the children in the scene graph. Entities that do not listen to the mouse do not
+ * block the mouse.
+ */
+public class MouseDispatcher {
+
+    /**
+     * The default width and height of a cell of the grid, in pixels.
+     */
+    public static final double DEFAULT_CELL_SIZE = 128;
+
+    private final List<YaegerEntity> entities = new ArrayList<>();
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Set<YaegerEntity> hovered = new LinkedHashSet<>();
+    private final double cellSize;
+    private final InvalidationListener invalidator = observable -> invalid = true;
+    private boolean invalid = true;
+
+    /**
+     * Create a new {@link MouseDispatcher} with a grid of the default cell size.
+     */
+    public MouseDispatcher() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Create a new {@link MouseDispatcher}.
+     *
+     * @param cellSize the width and height of a cell of the grid, in pixels
+     */
+    public MouseDispatcher(final double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Attach the handlers of this {@link MouseDispatcher} to the given {@link Scene}.
+     *
+     * @param scene the {@link Scene} of which the mouse events should be dispatched
+     */
+    public void attach(final Scene scene) {
+        scene.addEventFilter(MouseEvent.MOUSE_PRESSED, event -> pressed(event.getButton(), event.getSceneX(), event.getSceneY()));
+        scene.addEventFilter(MouseEvent.MOUSE_RELEASED, event -> released(event.getButton(), event.getSceneX(), event.getSceneY()));
+        scene.addEventFilter(MouseEvent.MOUSE_MOVED, event -> moved(event.getSceneX(), event.getSceneY()));
+        scene.addEventFilter(MouseEvent.MOUSE_DRAGGED, event -> moved(event.getSceneX(), event.getSceneY()));
+        scene.addEventFilter(MouseEvent.MOUSE_EXITED, event -> {
+            if (event.getTarget() == scene) {
+                exited();
+            }
+        });
+    }
+
+    /**
+     * Register a {@link YaegerEntity}. The {@link YaegerEntity} will only be registered if it listens to the mouse.
+     *
+     * @param entity the {@link YaegerEntity} that should be registered
+     */
+    public void register(final YaegerEntity entity) {
+        if (!isMouseListener(entity)) {
+            return;
+        }
+
+        entity.getNode().ifPresent(node -> {
+            if (entity instanceof MouseButtonPressedListener) {
+                node.setOnMousePressed(null);
+            }
+            if (entity instanceof MouseButtonReleasedListener) {
+                node.setOnMouseReleased(null);
+            }
+            if (entity instanceof MouseEnterListener) {
+                node.setOnMouseEntered(null);
+            }
+            if (entity instanceof MouseExitListener) {
+                node.setOnMouseExited(null);
+            }
+            node.setMouseTransparent(true);
+
+            // The listeners fire again only after the grid has read their values during a rebuild
+            node.localToSceneTransformProperty().addListener(invalidator);
+            node.boundsInLocalProperty().addListener(invalidator);
+            node.sceneProperty().addListener(invalidator);
+        });
+
+        entities.add(entity);
+        invalid = true;
+    }
+
+    /**
+     * Remove the {@link Removeable} from this {@link MouseDispatcher}.
+     *
+     * @param removeable the {@link Removeable} that should be removed
+     */
+    public void remove(final Removeable removeable) {
+        if (entities.remove(removeable)) {
+            removeListeners((YaegerEntity) removeable);
+            hovered.remove(removeable);
+            invalid = true;
+        }
+    }
+
+    /**
+     * Remove all registered entities.
+     */
+    public void clear() {
+        entities.forEach(this::removeListeners);
+        entities.clear();
+        cells.clear();
+        hovered.clear();
+        invalid = true;
+    }
+
+    void pressed(final MouseButton button, final double x, final double y) {
+        for (var entity : pick(x, y)) {
+            if (entity instanceof MouseButtonPressedListener) {
+                var local = toLocal(entity, x, y);
+                ((MouseButtonPressedListener) entity).onMouseButtonPressed(button, local[0], local[1]);
+            }
+        }
+    }
+
+    void released(final MouseButton button, final double x, final double y) {
+        for (var entity : pick(x, y)) {
+            if (entity instanceof MouseButtonReleasedListener) {
+                var local = toLocal(entity, x, y);
+                ((MouseButtonReleasedListener) entity).onMouseButtonReleased(button, local[0], local[1]);
+            }
+        }
+    }
+
+    void moved(final double x, final double y) {
+        updateHovered(pick(x, y));
+    }
+
+    void exited() {
+        updateHovered(List.of());
+    }
+
+    private void updateHovered(final List<YaegerEntity> picked) {
+        if (hovered.isEmpty() && picked.isEmpty()) {
+            return;
+        }
+
+        for (var entity : new ArrayList<>(hovered)) {
+            if (!picked.contains(entity)) {
+                hovered.remove(entity);
+                if (entity instanceof MouseExitListener) {
+                    ((MouseExitListener) entity).onMouseExited();
+                }
+            }
+        }
+
+        for (var entity : picked) {
+            if (hovered.add(entity) && entity instanceof MouseEnterListener) {
+                ((MouseEnterListener) entity).onMouseEntered();
+            }
+        }
+    }
+
+    /**
+     * Return the entity shown on top at the given location, followed by all entities that contain it.
+     *
+     * @param x the x-coordinate in the coordinate space of the {@link Scene}
+     * @param y the y-coordinate in the coordinate space of the {@link Scene}
+     * @return a {@link List} of instances of {@link YaegerEntity}, which is empty if no entity was found
+     */
+    List<YaegerEntity> pick(final double x, final double y) {
+        if (invalid) {
+            rebuild();
+        }
+
+        var cell = cells.get(key(cellOf(x), cellOf(y)));
+        if (cell == null) {
+            return List.of();
+        }
+
+        Entry top = null;
+        for (var entry : cell) {
+            if (entry.contains(x, y) && (top == null || entry.isAbove(top))) {
+                top = entry;
+            }
+        }
+
+        if (top == null) {
+            return List.of();
+        }
+
+        var picked = new ArrayList<YaegerEntity>();
+        picked.add(top.entity);
+        for (var entry : cell) {
+            if (entry != top && isAncestor(entry.node, top.node) && entry.contains(x, y)) {
+                picked.add(entry.entity);
+            }
+        }
+        return picked;
+    }
+
+    private void rebuild() {
+        cells.clear();
+
+        for (var order = 0; order < entities.size(); order++) {
+            var entity = entities.get(order);
+            var node = entity.getNode().orElse(null);
+
+            if (node == null || node.getScene() == null) {
+                continue;
+            }
+
+            var bounds = node.getLocalToSceneTransform().transform(node.getBoundsInLocal());
+            var entry = new Entry(entity, node, bounds, order);
+
+            for (var cellX = cellOf(bounds.getMinX()); cellX <= cellOf(bounds.getMaxX()); cellX++) {
+                for (var cellY = cellOf(bounds.getMinY()); cellY <= cellOf(bounds.getMaxY()); cellY++) {
+                    cells.computeIfAbsent(key(cellX, cellY), key -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+
+        invalid = false;
+    }
+
+    private void removeListeners(final YaegerEntity entity) {
+        entity.getNode().ifPresent(node -> {
+            node.localToSceneTransformProperty().removeListener(invalidator);
+            node.boundsInLocalProperty().removeListener(invalidator);
+            node.sceneProperty().removeListener(invalidator);
+        });
+    }
+
+    private int cellOf(final double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(final int cellX, final int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private static double[] toLocal(final YaegerEntity entity, final double x, final double y) {
+        var node = entity.getNode().orElseThrow();
+        var local = node.sceneToLocal(x, y);
+        return new double[]{local.getX(), local.getY()};
+    }
+
+    private static boolean isAncestor(final Node ancestor, final Node node) {
+        for (var parent = node.getParent(); parent != null; parent = parent.getParent()) {
+            if (parent == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Node> pathFromRoot(final Node node) {
+        var path = new ArrayList<Node>();
+        for (Node current = node; current != null; current = current.getParent()) {
+            path.add(current);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static boolean isTreeVisible(final Node node) {
+        for (Node current = node; current != null; current = current.getParent()) {
+            if (!current.isVisible()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMouseListener(final YaegerEntity entity) {
+        return entity instanceof MouseButtonPressedListener
+                || entity instanceof MouseButtonReleasedListener
+                || entity instanceof MouseEnterListener
+                || entity instanceof MouseExitListener;
+    }
+
+    private static class Entry {
+        private final YaegerEntity entity;
+        private final Node node;
+        private final Bounds bounds;
+        private final int order;
+
+        private Entry(final YaegerEntity entity, final Node node, final Bounds bounds, final int order) {
+            this.entity = entity;
+            this.node = node;
+            this.bounds = bounds;
+            this.order = order;
+        }
+
+        private boolean contains(final double x, final double y) {
+            // Visibility is checked here, because hiding a parent does not change the bounds of its children
+            if (!bounds.contains(x, y) || !isTreeVisible(node)) {
+                return false;
+            }
+            var local = node.sceneToLocal(x, y);
+            return local != null && node.contains(local);
+        }
+
+        private boolean isAbove(final Entry other) {
+            if (isAncestor(node, other.node)) {
+                return false;
+            }
+            if (isAncestor(other.node, node)) {
+                return true;
+            }
+
+            // Compare the two children of the closest common parent that contain these nodes
+            var path = pathFromRoot(node);
+            var otherPath = pathFromRoot(other.node);
+            var depth = 0;
+            while (depth < path.size() && depth < otherPath.size() && path.get(depth) == otherPath.get(depth)) {
+                depth++;
+            }
+
+            if (depth == 0) {
+                return order > other.order;
+            }
+
+            var branch = path.get(depth);
+            var otherBranch = otherPath.get(depth);
+            if (branch.getViewOrder() != otherBranch.getViewOrder()) {
+                return branch.getViewOrder() < otherBranch.getViewOrder();
+            }
+
+            var children = ((Parent) path.get(depth - 1)).getChildrenUnmodifiable();
+            return children.indexOf(branch) > children.indexOf(otherBranch);
+        }
+    }
+}
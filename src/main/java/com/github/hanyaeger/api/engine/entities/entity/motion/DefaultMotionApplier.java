@@ -116,6 +116,18 @@ public class DefaultMotionApplier implements MotionApplier {
         return motion;
     }
 
+    /**
+     * Set the motion that is applied on each update, as computed elsewhere.
+     *
+     * @param motion the motion as a {@link Coordinate2D}
+     */
+    void set(final Coordinate2D motion) {
+        this.motion = motion;
+        if (Double.compare(0, motion.magnitude()) != 0) {
+            direction = Optional.empty();
+        }
+    }
+
     @Override
     public Coordinate2D updateLocation(final Point2D currentLocation) {
         previousLocation = Optional.of(new Coordinate2D(currentLocation.getX(), currentLocation.getY()));
@@ -4,6 +4,10 @@ import com.google.inject.Injector;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import com.github.hanyaeger.api.engine.Initializable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * An {@link EntityMotionInitBuffer} is used to support the option to set the speed and
  * direction of an {@link YaegerEntity} from the {@code constructor}.
@@ -25,6 +29,7 @@ public class EntityMotionInitBuffer implements Initializable {
     private double speed;
     private double direction;
     private MotionApplier motionApplier;
+    private final List<Consumer<MotionApplier>> modifications = new ArrayList<>();
 
     /**
      * Set the speed to the desired value.
@@ -56,9 +61,20 @@ public class EntityMotionInitBuffer implements Initializable {
         this.direction = newDirection;
     }
 
+    /**
+     * Add a modification of the {@link MotionApplier}, which is applied after the speed and direction have been set.
+     *
+     * @param modification a {@link Consumer} of the {@link MotionApplier}
+     */
+    public void addModification(final Consumer<MotionApplier> modification) {
+        modifications.add(modification);
+    }
+
     @Override
     public void init(Injector injector) {
         motionApplier.setMotion(speed, direction);
+        modifications.forEach(modification -> modification.accept(motionApplier));
+        modifications.clear();
     }
 
     public void setMotionApplier(final MotionApplier motionApplier) {
@@ -1,9 +1,12 @@
 package com.github.hanyaeger.api.engine.entities.entity.motion;
 
+import java.util.function.Consumer;
+
 /**
- * A {@link Newtonian} is a special case of a {@link Moveable} that abides the basic laws of gravity
- * and friction. It should be used for DynamicEntities that should also display some physics behaviour.
- * This physics is rather elemental and should not be compared for fully fledged physics.
+ * A {@link Newtonian} is a special case of a {@link Moveable} that abides the laws of physics. Its motion is
+ * simulated by the {@link PhysicsWorld} of the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}, which
+ * takes gravity, mass, friction and restitution into account, and resolves collisions with other instances of
+ * {@link Newtonian}.
  */
 public interface Newtonian extends Moveable {
 
@@ -17,4 +20,62 @@ public interface Newtonian extends Moveable {
     default MotionApplierType getMotionModifierType() {
         return MotionApplierType.NEWTONIAN;
     }
+
+    /**
+     * Set the mass of this {@link Newtonian}. By default the mass is derived from its size.
+     *
+     * @param mass the mass in kilograms
+     */
+    default void setMass(final double mass) {
+        modifyNewtonianMotionApplier(motionApplier -> motionApplier.setMass(mass));
+    }
+
+    /**
+     * Set the friction of this {@link Newtonian}.
+     *
+     * @param friction the friction, between 0 and 1
+     */
+    default void setFriction(final double friction) {
+        modifyNewtonianMotionApplier(motionApplier -> motionApplier.setFriction(friction));
+    }
+
+    /**
+     * Set the restitution of this {@link Newtonian}, which determines how much it bounces.
+     *
+     * @param restitution the restitution, where 0 means no bounce and 1 means a perfectly elastic bounce
+     */
+    default void setRestitution(final double restitution) {
+        modifyNewtonianMotionApplier(motionApplier -> motionApplier.setRestitution(restitution));
+    }
+
+    /**
+     * Set whether this {@link Newtonian} is immovable, such as the ground or a wall. An immovable {@link Newtonian}
+     * is not affected by gravity or other instances of {@link Newtonian}.
+     *
+     * @param immovable {@code true} if this {@link Newtonian} should be immovable
+     */
+    default void setImmovable(final boolean immovable) {
+        modifyNewtonianMotionApplier(motionApplier -> motionApplier.setImmovable(immovable));
+    }
+
+    /**
+     * Set whether this {@link Newtonian} can not rotate.
+     *
+     * @param fixedRotation {@code true} if this {@link Newtonian} should not rotate
+     */
+    default void setFixedRotation(final boolean fixedRotation) {
+        modifyNewtonianMotionApplier(motionApplier -> motionApplier.setFixedRotation(fixedRotation));
+    }
+
+    private void modifyNewtonianMotionApplier(final Consumer<NewtonianMotionApplier> modification) {
+        // Before initialization, the MotionApplier is not yet available
+        if (this instanceof BufferedMoveable) {
+            var buffer = ((BufferedMoveable) this).getBuffer();
+            if (buffer.isPresent()) {
+                buffer.get().addModification(motionApplier -> modification.accept((NewtonianMotionApplier) motionApplier));
+                return;
+            }
+        }
+        modification.accept((NewtonianMotionApplier) getMotionApplier());
+    }
 }
@@ -1,9 +1,148 @@
 package com.github.hanyaeger.api.engine.entities.entity.motion;
 
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import javafx.geometry.Point2D;
+
 /**
- * A {@link NewtonianMotionApplier} is an implementation of {@link MotionApplier} that does not abide
- * the laws of Physics and only provides basis behaviour regarding speed and direction.
+ * A {@link NewtonianMotionApplier} is an implementation of {@link MotionApplier} that abides the laws of physics. The
+ * motion is not applied by the {@link NewtonianMotionApplier} itself, but by the {@link PhysicsWorld} of the
+ * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}, which steps all {@link Newtonian} entities at once
+ * and takes their mass, gravity, friction and restitution into account.
+ * <p>
+ * The speed and direction can still be set. These then become the velocity of the body during the next step of
+ * the {@link PhysicsWorld}, after which they reflect the velocity computed by the {@link PhysicsWorld}.
  */
 public class NewtonianMotionApplier extends DefaultMotionApplier {
 
+    /**
+     * The default friction, between 0 and 1.
+     */
+    public static final double DEFAULT_FRICTION = 0.2;
+
+    /**
+     * The default restitution, where 0 means no bounce and 1 means a perfectly elastic bounce.
+     */
+    public static final double DEFAULT_RESTITUTION = 0;
+
+    private double mass = 0;
+    private double friction = DEFAULT_FRICTION;
+    private double restitution = DEFAULT_RESTITUTION;
+    private boolean immovable = false;
+    private boolean fixedRotation = false;
+    private boolean propertiesChanged = false;
+
+    @Override
+    public Coordinate2D updateLocation(final Point2D currentLocation) {
+        // Only records the previous location, the PhysicsWorld moves the entity
+        super.updateLocation(currentLocation);
+        return new Coordinate2D(currentLocation.getX(), currentLocation.getY());
+    }
+
+    /**
+     * Set the mass of the body. By default the mass is derived from the size of the entity.
+     *
+     * @param mass the mass in kilograms, or {@code 0} to derive it from the size of the entity
+     */
+    public void setMass(final double mass) {
+        this.mass = mass;
+        propertiesChanged = true;
+    }
+
+    /**
+     * Return the mass of the body, as set through {@link #setMass(double)}.
+     *
+     * @return the mass in kilograms, or {@code 0} if it is derived from the size of the entity
+     */
+    public double getMass() {
+        return mass;
+    }
+
+    /**
+     * Set the friction of the body.
+     *
+     * @param friction the friction, between 0 and 1
+     */
+    public void setFriction(final double friction) {
+        this.friction = friction;
+        propertiesChanged = true;
+    }
+
+    /**
+     * Return the friction of the body.
+     *
+     * @return the friction, between 0 and 1
+     */
+    public double getFriction() {
+        return friction;
+    }
+
+    /**
+     * Set the restitution of the body.
+     *
+     * @param restitution the restitution, where 0 means no bounce and 1 means a perfectly elastic bounce
+     */
+    public void setRestitution(final double restitution) {
+        this.restitution = restitution;
+        propertiesChanged = true;
+    }
+
+    /**
+     * Return the restitution of the body.
+     *
+     * @return the restitution, where 0 means no bounce and 1 means a perfectly elastic bounce
+     */
+    public double getRestitution() {
+        return restitution;
+    }
+
+    /**
+     * Set whether the body is immovable. An immovable body is not affected by gravity or other bodies, which makes
+     * it suitable for the ground or walls.
+     *
+     * @param immovable {@code true} if the body should be immovable
+     */
+    public void setImmovable(final boolean immovable) {
+        this.immovable = immovable;
+        propertiesChanged = true;
+    }
+
+    /**
+     * Return whether the body is immovable.
+     *
+     * @return {@code true} if the body is immovable
+     */
+    public boolean isImmovable() {
+        return immovable;
+    }
+
+    /**
+     * Set whether the body can not rotate.
+     *
+     * @param fixedRotation {@code true} if the body should not rotate
+     */
+    public void setFixedRotation(final boolean fixedRotation) {
+        this.fixedRotation = fixedRotation;
+        propertiesChanged = true;
+    }
+
+    /**
+     * Return whether the body can not rotate.
+     *
+     * @return {@code true} if the body does not rotate
+     */
+    public boolean isFixedRotation() {
+        return fixedRotation;
+    }
+
+    /**
+     * Return whether the mass, friction, restitution or type of the body changed since the previous call of this
+     * method.
+     *
+     * @return {@code true} if the properties of the body should be applied again
+     */
+    boolean pollPropertiesChanged() {
+        var changed = propertiesChanged;
+        propertiesChanged = false;
+        return changed;
+    }
 }
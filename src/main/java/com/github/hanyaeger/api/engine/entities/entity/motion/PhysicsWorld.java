@@ -0,0 +1,394 @@
+package com.github.hanyaeger.api.engine.entities.entity.motion;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.Removeable;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import javafx.scene.shape.Circle;
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.dynamics.World;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Vector2;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link PhysicsWorld} simulates the physics of all {@link Newtonian} entities of a
+ * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}, using <a href="https://www.dyn4j.org">dyn4j</a>. All
+ * bodies are stepped together, once per cycle of the Game Loop, after all entities have been updated. The broadphase
+ * only pairs bodies of which the bounding boxes overlap, and the solver resolves all contacts of a step at once, which
+ * keeps stacks of bodies stable.
+ * <p>
+ * The physics is computed in meters and seconds. Entities use pixels, of which {@link #PIXELS_PER_METER} make up a
+ * meter, and their speed is expressed in pixels per cycle of the Game Loop, which runs {@link #UPDATES_PER_SECOND}
+ * times per second.
+ * <p>
+ * By default the bodies are stepped on the JavaFX Application Thread. If the simulation thread is enabled, through
+ * {@link #setSimulationThreadEnabled(boolean)}, each step runs on a dedicated thread instead, while the JavaFX
+ * Application Thread renders the current frame. The result of a step is an immutable snapshot of the location,
+ * rotation and velocity of all bodies, which is applied to the entities at the start of the next step. Entities
+ * then trail the simulation by one cycle of the Game Loop. A location or motion that was set on an entity while its
+ * body was being stepped takes precedence over the snapshot.
+ */
+public class PhysicsWorld {
+
+    /**
+     * The number of pixels that make up one meter.
+     */
+    public static final double PIXELS_PER_METER = 32;
+
+    /**
+     * The number of cycles of the Game Loop per second, used to convert a speed to a velocity.
+     */
+    public static final double UPDATES_PER_SECOND = 60;
+
+    /**
+     * The default gravity, in meters per second squared, pointing down.
+     */
+    public static final double DEFAULT_GRAVITY = 9.81;
+
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000d;
+    private static final double MAX_ELAPSED_TIME = 0.25;
+    private static final String THREAD_NAME = "yaeger-simulation";
+
+    private final World world = new World();
+    private final Map<Newtonian, Member> members = new IdentityHashMap<>();
+    private long previousTimestamp = -1;
+    private boolean simulationThreadEnabled = false;
+    private ExecutorService executorService;
+    private Future<List<BodySnapshot>> pendingStep;
+
+    /**
+     * Create a new {@link PhysicsWorld} with the default gravity.
+     */
+    public PhysicsWorld() {
+        setGravity(DEFAULT_GRAVITY);
+    }
+
+    /**
+     * Set the gravity.
+     *
+     * @param gravity the gravity in meters per second squared, pointing down. Use a negative value to point up
+     */
+    public void setGravity(final double gravity) {
+        awaitStep();
+        world.setGravity(new Vector2(0, gravity));
+    }
+
+    /**
+     * Set whether the bodies should be stepped on a dedicated simulation thread, instead of on the JavaFX
+     * Application Thread.
+     *
+     * @param simulationThreadEnabled {@code true} if the bodies should be stepped on the simulation thread
+     */
+    public void setSimulationThreadEnabled(final boolean simulationThreadEnabled) {
+        if (!simulationThreadEnabled) {
+            applySnapshots(awaitStep());
+        }
+        this.simulationThreadEnabled = simulationThreadEnabled;
+    }
+
+    /**
+     * Return whether the bodies are stepped on a dedicated simulation thread.
+     *
+     * @return {@code true} if the bodies are stepped on the simulation thread
+     */
+    public boolean isSimulationThreadEnabled() {
+        return simulationThreadEnabled;
+    }
+
+    /**
+     * Register a {@link YaegerEntity}. The {@link YaegerEntity} will only be registered if it is a {@link Newtonian}
+     * of which the {@link Newtonian#getMotionApplier()} is a {@link NewtonianMotionApplier}, and its
+     * {@link javafx.scene.Node} is available.
+     *
+     * @param entity the {@link YaegerEntity} that should be registered
+     */
+    public void register(final YaegerEntity entity) {
+        if (!(entity instanceof Newtonian) || !(((Newtonian) entity).getMotionApplier() instanceof NewtonianMotionApplier)) {
+            return;
+        }
+
+        awaitStep();
+
+        entity.getNode().ifPresent(node -> {
+            var newtonian = (Newtonian) entity;
+            var motionApplier = (NewtonianMotionApplier) newtonian.getMotionApplier();
+            var bounds = node.getBoundsInParent();
+            var anchorLocation = entity.getAnchorLocation();
+
+            Convex shape;
+            if (node instanceof Circle) {
+                shape = Geometry.createCircle(toMeters(((Circle) node).getRadius()));
+            } else {
+                shape = Geometry.createRectangle(toMeters(bounds.getWidth()), toMeters(bounds.getHeight()));
+            }
+
+            var body = new Body();
+            body.addFixture(new BodyFixture(shape));
+            body.translate(toMeters(bounds.getCenterX()), toMeters(bounds.getCenterY()));
+            body.setUserData(entity);
+
+            var member = new Member(entity, motionApplier, body,
+                    bounds.getCenterX() - anchorLocation.getX(), bounds.getCenterY() - anchorLocation.getY());
+            member.applyProperties(shape);
+            motionApplier.pollPropertiesChanged();
+
+            members.put(newtonian, member);
+            world.addBody(body);
+        });
+    }
+
+    /**
+     * Remove the {@link Removeable} from this {@link PhysicsWorld}.
+     *
+     * @param removeable the {@link Removeable} that should be removed
+     */
+    public void remove(final Removeable removeable) {
+        if (!(removeable instanceof Newtonian)) {
+            return;
+        }
+
+        awaitStep();
+
+        var member = members.remove(removeable);
+        if (member != null) {
+            member.removed = true;
+            world.removeBody(member.body);
+        }
+    }
+
+    /**
+     * Advance the simulation to the given timestamp. Changes to the location, speed and direction of the entities
+     * since the previous step are applied to their bodies first, after which the new location and velocity of each
+     * body is applied to its entity.
+     * <p>
+     * If the simulation thread is enabled, this method first waits for the step that was started during the previous
+     * cycle of the Game Loop and applies its snapshot to the entities. The location or motion of an entity that has
+     * been changed since that step was started is kept, and applied to its body instead. The new step is then started
+     * on the simulation thread, after which this method returns immediately.
+     *
+     * @param timestamp the timestamp of the current cycle of the Game Loop, in nanoseconds
+     */
+    public void step(final long timestamp) {
+        applySnapshots(awaitStep());
+
+        if (members.isEmpty()) {
+            previousTimestamp = timestamp;
+            return;
+        }
+
+        var elapsedTime = previousTimestamp < 0 ? 1 / UPDATES_PER_SECOND : (timestamp - previousTimestamp) / NANOSECONDS_PER_SECOND;
+        previousTimestamp = timestamp;
+
+        members.values().forEach(Member::applyToBody);
+
+        var stepped = new ArrayList<>(members.values());
+        var clampedElapsedTime = Math.min(elapsedTime, MAX_ELAPSED_TIME);
+
+        if (simulationThreadEnabled) {
+            pendingStep = getExecutorService().submit(() -> simulate(stepped, clampedElapsedTime));
+        } else {
+            applySnapshots(simulate(stepped, clampedElapsedTime));
+        }
+    }
+
+    /**
+     * Return the number of bodies in this {@link PhysicsWorld}.
+     *
+     * @return the number of bodies
+     */
+    public int getBodyCount() {
+        return world.getBodyCount();
+    }
+
+    /**
+     * Remove all bodies.
+     */
+    public void clear() {
+        awaitStep();
+        members.values().forEach(member -> member.removed = true);
+        members.clear();
+        world.removeAllBodies();
+        previousTimestamp = -1;
+
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+
+    private List<BodySnapshot> simulate(final List<Member> stepped, final double elapsedTime) {
+        // The World steps at a fixed frequency, so the elapsed time is accumulated until a step is due
+        if (!world.update(elapsedTime)) {
+            return List.of();
+        }
+
+        var snapshots = new ArrayList<BodySnapshot>(stepped.size());
+        stepped.forEach(member -> snapshots.add(new BodySnapshot(member)));
+        return snapshots;
+    }
+
+    private void applySnapshots(final List<BodySnapshot> snapshots) {
+        snapshots.forEach(snapshot -> {
+            if (!snapshot.member.removed) {
+                snapshot.member.applyToEntity(snapshot);
+            }
+        });
+    }
+
+    private List<BodySnapshot> awaitStep() {
+        if (pendingStep == null) {
+            return List.of();
+        }
+
+        try {
+            return pendingStep.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException e) {
+            throw new YaegerEngineException("The simulation thread failed to step the physics.", e);
+        } finally {
+            pendingStep = null;
+        }
+    }
+
+    private ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = Executors.newSingleThreadExecutor(runnable -> {
+                var thread = new Thread(runnable, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executorService;
+    }
+
+    private static double toMeters(final double pixels) {
+        return pixels / PIXELS_PER_METER;
+    }
+
+    private static double toPixels(final double meters) {
+        return meters * PIXELS_PER_METER;
+    }
+
+    private static class Member {
+        private final YaegerEntity entity;
+        private final NewtonianMotionApplier motionApplier;
+        private final Body body;
+        private final double offsetX;
+        private final double offsetY;
+        private Coordinate2D location;
+        private Coordinate2D motion;
+        private boolean removed;
+
+        private Member(final YaegerEntity entity, final NewtonianMotionApplier motionApplier, final Body body,
+                       final double offsetX, final double offsetY) {
+            this.entity = entity;
+            this.motionApplier = motionApplier;
+            this.body = body;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+        }
+
+        private void applyProperties(final Convex shape) {
+            var fixture = body.getFixture(0);
+            fixture.setFriction(motionApplier.getFriction());
+            fixture.setRestitution(motionApplier.getRestitution());
+
+            if (motionApplier.getMass() > 0) {
+                fixture.setDensity(motionApplier.getMass() / shape.createMass(1).getMass());
+            }
+
+            if (motionApplier.isImmovable()) {
+                body.setMass(MassType.INFINITE);
+            } else if (motionApplier.isFixedRotation()) {
+                body.setMass(MassType.FIXED_ANGULAR_VELOCITY);
+            } else {
+                body.setMass(MassType.NORMAL);
+            }
+        }
+
+        private void applyToBody() {
+            if (motionApplier.pollPropertiesChanged()) {
+                applyProperties(body.getFixture(0).getShape());
+                body.setAsleep(false);
+            }
+
+            var anchorLocation = entity.getAnchorLocation();
+            if (!anchorLocation.equals(location)) {
+                var transform = body.getTransform();
+                transform.setTranslation(toMeters(anchorLocation.getX() + offsetX), toMeters(anchorLocation.getY() + offsetY));
+                body.setAsleep(false);
+            }
+
+            var currentMotion = motionApplier.get();
+            if (!currentMotion.equals(motion)) {
+                var velocityScale = UPDATES_PER_SECOND / PIXELS_PER_METER;
+                body.setLinearVelocity(currentMotion.getX() * velocityScale, currentMotion.getY() * velocityScale);
+                body.setAsleep(false);
+            }
+
+            location = anchorLocation;
+            motion = currentMotion;
+        }
+
+        private void applyToEntity(final BodySnapshot snapshot) {
+            // Changes made to the entity while the body was being stepped are applied to the body by the next step
+            var locationChanged = location != null && !entity.getAnchorLocation().equals(location);
+            var motionChanged = motion != null && !motionApplier.get().equals(motion);
+
+            if (!locationChanged && (!snapshot.asleep || location == null)) {
+                location = new Coordinate2D(toPixels(snapshot.x) - offsetX, toPixels(snapshot.y) - offsetY);
+                entity.setAnchorLocation(location);
+                if (!motionApplier.isFixedRotation() && !motionApplier.isImmovable()) {
+                    entity.setRotate(-Math.toDegrees(snapshot.rotation));
+                }
+            }
+
+            if (!motionChanged) {
+                var speedScale = PIXELS_PER_METER / UPDATES_PER_SECOND;
+                motion = new Coordinate2D(snapshot.velocityX * speedScale, snapshot.velocityY * speedScale);
+                motionApplier.set(motion);
+            }
+        }
+    }
+
+    /**
+     * The state of a body after a step, which can safely be handed from the simulation thread to the JavaFX
+     * Application Thread.
+     */
+    private static final class BodySnapshot {
+        private final Member member;
+        private final double x;
+        private final double y;
+        private final double rotation;
+        private final double velocityX;
+        private final double velocityY;
+        private final boolean asleep;
+
+        private BodySnapshot(final Member member) {
+            var transform = member.body.getTransform();
+            var velocity = member.body.getLinearVelocity();
+
+            this.member = member;
+            this.x = transform.getTranslationX();
+            this.y = transform.getTranslationY();
+            this.rotation = transform.getRotationAngle();
+            this.velocityX = velocity.x;
+            this.velocityY = velocity.y;
+            this.asleep = member.body.isAsleep();
+        }
+    }
+}
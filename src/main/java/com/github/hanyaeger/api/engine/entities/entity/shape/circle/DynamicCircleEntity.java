@@ -88,6 +88,7 @@ public abstract class DynamicCircleEntity extends CircleEntity implements Update
     }
 
     @Inject
+    @Override
     public void setUpdater(final Updater updater) {
         this.updater = updater;
     }
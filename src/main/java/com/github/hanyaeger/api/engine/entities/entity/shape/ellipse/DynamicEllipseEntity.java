@@ -88,6 +88,7 @@ public abstract class DynamicEllipseEntity extends EllipseEntity implements Upda
     }
 
     @Inject
+    @Override
     public void setUpdater(final Updater updater) {
         this.updater = updater;
     }
@@ -89,6 +89,7 @@ public abstract class DynamicRectangleEntity extends RectangleEntity implements
     }
 
     @Inject
+    @Override
     public void setUpdater(final Updater updater) {
         this.updater = updater;
     }
@@ -99,6 +99,7 @@ public abstract class DynamicTextEntity extends TextEntity implements UpdateDele
     }
 
     @Inject
+    @Override
     public void setUpdater(final Updater updater) {
         this.updater = updater;
     }
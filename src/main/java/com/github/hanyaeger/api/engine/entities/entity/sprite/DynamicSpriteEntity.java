@@ -55,7 +55,25 @@ public abstract class DynamicSpriteEntity extends SpriteEntity implements Update
     }
 
     /**
-     * Set the interval at which the sprite should be automatically cycled.
+     * Create a new {@link DynamicSpriteEntity} for the given image resource on the given {@link Coordinate2D},
+     * with the given {@link Size}, of which the frames are laid out in a grid.
+     *
+     * @param resource        the url of the image file. Relative to the resources folder
+     * @param initialLocation the initial {@link Coordinate2D} of this Entity
+     * @param size            the {@link Size} (width and height) of a single frame. This {@link Size} will also be used
+     *                        as the {@link javafx.geometry.BoundingBox} in case of collision detection
+     * @param rows            the number of rows of frames the Image contains
+     * @param columns         the number of columns of frames the Image contains. By default the first frame is loaded
+     */
+    public DynamicSpriteEntity(final String resource, final Coordinate2D initialLocation, final Size size, final int rows, final int columns) {
+        super(resource, initialLocation, size, rows, columns);
+
+        buffer = Optional.of(new EntityMotionInitBuffer());
+    }
+
+    /**
+     * Set the interval at which the sprite should be automatically cycled. All sprites with the same interval
+     * are cycled together by the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
      *
      * @param interval the interval milli-seconds
      */
@@ -78,7 +96,6 @@ public abstract class DynamicSpriteEntity extends SpriteEntity implements Update
         super.init(injector);
 
         spriteAnimationDelegate.ifPresent(delegate -> {
-            updater.addUpdatable(delegate);
             if (getFrames() > 1 && autoCycleInterval != 0) {
                 delegate.setAutoCycle(autoCycleInterval);
             }
@@ -112,6 +129,7 @@ public abstract class DynamicSpriteEntity extends SpriteEntity implements Update
     }
 
     @Inject
+    @Override
     public void setUpdater(final Updater updater) {
         this.updater = updater;
     }
@@ -2,23 +2,34 @@ package com.github.hanyaeger.api.engine.entities.entity.sprite;
 
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Node;
 import javafx.scene.image.ImageView;
 import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.AnimationClip;
 import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.SpriteAnimationDelegate;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.engine.media.atlas.TextureAtlasBuilder;
+import com.github.hanyaeger.api.engine.media.atlas.TextureRegion;
 import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.engine.media.ResourceConsumer;
 import com.github.hanyaeger.api.javafx.image.ImageViewFactory;
 import com.github.hanyaeger.api.guice.factories.SpriteAnimationDelegateFactory;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * A {@link SpriteEntity} is a {@link YaegerEntity} that is represented by an Image. When creating
  * a {@link SpriteEntity}, the {@link Size} of the image must be passed through the constructor. After
  * construction, this {@link Size} can not be changed.
+ * <p>
+ * The image can contain multiple frames, laid out in a grid of rows and columns. Frames are numbered row by row,
+ * starting at the top-left frame. Consecutive frames can be grouped into a named animation clip, using
+ * {@link #addAnimationClip(String, int, int)}.
  */
 public abstract class SpriteEntity extends YaegerEntity implements ResourceConsumer {
 
@@ -29,8 +40,12 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
     private ImageRepository imageRepository;
     private ImageViewFactory imageViewFactory;
 
+    private final int rows;
+    private final int columns;
     private final int frames;
     private Optional<Integer> spriteIndex = Optional.empty();
+    private Optional<AnimationClip> animationClip = Optional.empty();
+    private Map<String, AnimationClip> animationClips;
     protected Optional<ImageView> imageView = Optional.empty();
     protected Optional<SpriteAnimationDelegate> spriteAnimationDelegate = Optional.empty();
 
@@ -54,21 +69,38 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
      * @param frames   The number of frames the image contains. By default the first frame is loaded
      */
     protected SpriteEntity(final String resource, final Coordinate2D location, final Size size, final int frames) {
+        this(resource, location, size, 1, frames);
+    }
+
+    /**
+     * Instantiate a new {@link SpriteEntity} for a given image, of which the frames are laid out in a grid.
+     *
+     * @param resource the url of the image file. Relative to the resources folder
+     * @param location the initial {@link Coordinate2D} of this {@link SpriteEntity}
+     * @param size     The bounding box of a single frame of this {@link SpriteEntity}
+     * @param rows     The number of rows of frames the image contains
+     * @param columns  The number of columns of frames the image contains. By default the first frame is loaded
+     */
+    protected SpriteEntity(final String resource, final Coordinate2D location, final Size size, final int rows, final int columns) {
         super(location);
-        this.frames = frames;
+        this.rows = rows;
+        this.columns = columns;
+        this.frames = rows * columns;
         this.resource = resource;
         this.size = size;
     }
 
     @Override
     public void init(final Injector injector) {
-        var requestedWidth = size.getWidth() * frames;
-        imageView = Optional.of(createImageView(resource, requestedWidth, size.getHeight(), preserveAspectRatio));
+        imageView = Optional.of(createImageView(resource, getRequestedWidth(), getRequestedHeight(), preserveAspectRatio));
 
-        if (frames > 1) {
+        if (rows > 1) {
+            spriteAnimationDelegate = Optional.of(spriteAnimationDelegateFactory.create(imageView.get(), rows, columns));
+        } else if (frames > 1) {
             spriteAnimationDelegate = Optional.of(spriteAnimationDelegateFactory.create(imageView.get(), frames));
         }
 
+        animationClip.ifPresent(clip -> spriteAnimationDelegate.ifPresent(sad -> sad.setAnimationClip(clip)));
         spriteIndex.ifPresent(index -> spriteAnimationDelegate.ifPresent(sad -> sad.setSpriteIndex(index)));
 
         super.init(injector);
@@ -84,6 +116,41 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
                 () -> spriteIndex = Optional.of(index));
     }
 
+    /**
+     * Add a named animation clip, consisting of consecutive frames of the image.
+     *
+     * @param name       the name of the animation clip
+     * @param firstFrame the zero based index of the first frame of the animation clip
+     * @param frameCount the number of frames of the animation clip
+     */
+    protected void addAnimationClip(final String name, final int firstFrame, final int frameCount) {
+        if (animationClips == null) {
+            animationClips = new HashMap<>();
+        }
+        animationClips.put(name, new AnimationClip(name, firstFrame, frameCount));
+    }
+
+    /**
+     * Show the animation clip with the given name. Only the frames of this animation clip are cycled through,
+     * starting with its first frame. After calling this method, {@link #setCurrentFrameIndex(int)} is relative
+     * to the first frame of the animation clip.
+     *
+     * @param name the name of an animation clip that was added using {@link #addAnimationClip(String, int, int)}
+     * @throws YaegerEngineException if no animation clip with the given name exists
+     */
+    public void setAnimationClip(final String name) {
+        if (animationClips == null || !animationClips.containsKey(name)) {
+            throw new YaegerEngineException("No animation clip with name " + name + " has been added.");
+        }
+
+        var clip = animationClips.get(name);
+        spriteAnimationDelegate.ifPresentOrElse(delegate -> delegate.setAnimationClip(clip),
+                () -> {
+                    animationClip = Optional.of(clip);
+                    spriteIndex = Optional.empty();
+                });
+    }
+
     /**
      * Preserve the aspect ration of the width and height of this {@link SpriteEntity}.
      *
@@ -102,7 +169,67 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
         return frames;
     }
 
+    /**
+     * Return the {@link SpriteAnimationDelegate} of this {@link SpriteEntity}, which is only present if the image
+     * contains multiple frames and this {@link SpriteEntity} has been initialized.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @return an {@link Optional} containing the {@link SpriteAnimationDelegate}
+     */
+    public Optional<SpriteAnimationDelegate> getSpriteAnimationDelegate() {
+        return spriteAnimationDelegate;
+    }
+
+    /**
+     * Add the image of this {@link SpriteEntity} to the given {@link TextureAtlasBuilder}, so it can be packed
+     * into a {@link com.github.hanyaeger.api.engine.media.atlas.TextureAtlas}.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @param textureAtlasBuilder the {@link TextureAtlasBuilder} to which the image should be added
+     */
+    public void addToTextureAtlas(final TextureAtlasBuilder textureAtlasBuilder) {
+        textureAtlasBuilder.add(resource, getRequestedWidth(), getRequestedHeight(), preserveAspectRatio);
+    }
+
+    /**
+     * Return a {@link TextureRegion} containing the first frame of the image of this {@link SpriteEntity}. This
+     * can be used to draw the image without creating an {@link ImageView}.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @param imageRepository the {@link ImageRepository} from which the image should be acquired
+     * @return a {@link TextureRegion} containing the first frame
+     */
+    public TextureRegion createFirstFrameRegion(final ImageRepository imageRepository) {
+        var atlasRegion = imageRepository.getRegion(resource, getRequestedWidth(), getRequestedHeight(), preserveAspectRatio);
+
+        var image = atlasRegion.map(TextureRegion::getImage)
+                .orElseGet(() -> imageRepository.get(resource, getRequestedWidth(), getRequestedHeight(), preserveAspectRatio));
+        var region = atlasRegion.map(TextureRegion::getViewport)
+                .orElseGet(() -> new Rectangle2D(0, 0, image.getWidth(), image.getHeight()));
+
+        return new TextureRegion(image, new Rectangle2D(region.getMinX(), region.getMinY(), region.getWidth() / columns, region.getHeight() / rows));
+    }
+
+    private double getRequestedWidth() {
+        return size.getWidth() * columns;
+    }
+
+    private double getRequestedHeight() {
+        return size.getHeight() * rows;
+    }
+
     private ImageView createImageView(final String resource, final double requestedWidth, final double requestedHeight, final boolean preserveAspectRatio) {
+        var region = imageRepository.getRegion(resource, requestedWidth, requestedHeight, preserveAspectRatio);
+
+        if (region.isPresent()) {
+            var regionView = imageViewFactory.create(region.get().getImage());
+            regionView.setViewport(region.get().getViewport());
+            return regionView;
+        }
+
         var image = imageRepository.get(resource, requestedWidth, requestedHeight, preserveAspectRatio);
 
         return imageViewFactory.create(image);
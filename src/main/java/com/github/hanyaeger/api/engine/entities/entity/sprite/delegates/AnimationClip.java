@@ -0,0 +1,52 @@
+package com.github.hanyaeger.api.engine.entities.entity.sprite.delegates;
+
+/**
+ * An {@link AnimationClip} is a named range of consecutive frames within a {@link FrameTable}, for instance
+ * all frames of a walking animation on a sprite sheet that also contains a jumping animation.
+ */
+public final class AnimationClip {
+
+    private final String name;
+    private final int firstFrame;
+    private final int frameCount;
+
+    /**
+     * Create a new {@link AnimationClip}.
+     *
+     * @param name       the name of the {@link AnimationClip}
+     * @param firstFrame the zero based index of the first frame
+     * @param frameCount the number of frames
+     */
+    public AnimationClip(final String name, final int firstFrame, final int frameCount) {
+        this.name = name;
+        this.firstFrame = firstFrame;
+        this.frameCount = frameCount;
+    }
+
+    /**
+     * Return the name of this {@link AnimationClip}.
+     *
+     * @return the name as a {@link String}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Return the index of the first frame of this {@link AnimationClip}.
+     *
+     * @return the zero based index as an {@code int}
+     */
+    public int getFirstFrame() {
+        return firstFrame;
+    }
+
+    /**
+     * Return the number of frames of this {@link AnimationClip}.
+     *
+     * @return the number of frames as an {@code int}
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+}
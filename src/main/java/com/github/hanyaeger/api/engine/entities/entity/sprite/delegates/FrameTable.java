@@ -0,0 +1,104 @@
+package com.github.hanyaeger.api.engine.entities.entity.sprite.delegates;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link FrameTable} contains the viewports of all frames of a sprite sheet. The frames are laid out in a grid
+ * of rows and columns and are numbered row by row, starting at the top-left frame.
+ * <p>
+ * A {@link FrameTable} is immutable, which makes it possible to share one {@link FrameTable} between all
+ * sprites that use the same sprite sheet.
+ */
+public final class FrameTable {
+
+    private final List<Rectangle2D> frames;
+    private final int rows;
+    private final int columns;
+
+    private FrameTable(final List<Rectangle2D> frames, final int rows, final int columns) {
+        this.frames = frames;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Create a new {@link FrameTable} by dividing the given region into a grid of frames of equal size.
+     *
+     * @param region  the region of the image that contains all frames
+     * @param rows    the number of rows of frames
+     * @param columns the number of columns of frames
+     * @return a new {@link FrameTable}
+     */
+    public static FrameTable create(final Rectangle2D region, final int rows, final int columns) {
+        var frameWidth = region.getWidth() / columns;
+        var frameHeight = region.getHeight() / rows;
+        var frames = new ArrayList<Rectangle2D>(rows * columns);
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                frames.add(new Rectangle2D(region.getMinX() + column * frameWidth, region.getMinY() + row * frameHeight, frameWidth, frameHeight));
+            }
+        }
+
+        return new FrameTable(List.copyOf(frames), rows, columns);
+    }
+
+    /**
+     * Return the region of the {@link javafx.scene.image.Image} of the given {@link ImageView} that contains the
+     * frames. If the {@link ImageView} already has a viewport, for instance because its
+     * {@link javafx.scene.image.Image} is a {@link com.github.hanyaeger.api.engine.media.atlas.TextureAtlas}, that
+     * viewport is returned. Otherwise the full {@link javafx.scene.image.Image} is used.
+     *
+     * @param imageView the {@link ImageView} for which the region should be returned
+     * @return the region as a {@link Rectangle2D}
+     */
+    public static Rectangle2D regionOf(final ImageView imageView) {
+        var viewport = imageView.getViewport();
+
+        if (viewport != null) {
+            return viewport;
+        }
+        return new Rectangle2D(0, 0, imageView.getImage().getWidth(), imageView.getImage().getHeight());
+    }
+
+    /**
+     * Return the viewport of the frame with the given index.
+     *
+     * @param index the zero based index of the frame
+     * @return the viewport as a {@link Rectangle2D}
+     */
+    public Rectangle2D getFrame(final int index) {
+        return frames.get(index);
+    }
+
+    /**
+     * Return the number of frames in this {@link FrameTable}.
+     *
+     * @return the number of frames as an {@code int}
+     */
+    public int size() {
+        return frames.size();
+    }
+
+    /**
+     * Return the number of rows of frames.
+     *
+     * @return the number of rows as an {@code int}
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Return the number of columns of frames.
+     *
+     * @return the number of columns as an {@code int}
+     */
+    public int getColumns() {
+        return columns;
+    }
+}
@@ -1,22 +1,22 @@
 package com.github.hanyaeger.api.engine.entities.entity.sprite.delegates;
 
-import javafx.geometry.Rectangle2D;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
 import javafx.scene.image.ImageView;
 import com.github.hanyaeger.api.engine.Updatable;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.IntStream;
-
 /**
  * A {@code SpriteAnimationDelegate} holds all responsibility related to Sprites that contain multiple images.
+ * <p>
+ * The viewports of the frames are part of a {@link FrameTable}, which can be shared between all instances of
+ * {@code SpriteAnimationDelegate} that use the same sprite sheet. Cycling through the frames does not allocate.
  */
 public class SpriteAnimationDelegate implements Updatable {
 
     private long previousCycleTime = 0;
     private long autoCycleInterval = 0;
     private final ImageView imageView;
-    private final List<Rectangle2D> viewports = new ArrayList<>();
+    private final FrameTable frameTable;
+    private AnimationClip animationClip;
     private int currentIndex = 0;
 
     /**
@@ -27,24 +27,57 @@ public class SpriteAnimationDelegate implements Updatable {
      * @param frames    the number of frames available
      */
     public SpriteAnimationDelegate(final ImageView imageView, final int frames) {
+        this(imageView, FrameTable.create(FrameTable.regionOf(imageView), 1, frames));
+    }
+
+    /**
+     * Create a new {@code SpriteAnimationDelegate} for the given {@link ImageView} and {@link FrameTable}.
+     * After construction, the spriteIndex will be set to the first frame.
+     *
+     * @param imageView  the {@link ImageView} of which the viewport should be set
+     * @param frameTable the {@link FrameTable} that contains the viewports of all frames
+     */
+    public SpriteAnimationDelegate(final ImageView imageView, final FrameTable frameTable) {
         this.imageView = imageView;
+        this.frameTable = frameTable;
+        this.animationClip = new AnimationClip(null, 0, frameTable.size());
 
-        createViewPorts(frames);
         setSpriteIndex(0);
     }
 
     /**
      * Set the index of the sprite. Since de modulus (mod frames) is used, this can be an unbounded integer.
+     * When an {@link AnimationClip} is set, the index is relative to the first frame of the {@link AnimationClip}.
      *
      * @param index the index to select. This index will be applied modulo the total number
      *              of frames
      */
     public void setSpriteIndex(final int index) {
-        var modulus = index % viewports.size();
-        imageView.setViewport(viewports.get(modulus));
+        var modulus = index % animationClip.getFrameCount();
+        imageView.setViewport(frameTable.getFrame(animationClip.getFirstFrame() + modulus));
         currentIndex = index;
     }
 
+    /**
+     * Set the {@link AnimationClip} that should be shown. Only the frames of this {@link AnimationClip} will
+     * be cycled through, starting with its first frame.
+     *
+     * @param animationClip the {@link AnimationClip} to be shown
+     * @throws YaegerEngineException if the {@link AnimationClip} contains frames that are not part of the
+     *                               {@link FrameTable}
+     */
+    public void setAnimationClip(final AnimationClip animationClip) {
+        if (animationClip.getFirstFrame() < 0
+                || animationClip.getFrameCount() < 1
+                || animationClip.getFirstFrame() + animationClip.getFrameCount() > frameTable.size()) {
+            throw new YaegerEngineException("AnimationClip " + animationClip.getName() + " does not fit within the "
+                    + frameTable.size() + " frames of the sprite.");
+        }
+
+        this.animationClip = animationClip;
+        setSpriteIndex(0);
+    }
+
     @Override
     public void update(final long timestamp) {
         if (autoCycleInterval == 0) {
@@ -66,25 +99,19 @@ public class SpriteAnimationDelegate implements Updatable {
         this.autoCycleInterval = interval * 1000000;
     }
 
+    /**
+     * Return the interval at which the sprite is automatically cycled.
+     *
+     * @return the interval in nano-seconds, or 0 if the sprite is not cycled automatically
+     */
+    public long getAutoCycleInterval() {
+        return autoCycleInterval;
+    }
+
     /**
      * Set the next index of the sprite.
      */
     public void next() {
         setSpriteIndex(++currentIndex);
     }
-
-    private void createViewPorts(final int frames) {
-        var frameWidth = getFrameWidth(frames);
-        var frameHeight = imageView.getImage().getHeight();
-
-        IntStream.range(0, frames).forEach(frame -> addViewPort(frame, frameWidth, frameHeight));
-    }
-
-    private void addViewPort(final int frame, final double frameWidth, final double frameHeight) {
-        viewports.add(new Rectangle2D(frame * frameWidth, 0, frameWidth, frameHeight));
-    }
-
-    private double getFrameWidth(final int frames) {
-        return imageView.getImage().getWidth() / frames;
-    }
 }
@@ -0,0 +1,112 @@
+package com.github.hanyaeger.api.engine.entities.entity.sprite.delegates;
+
+import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.entities.entity.Removeable;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link SpriteAnimationTicker} cycles the frames of all automatically cycling sprites of a
+ * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}. Sprites are grouped by their cycle interval,
+ * and a whole group is advanced at once when its interval has elapsed. On all other updates only the
+ * groups are checked, so the cost depends on the number of frames that change, not on the number of sprites.
+ */
+public class SpriteAnimationTicker implements Updatable {
+
+    private final Map<Long, AnimationGroup> groups = new LinkedHashMap<>();
+
+    /**
+     * Register a {@link YaegerEntity}. The {@link YaegerEntity} will only be added if it is a {@link SpriteEntity}
+     * that should be cycled automatically.
+     *
+     * @param entity the {@link YaegerEntity} that should be registered
+     */
+    public void register(final YaegerEntity entity) {
+        if (entity instanceof SpriteEntity) {
+            ((SpriteEntity) entity).getSpriteAnimationDelegate().ifPresent(this::register);
+        }
+    }
+
+    /**
+     * Register a {@link SpriteAnimationDelegate}. The {@link SpriteAnimationDelegate} will only be added if it
+     * has an auto cycle interval.
+     *
+     * @param spriteAnimationDelegate the {@link SpriteAnimationDelegate} that should be registered
+     */
+    public void register(final SpriteAnimationDelegate spriteAnimationDelegate) {
+        var interval = spriteAnimationDelegate.getAutoCycleInterval();
+
+        if (interval == 0) {
+            return;
+        }
+
+        groups.computeIfAbsent(interval, AnimationGroup::new).members.add(spriteAnimationDelegate);
+    }
+
+    /**
+     * Remove the {@link Removeable}, so its frames are no longer cycled.
+     *
+     * @param removeable the {@link Removeable} that should be removed
+     */
+    public void remove(final Removeable removeable) {
+        if (removeable instanceof SpriteEntity) {
+            ((SpriteEntity) removeable).getSpriteAnimationDelegate().ifPresent(this::remove);
+        }
+    }
+
+    private void remove(final SpriteAnimationDelegate spriteAnimationDelegate) {
+        var group = groups.get(spriteAnimationDelegate.getAutoCycleInterval());
+
+        if (group != null) {
+            group.members.remove(spriteAnimationDelegate);
+            if (group.members.isEmpty()) {
+                groups.remove(group.interval);
+            }
+        }
+    }
+
+    @Override
+    public void update(final long timestamp) {
+        for (var group : groups.values()) {
+            if (timestamp > group.previousCycleTime + group.interval) {
+                group.previousCycleTime = timestamp;
+
+                for (var member : group.members) {
+                    member.next();
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the number of sprites that are cycled by this {@link SpriteAnimationTicker}.
+     *
+     * @return the number of sprites as an {@code int}
+     */
+    public int size() {
+        return groups.values().stream().mapToInt(group -> group.members.size()).sum();
+    }
+
+    /**
+     * Remove all registered sprites.
+     */
+    public void clear() {
+        groups.clear();
+    }
+
+    private static class AnimationGroup {
+
+        private final long interval;
+        private final List<SpriteAnimationDelegate> members = new ArrayList<>();
+        private long previousCycleTime = 0;
+
+        private AnimationGroup(final long interval) {
+            this.interval = interval;
+        }
+    }
+}
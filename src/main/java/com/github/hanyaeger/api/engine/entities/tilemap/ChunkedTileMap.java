@@ -0,0 +1,184 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.engine.scenes.YaegerScene;
+import javafx.geometry.Rectangle2D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ChunkedTileMap} is a {@link TileMap} for levels that are larger than the {@link YaegerScene}. Its tiles
+ * have a fixed {@link Size} in pixels, and the map is divided into square chunks of tiles. Only the chunks near
+ * the viewport are materialized; chunks that move out of range are removed from the {@link YaegerScene}. This way
+ * the number of nodes and collision entries does not depend on the size of the level.
+ * <p>
+ * After activation, the chunks within the width and height of the {@link YaegerScene} are materialized. Use
+ * {@link #setViewport(Rectangle2D)} whenever the visible part of the level changes. In a
+ * {@link com.github.hanyaeger.api.engine.scenes.CameraContainer} this is done automatically by the
+ * {@link com.github.hanyaeger.api.engine.scenes.Camera}. Chunks are only added to
+ * and removed from a {@link com.github.hanyaeger.api.engine.scenes.DynamicScene} while its Game Loop runs.
+ * <p>
+ * The {@link com.github.hanyaeger.api.engine.entities.entity.AnchorPoint} of a {@link ChunkedTileMap} is always
+ * the top-left corner.
+ */
+public abstract class ChunkedTileMap extends TileMap {
+
+    /**
+     * The default width and height of a chunk, in tiles.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 16;
+
+    private final transient Size tileSize;
+    private final transient int chunkSize;
+    private final transient Map<Long, List<YaegerEntity>> loadedChunks = new HashMap<>();
+    private transient int[][] map;
+    private transient int columns;
+
+    /**
+     * Create a new {@link ChunkedTileMap}, using the default chunk size.
+     *
+     * @param location the {@link Coordinate2D} of the top-left corner of the {@link ChunkedTileMap}
+     * @param tileSize the {@link Size} of a single tile
+     */
+    protected ChunkedTileMap(final Coordinate2D location, final Size tileSize) {
+        this(location, tileSize, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a new {@link ChunkedTileMap}.
+     *
+     * @param location  the {@link Coordinate2D} of the top-left corner of the {@link ChunkedTileMap}
+     * @param tileSize  the {@link Size} of a single tile
+     * @param chunkSize the width and height of a chunk, in tiles
+     */
+    protected ChunkedTileMap(final Coordinate2D location, final Size tileSize, final int chunkSize) {
+        super(location, null);
+        this.tileSize = tileSize;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void activate() {
+        setupEntities();
+        map = defineMap();
+        loadedChunks.clear();
+
+        columns = 0;
+        for (var row : map) {
+            columns = Math.max(columns, row.length);
+        }
+
+        if (getRenderMode() == TileMapRenderMode.CANVAS) {
+            var rowTileWidths = new double[map.length];
+            Arrays.fill(rowTileWidths, tileSize.getWidth());
+            var origin = location.orElse(new Coordinate2D(0, 0));
+            setCollisionGrid(createCollisionGrid(map, origin.getX(), origin.getY(), tileSize.getHeight(), rowTileWidths));
+        }
+
+        var viewportSize = size.orElseThrow(() -> new YaegerEngineException("No Size is set for this TileMap. Has setDimensionProvider been called?"));
+        setViewport(new Rectangle2D(0, 0, viewportSize.getWidth(), viewportSize.getHeight()));
+    }
+
+    /**
+     * Set the part of the level that is currently visible. All chunks that overlap the viewport, or are
+     * adjacent to a chunk that does, are materialized. All other chunks are removed.
+     *
+     * @param viewport the visible part of the level, as a {@link Rectangle2D}
+     */
+    public void setViewport(final Rectangle2D viewport) {
+        if (map == null) {
+            return;
+        }
+
+        var origin = location.orElse(new Coordinate2D(0, 0));
+        var chunkWidth = tileSize.getWidth() * chunkSize;
+        var chunkHeight = tileSize.getHeight() * chunkSize;
+
+        var firstChunkColumn = Math.max(0, (int) Math.floor((viewport.getMinX() - origin.getX()) / chunkWidth) - 1);
+        var lastChunkColumn = Math.min(getChunkColumns() - 1, (int) Math.floor((viewport.getMaxX() - origin.getX()) / chunkWidth) + 1);
+        var firstChunkRow = Math.max(0, (int) Math.floor((viewport.getMinY() - origin.getY()) / chunkHeight) - 1);
+        var lastChunkRow = Math.min(getChunkRows() - 1, (int) Math.floor((viewport.getMaxY() - origin.getY()) / chunkHeight) + 1);
+
+        var iterator = loadedChunks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var chunk = iterator.next();
+            var chunkColumn = (int) (chunk.getKey() >> 32);
+            var chunkRow = (int) (long) chunk.getKey();
+
+            if (chunkColumn < firstChunkColumn || chunkColumn > lastChunkColumn || chunkRow < firstChunkRow || chunkRow > lastChunkRow) {
+                unloadChunk(chunk.getValue());
+                iterator.remove();
+            }
+        }
+
+        for (int chunkRow = firstChunkRow; chunkRow <= lastChunkRow; chunkRow++) {
+            for (int chunkColumn = firstChunkColumn; chunkColumn <= lastChunkColumn; chunkColumn++) {
+                var key = createChunkKey(chunkColumn, chunkRow);
+                if (!loadedChunks.containsKey(key)) {
+                    loadedChunks.put(key, loadChunk(origin, chunkColumn, chunkRow));
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the number of chunks that are currently materialized.
+     *
+     * @return the number of chunks as an {@code int}
+     */
+    public int getLoadedChunkCount() {
+        return loadedChunks.size();
+    }
+
+    private List<YaegerEntity> loadChunk(final Coordinate2D origin, final int chunkColumn, final int chunkRow) {
+        var tileLayerBuilder = createTileLayerBuilder();
+        var chunkEntities = new ArrayList<YaegerEntity>();
+
+        var lastRow = Math.min(map.length, (chunkRow + 1) * chunkSize);
+        for (int row = chunkRow * chunkSize; row < lastRow; row++) {
+            var lastColumn = Math.min(map[row].length, (chunkColumn + 1) * chunkSize);
+            for (int column = chunkColumn * chunkSize; column < lastColumn; column++) {
+                var key = map[row][column];
+                if (key != 0) {
+                    var tileLocation = new Coordinate2D(origin.getX() + column * tileSize.getWidth(), origin.getY() + row * tileSize.getHeight());
+                    placeTile(key, tileLocation, tileSize, tileLayerBuilder, chunkEntities);
+                }
+            }
+        }
+
+        if (tileLayerBuilder != null) {
+            chunkEntities.addAll(0, tileLayerBuilder.build());
+        }
+
+        addAll(chunkEntities);
+        return chunkEntities;
+    }
+
+    private void unloadChunk(final List<YaegerEntity> chunkEntities) {
+        for (var entity : chunkEntities) {
+            // Entities that have not yet been supplied to the scene can simply be dropped
+            if (!remove(entity)) {
+                entity.remove();
+            }
+        }
+    }
+
+    private int getChunkColumns() {
+        return (columns + chunkSize - 1) / chunkSize;
+    }
+
+    private int getChunkRows() {
+        return (map.length + chunkSize - 1) / chunkSize;
+    }
+
+    private long createChunkKey(final int chunkColumn, final int chunkRow) {
+        return ((long) chunkColumn << 32) | (chunkRow & 0xffffffffL);
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Collider;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+import java.util.Optional;
+
+/**
+ * A {@link TileCollider} is the {@link Collider} that is passed to
+ * {@link com.github.hanyaeger.api.engine.entities.entity.collisions.Collided#onCollision(Collider)} when colliding
+ * with the solid tiles of a {@link TileCollisionGrid}. It covers a horizontal run of adjacent tiles of the same
+ * {@link Class}. Use {@link #getEntityClass()} to find out with which kind of tile a collision has occurred.
+ */
+public class TileCollider implements Collider {
+
+    private final Class<? extends SpriteEntity> entityClass;
+    private final Bounds bounds;
+
+    /**
+     * Create a new {@link TileCollider}.
+     *
+     * @param entityClass the {@link Class} of the tiles
+     * @param bounds      the {@link Bounds} of the run of tiles
+     */
+    public TileCollider(final Class<? extends SpriteEntity> entityClass, final Bounds bounds) {
+        this.entityClass = entityClass;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Return the {@link Class} of the tiles covered by this {@link TileCollider}.
+     *
+     * @return the {@link Class} of the tiles
+     */
+    public Class<? extends SpriteEntity> getEntityClass() {
+        return entityClass;
+    }
+
+    @Override
+    public Optional<? extends Node> getNode() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Bounds getTransformedBounds() {
+        return bounds;
+    }
+
+    @Override
+    public Bounds getNonTransformedBounds() {
+        return bounds;
+    }
+
+    @Override
+    public Bounds getBoundsInScene() {
+        return bounds;
+    }
+}
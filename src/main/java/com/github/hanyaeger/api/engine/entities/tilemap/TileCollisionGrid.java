@@ -0,0 +1,110 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Collider;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.ColliderGrid;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link TileCollisionGrid} exposes the solid tiles of a {@link TileMap} as a {@link ColliderGrid}. A tile is
+ * solid if its {@link Class} implements {@link Collider}. No object is kept per tile; only the cells that overlap
+ * the {@link Bounds} of a {@link com.github.hanyaeger.api.engine.entities.entity.collisions.Collided} are looked
+ * up in the map.
+ * <p>
+ * On a collision, adjacent tiles of the same {@link Class} in the same row are merged into a single
+ * {@link TileCollider}.
+ */
+public class TileCollisionGrid implements ColliderGrid {
+
+    private final int[][] map;
+    private final Map<Integer, Class<? extends SpriteEntity>> entities;
+    private final double originX;
+    private final double originY;
+    private final double rowHeight;
+    private final double[] rowTileWidths;
+
+    /**
+     * Create a new {@link TileCollisionGrid}.
+     *
+     * @param map           the map of the {@link TileMap}
+     * @param entities      the {@link Class} of {@link SpriteEntity} for each key used in the map
+     * @param originX       the x-coordinate of the top-left corner of the map
+     * @param originY       the y-coordinate of the top-left corner of the map
+     * @param rowHeight     the height of a row of tiles
+     * @param rowTileWidths the width of a tile, for each row
+     */
+    TileCollisionGrid(final int[][] map, final Map<Integer, Class<? extends SpriteEntity>> entities,
+                      final double originX, final double originY, final double rowHeight, final double[] rowTileWidths) {
+        this.map = map;
+        this.entities = entities;
+        this.originX = originX;
+        this.originY = originY;
+        this.rowHeight = rowHeight;
+        this.rowTileWidths = rowTileWidths;
+    }
+
+    @Override
+    public Optional<Collider> findCollider(final Bounds bounds) {
+        var firstRow = Math.max(0, (int) Math.floor((bounds.getMinY() - originY) / rowHeight));
+        var lastRow = Math.min(map.length - 1, (int) Math.floor((bounds.getMaxY() - originY) / rowHeight));
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            var tileWidth = rowTileWidths[row];
+            var firstColumn = Math.max(0, (int) Math.floor((bounds.getMinX() - originX) / tileWidth));
+            var lastColumn = Math.min(map[row].length - 1, (int) Math.floor((bounds.getMaxX() - originX) / tileWidth));
+
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                if (isSolid(map[row][column])) {
+                    var collider = createRun(row, column);
+                    if (collider.getBoundsInScene().intersects(bounds)) {
+                        return Optional.of(collider);
+                    }
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Return whether the tile at the given row and column is solid.
+     *
+     * @param row    the row of the tile
+     * @param column the column of the tile
+     * @return {@code true} if the tile is solid, {@code false} otherwise
+     */
+    public boolean isSolid(final int row, final int column) {
+        return row >= 0 && row < map.length && column >= 0 && column < map[row].length && isSolid(map[row][column]);
+    }
+
+    private boolean isSolid(final int key) {
+        if (key == 0) {
+            return false;
+        }
+
+        var entityClass = entities.get(key);
+        return entityClass != null && Collider.class.isAssignableFrom(entityClass);
+    }
+
+    private TileCollider createRun(final int row, final int column) {
+        var key = map[row][column];
+        var first = column;
+        var last = column;
+
+        while (first > 0 && map[row][first - 1] == key) {
+            first--;
+        }
+        while (last < map[row].length - 1 && map[row][last + 1] == key) {
+            last++;
+        }
+
+        var tileWidth = rowTileWidths[row];
+        var bounds = new BoundingBox(originX + first * tileWidth, originY + row * rowHeight, (last - first + 1) * tileWidth, rowHeight);
+
+        return new TileCollider(entities.get(key), bounds);
+    }
+}
@@ -6,42 +6,89 @@ import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import com.github.hanyaeger.api.engine.exceptions.FailedToInstantiateEntityException;
+import com.google.inject.Singleton;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@link TileFactory} should be used for creating instances of {@link SpriteEntity} that will be part of a
  * {@link TileMap}. For such instances, only a {@link Class}, its {@link Coordinate2D} and its {@link Size}
  * will be supplied, after which a {@link TileFactory} will be responsible for creating instances.
  * <p>
+ * The constructor of each {@link Class} is only looked up once, after which a {@link MethodHandle} to it is
+ * reused for all tiles of that {@link Class}. Alternatively, a {@link TileSupplier} can be used, which requires no
+ * reflection at all.
+ * <p>
  * By default a {@link SpriteEntity} created by the {@link TileFactory} will not preserver the aspect ratio of
  * the sprite.
  */
+@Singleton
 public class TileFactory {
 
     private static final String MESSAGE_INVALID_CONSTRUCTOR_EXCEPTION = "An Entity used for a Tilemap should have a constructor that accepts" +
             " exactly two parameters: An instance of Location and of Size.";
     private static final String MESSAGE_FAILED_TO_INSTANTIATE_ENTITY = "Unable to instantiate an Entity for the entitymap";
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(SpriteEntity.class, Coordinate2D.class, Size.class);
+
+    private final Map<Class<? extends SpriteEntity>, MethodHandle> constructors = new ConcurrentHashMap<>();
 
     public YaegerEntity create(final Class<? extends SpriteEntity> entityClass, final Coordinate2D location, final Size size) {
+        var constructor = getConstructor(entityClass);
         SpriteEntity entity;
 
-        Constructor<? extends SpriteEntity> declaredConstructor = null;
-
         try {
-            declaredConstructor = entityClass.getDeclaredConstructor(Coordinate2D.class, Size.class);
-        } catch (NoSuchMethodException e) {
-            throw new InvalidConstructorException(MESSAGE_INVALID_CONSTRUCTOR_EXCEPTION, e);
+            entity = (SpriteEntity) constructor.invokeExact(location, size);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // Only instances of Exception are left, thrown by the constructor of the entity
+            throw new FailedToInstantiateEntityException(MESSAGE_FAILED_TO_INSTANTIATE_ENTITY, new InvocationTargetException(e));
         }
 
-        try {
-            entity = declaredConstructor.newInstance(location, size);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new FailedToInstantiateEntityException(MESSAGE_FAILED_TO_INSTANTIATE_ENTITY, e);
-        }
+        entity.setPreserveAspectRatio(false);
+        return entity;
+    }
+
+    /**
+     * Create a tile using the given {@link TileSupplier}.
+     *
+     * @param tileSupplier the {@link TileSupplier} that creates the {@link SpriteEntity}
+     * @param location     the {@link Coordinate2D} of the tile
+     * @param size         the {@link Size} of the tile
+     * @return the created {@link SpriteEntity}
+     */
+    public YaegerEntity createFromSupplier(final TileSupplier<?> tileSupplier, final Coordinate2D location, final Size size) {
+        var entity = tileSupplier.create(location, size);
 
         entity.setPreserveAspectRatio(false);
         return entity;
     }
+
+    private MethodHandle getConstructor(final Class<? extends SpriteEntity> entityClass) {
+        var constructor = constructors.get(entityClass);
+
+        if (constructor == null) {
+            constructor = lookupConstructor(entityClass);
+            constructors.put(entityClass, constructor);
+        }
+        return constructor;
+    }
+
+    private MethodHandle lookupConstructor(final Class<? extends SpriteEntity> entityClass) {
+        try {
+            var declaredConstructor = entityClass.getDeclaredConstructor(Coordinate2D.class, Size.class);
+            TileFactory.class.getModule().addReads(entityClass.getModule());
+
+            return MethodHandles.lookup().unreflectConstructor(declaredConstructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException e) {
+            throw new InvalidConstructorException(MESSAGE_INVALID_CONSTRUCTOR_EXCEPTION, e);
+        } catch (IllegalAccessException e) {
+            throw new FailedToInstantiateEntityException(MESSAGE_FAILED_TO_INSTANTIATE_ENTITY, e);
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+
+import java.util.Optional;
+
+/**
+ * A {@link TileLayer} is a {@link YaegerEntity} that contains a {@link Canvas} onto which the tiles of (a part of)
+ * a {@link TileMap} have been drawn. It replaces the many nodes that would otherwise be needed for all tiles
+ * with a single node.
+ */
+public class TileLayer extends YaegerEntity {
+
+    private final Canvas canvas;
+
+    /**
+     * Create a new {@link TileLayer}.
+     *
+     * @param location the {@link Coordinate2D} of the top-left corner of this {@link TileLayer}
+     * @param canvas   the {@link Canvas} onto which the tiles have been drawn
+     */
+    public TileLayer(final Coordinate2D location, final Canvas canvas) {
+        super(location);
+        this.canvas = canvas;
+    }
+
+    @Override
+    public Optional<? extends Node> getNode() {
+        return Optional.of(canvas);
+    }
+
+    @Override
+    public void setAnchorLocation(final Coordinate2D anchorLocation) {
+        super.setAnchorLocation(anchorLocation);
+        canvas.setLayoutX(anchorLocation.getX());
+        canvas.setLayoutY(anchorLocation.getY());
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+import com.github.hanyaeger.api.engine.media.atlas.TextureRegion;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import com.github.hanyaeger.api.javafx.canvas.CanvasFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link TileLayerBuilder} draws tiles onto instances of {@link TileLayer}. The area covered by the tiles is
+ * divided into square chunks, and each chunk that contains at least one tile becomes a {@link TileLayer}. This
+ * keeps the size of each {@link javafx.scene.canvas.Canvas} within the limits of the graphics hardware.
+ * <p>
+ * Only the first frame of the image of a tile is drawn. For each {@link Class} of tile only a single
+ * {@link SpriteEntity} is created, to acquire its image.
+ */
+class TileLayerBuilder {
+
+    static final int DEFAULT_CHUNK_SIZE = 2048;
+
+    private final TileFactory tileFactory;
+    private final ImageRepository imageRepository;
+    private final CanvasFactory canvasFactory;
+    private final int chunkSize;
+
+    private final Map<Long, List<Tile>> chunks = new LinkedHashMap<>();
+    private final Map<Class<? extends SpriteEntity>, TextureRegion> regions = new HashMap<>();
+
+    TileLayerBuilder(final TileFactory tileFactory, final ImageRepository imageRepository, final CanvasFactory canvasFactory) {
+        this(tileFactory, imageRepository, canvasFactory, DEFAULT_CHUNK_SIZE);
+    }
+
+    TileLayerBuilder(final TileFactory tileFactory, final ImageRepository imageRepository, final CanvasFactory canvasFactory, final int chunkSize) {
+        this.tileFactory = tileFactory;
+        this.imageRepository = imageRepository;
+        this.canvasFactory = canvasFactory;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Add a tile that should be drawn.
+     *
+     * @param entityClass  the {@link Class} of the {@link SpriteEntity} of which the image should be drawn
+     * @param tileSupplier the {@link TileSupplier} for the {@link Class}, or {@code null} if the {@link TileFactory}
+     *                     should create it
+     * @param location     the {@link Coordinate2D} of the top-left corner of the tile
+     * @param size         the {@link Size} of the tile
+     */
+    void add(final Class<? extends SpriteEntity> entityClass, final TileSupplier<?> tileSupplier, final Coordinate2D location, final Size size) {
+        var chunkX = (long) Math.floor(location.getX() / chunkSize);
+        var chunkY = (long) Math.floor(location.getY() / chunkSize);
+        var chunkKey = (chunkX << 32) ^ (chunkY & 0xffffffffL);
+
+        chunks.computeIfAbsent(chunkKey, key -> new ArrayList<>()).add(new Tile(entityClass, tileSupplier, location, size));
+    }
+
+    /**
+     * Draw all added tiles.
+     *
+     * @return a {@link List} containing a {@link TileLayer} for each chunk that contains tiles
+     */
+    List<TileLayer> build() {
+        var layers = new ArrayList<TileLayer>();
+
+        for (var tiles : chunks.values()) {
+            layers.add(createLayer(tiles));
+        }
+
+        return layers;
+    }
+
+    private TileLayer createLayer(final List<Tile> tiles) {
+        var minX = Double.MAX_VALUE;
+        var minY = Double.MAX_VALUE;
+        var maxX = -Double.MAX_VALUE;
+        var maxY = -Double.MAX_VALUE;
+
+        for (var tile : tiles) {
+            minX = Math.min(minX, tile.location.getX());
+            minY = Math.min(minY, tile.location.getY());
+            maxX = Math.max(maxX, tile.location.getX() + tile.size.getWidth());
+            maxY = Math.max(maxY, tile.location.getY() + tile.size.getHeight());
+        }
+
+        var canvas = canvasFactory.create(Math.ceil(maxX - minX), Math.ceil(maxY - minY));
+        var graphicsContext = canvas.getGraphicsContext2D();
+
+        for (var tile : tiles) {
+            var region = regions.computeIfAbsent(tile.entityClass, entityClass -> createRegion(tile));
+            var viewport = region.getViewport();
+
+            graphicsContext.drawImage(region.getImage(),
+                    viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+                    tile.location.getX() - minX, tile.location.getY() - minY, tile.size.getWidth(), tile.size.getHeight());
+        }
+
+        return new TileLayer(new Coordinate2D(minX, minY), canvas);
+    }
+
+    private TextureRegion createRegion(final Tile tile) {
+        var origin = new Coordinate2D(0, 0);
+        var prototype = (SpriteEntity) (tile.tileSupplier == null
+                ? tileFactory.create(tile.entityClass, origin, tile.size)
+                : tileFactory.createFromSupplier(tile.tileSupplier, origin, tile.size));
+
+        return prototype.createFirstFrameRegion(imageRepository);
+    }
+
+    private static class Tile {
+
+        private final Class<? extends SpriteEntity> entityClass;
+        private final TileSupplier<?> tileSupplier;
+        private final Coordinate2D location;
+        private final Size size;
+
+        private Tile(final Class<? extends SpriteEntity> entityClass, final TileSupplier<?> tileSupplier, final Coordinate2D location, final Size size) {
+            this.entityClass = entityClass;
+            this.tileSupplier = tileSupplier;
+            this.location = location;
+            this.size = size;
+        }
+    }
+}
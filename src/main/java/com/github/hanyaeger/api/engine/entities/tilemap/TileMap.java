@@ -12,7 +12,9 @@ import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import com.github.hanyaeger.api.engine.exceptions.EntityNotAvailableException;
 import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
 import com.github.hanyaeger.api.engine.scenes.DimensionsProvider;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.engine.scenes.YaegerScene;
+import com.github.hanyaeger.api.javafx.canvas.CanvasFactory;
 
 import java.util.*;
 
@@ -23,13 +25,22 @@ import java.util.*;
  * the full width of the {@link YaegerScene} must be used for placing the tiles.
  * For this, it will require both tiles to be added, as a map to be defined. Based on those, it will automatically
  * calculate the width, height and placement of all tiles.
+ * <p>
+ * By default each tile becomes a separate {@link SpriteEntity}. For large maps, the {@link TileMapRenderMode#CANVAS}
+ * can be used, in which case the tiles are drawn onto a few instances of {@link TileLayer}.
  */
 public abstract class TileMap extends EntitySupplier implements Anchorable, Activatable {
 
     private final Map<Integer, Class<? extends SpriteEntity>> entities = new HashMap<>();
+    private final Map<Integer, TileSupplier<?>> tileSuppliers = new HashMap<>();
 
     private int[][] map;
     private transient TileFactory tileFactory;
+    private transient ImageRepository imageRepository;
+    private transient CanvasFactory canvasFactory;
+    private transient TileMapLoader tileMapLoader;
+    private transient TileMapRenderMode renderMode = TileMapRenderMode.ENTITIES;
+    private transient TileCollisionGrid collisionGrid;
     protected transient Optional<Size> size = Optional.empty();
     protected final transient Optional<Coordinate2D> location;
     private transient AnchorPoint anchorPoint = AnchorPoint.TOP_LEFT;
@@ -83,6 +94,24 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
      */
     public abstract int[][] defineMap();
 
+    /**
+     * Load a map from a file on the class path, to be returned from {@link #defineMap()}. Files ending with
+     * {@link TileMapLoader#BINARY_EXTENSION} are read in the compact binary format, all other files are read as CSV.
+     * <pre>
+     *     {@code
+     *         public int[][] defineMap() {
+     *             return loadMap("levels/level1.csv");
+     *         }
+     *     }
+     * </pre>
+     *
+     * @param resource the path to the file, which should be available on the class path
+     * @return the two dimensional array representing the map
+     */
+    protected int[][] loadMap(final String resource) {
+        return tileMapLoader.load(resource);
+    }
+
     /**
      * Add the {@link Class} of an {@link SpriteEntity} that can be used in this {@link TileMap}. Each added
      * {@link SpriteEntity} {@link Class}must have an identifier for reference from the map. This method should only be called
@@ -94,6 +123,47 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
      */
     public void addEntity(final int identifier, final Class<? extends SpriteEntity> entityClass) {
         entities.put(identifier, entityClass);
+        tileSuppliers.remove(identifier);
+    }
+
+    /**
+     * Add the {@link Class} of an {@link SpriteEntity} that can be used in this {@link TileMap}, together with a
+     * {@link TileSupplier} that creates its instances. Using a {@link TileSupplier}, such as a constructor reference,
+     * avoids the use of reflection when creating the tiles. This method should only be called from the lifecycle
+     * method {@link TileMap#setupEntities()}.
+     * <pre>
+     *     {@code
+     *         addEntity(1, Wall.class, Wall::new);
+     *     }
+     * </pre>
+     *
+     * @param identifier   The identifier as an {@code int} to be used from the map.
+     * @param entityClass  The {@link Class} of a subclass of {@link SpriteEntity} to be
+     *                     used for the given identifier.
+     * @param tileSupplier The {@link TileSupplier} that creates the instances of the {@link SpriteEntity}.
+     * @param <T>          The type of the {@link SpriteEntity}.
+     */
+    public <T extends SpriteEntity> void addEntity(final int identifier, final Class<T> entityClass, final TileSupplier<T> tileSupplier) {
+        entities.put(identifier, entityClass);
+        tileSuppliers.put(identifier, tileSupplier);
+    }
+
+    /**
+     * Set the {@link TileMapRenderMode} that should be used. By default {@link TileMapRenderMode#ENTITIES} is used.
+     *
+     * @param renderMode the {@link TileMapRenderMode} to be used
+     */
+    public void setRenderMode(final TileMapRenderMode renderMode) {
+        this.renderMode = renderMode;
+    }
+
+    /**
+     * Return the {@link TileMapRenderMode} of this {@link TileMap}.
+     *
+     * @return the {@link TileMapRenderMode}
+     */
+    public TileMapRenderMode getRenderMode() {
+        return renderMode;
     }
 
     private void transformMapToEntities() {
@@ -113,6 +183,8 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
             throw new YaegerEngineException("No Size or Location is set for this TileMap. Has setDimensionProvider been called?");
         }
 
+        var tileLayerBuilder = createTileLayerBuilder();
+
         for (int i = 0; i < map.length; i++) {
             var entityHeight = height / map.length;
             var entityY = i * entityHeight;
@@ -121,19 +193,92 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
                 if (key != 0) {
                     var entityWidth = width / map[i].length;
 
-                    var entityClass = entities.get(key);
+                    var entityLocation = new Coordinate2D(Math.round(x + (j * entityWidth)), Math.round(y + entityY));
+                    var entitySize = new Size(Math.ceil(entityWidth), Math.ceil(entityHeight));
 
-                    if (entityClass == null) {
-                        throw new EntityNotAvailableException("An Entity with key \"" + key + "\" has not been added to the TileMap.");
-                    }
+                    placeTile(key, entityLocation, entitySize, tileLayerBuilder, this);
+                }
+            }
+        }
 
-                    var entity = tileFactory.create(entityClass,
-                            new Coordinate2D(Math.round(x + (j * entityWidth)), Math.round(y + entityY)),
-                            new Size(Math.ceil(entityWidth), Math.ceil(entityHeight)));
+        if (tileLayerBuilder != null) {
+            addAll(0, tileLayerBuilder.build());
 
-                    add(entity);
-                }
+            var rowTileWidths = new double[map.length];
+            for (int i = 0; i < map.length; i++) {
+                rowTileWidths[i] = width / map[i].length;
             }
+            collisionGrid = createCollisionGrid(map, x, y, height / map.length, rowTileWidths);
+        }
+    }
+
+    /**
+     * Return the {@link TileCollisionGrid} that contains the solid tiles of this {@link TileMap}. It is only
+     * present when the {@link TileMapRenderMode#CANVAS} is used.
+     *
+     * @return an {@link Optional} containing the {@link TileCollisionGrid}
+     */
+    public Optional<TileCollisionGrid> getCollisionGrid() {
+        return Optional.ofNullable(collisionGrid);
+    }
+
+    /**
+     * Create a {@link TileCollisionGrid} for the given map.
+     *
+     * @param map           the map for which a {@link TileCollisionGrid} should be created
+     * @param originX       the x-coordinate of the top-left corner of the map
+     * @param originY       the y-coordinate of the top-left corner of the map
+     * @param rowHeight     the height of a row of tiles
+     * @param rowTileWidths the width of a tile, for each row
+     * @return a new {@link TileCollisionGrid}
+     */
+    TileCollisionGrid createCollisionGrid(final int[][] map, final double originX, final double originY, final double rowHeight, final double[] rowTileWidths) {
+        return new TileCollisionGrid(map, entities, originX, originY, rowHeight, rowTileWidths);
+    }
+
+    /**
+     * Set the {@link TileCollisionGrid} of this {@link TileMap}.
+     *
+     * @param collisionGrid the {@link TileCollisionGrid} to be used
+     */
+    void setCollisionGrid(final TileCollisionGrid collisionGrid) {
+        this.collisionGrid = collisionGrid;
+    }
+
+    /**
+     * Create a {@link TileLayerBuilder} if this {@link TileMap} uses {@link TileMapRenderMode#CANVAS}.
+     *
+     * @return a {@link TileLayerBuilder}, or {@code null} if the tiles should become separate entities
+     */
+    TileLayerBuilder createTileLayerBuilder() {
+        return renderMode == TileMapRenderMode.CANVAS ? new TileLayerBuilder(tileFactory, imageRepository, canvasFactory) : null;
+    }
+
+    /**
+     * Place a single tile, either by adding it to the {@link TileLayerBuilder}, or by creating a {@link SpriteEntity}
+     * and adding it to the given {@link List}.
+     *
+     * @param key              the key of the tile, as used in the map
+     * @param location         the {@link Coordinate2D} of the top-left corner of the tile
+     * @param size             the {@link Size} of the tile
+     * @param tileLayerBuilder the {@link TileLayerBuilder} to be used, or {@code null}
+     * @param entities         the {@link List} to which a created {@link SpriteEntity} should be added
+     */
+    void placeTile(final int key, final Coordinate2D location, final Size size, final TileLayerBuilder tileLayerBuilder, final List<YaegerEntity> entities) {
+        var entityClass = this.entities.get(key);
+
+        if (entityClass == null) {
+            throw new EntityNotAvailableException("An Entity with key \"" + key + "\" has not been added to the TileMap.");
+        }
+
+        var tileSupplier = tileSuppliers.get(key);
+
+        if (tileLayerBuilder != null) {
+            tileLayerBuilder.add(entityClass, tileSupplier, location, size);
+        } else if (tileSupplier != null) {
+            entities.add(tileFactory.createFromSupplier(tileSupplier, location, size));
+        } else {
+            entities.add(tileFactory.create(entityClass, location, size));
         }
     }
 
@@ -187,6 +332,21 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
         this.tileFactory = tileFactory;
     }
 
+    @Inject
+    public void setTileMapLoader(final TileMapLoader tileMapLoader) {
+        this.tileMapLoader = tileMapLoader;
+    }
+
+    @Inject
+    public void setImageRepository(final ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+
+    @Inject
+    public void setCanvasFactory(final CanvasFactory canvasFactory) {
+        this.canvasFactory = canvasFactory;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,242 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.engine.media.ResourceConsumer;
+import com.google.inject.Singleton;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A {@link TileMapLoader} reads the map of a {@link TileMap} from a file on the class path, instead of it being
+ * defined as an {@code int[][]} literal. Two formats are supported:
+ * <ul>
+ *     <li>CSV, where each line is a row and each value is separated by a comma. This is the format exported
+ *     by most tile map editors.</li>
+ *     <li>A compact binary format, which is run-length encoded. Files in this format can be created from an
+ *     existing map through {@link #write(int[][], OutputStream)}.</li>
+ * </ul>
+ * Both formats are read as a stream, directly into the rows of the resulting map.
+ */
+@Singleton
+public class TileMapLoader implements ResourceConsumer {
+
+    /**
+     * The extension of a file in the binary format.
+     */
+    public static final String BINARY_EXTENSION = ".ytm";
+
+    static final int MAGIC = 0x59544D31;
+    private static final String MESSAGE_INVALID_FORMAT = "The resource is not a valid binary tile map: ";
+    private static final String MESSAGE_INVALID_CSV = "Invalid value in CSV tile map: ";
+    private static final String MESSAGE_FAILED_TO_READ = "Unable to read tile map: ";
+
+    /**
+     * Load the map from the given resource. If the resource ends with {@link #BINARY_EXTENSION} it is read as a
+     * binary map, otherwise it is read as a CSV file.
+     *
+     * @param resource the path to the resource, which should be available on the class path
+     * @return the map as a two dimensional array of type {@code int}
+     */
+    public int[][] load(final String resource) {
+        if (resource.endsWith(BINARY_EXTENSION)) {
+            return loadBinary(resource);
+        } else {
+            return loadCsv(resource);
+        }
+    }
+
+    /**
+     * Load the map from a CSV file.
+     *
+     * @param resource the path to the CSV file, which should be available on the class path
+     * @return the map as a two dimensional array of type {@code int}
+     */
+    public int[][] loadCsv(final String resource) {
+        try (var inputStream = open(resource)) {
+            return readCsv(inputStream);
+        } catch (IOException e) {
+            throw new YaegerEngineException(MESSAGE_FAILED_TO_READ + resource, e);
+        }
+    }
+
+    /**
+     * Load the map from a file in the binary format.
+     *
+     * @param resource the path to the binary file, which should be available on the class path
+     * @return the map as a two dimensional array of type {@code int}
+     */
+    public int[][] loadBinary(final String resource) {
+        try (var inputStream = open(resource)) {
+            return readBinary(inputStream);
+        } catch (IOException e) {
+            throw new YaegerEngineException(MESSAGE_FAILED_TO_READ + resource, e);
+        }
+    }
+
+    /**
+     * Write the given map in the binary format. The format consists of a header with a magic number, the number of
+     * rows and the number of columns, followed by the runs of the map in row-major order. Each run is the length
+     * of the run and its value, both as a variable length integer.
+     *
+     * @param map          the map to be written. All rows should have the same length, and all values should be
+     *                     positive
+     * @param outputStream the {@link OutputStream} to write to
+     * @throws IOException if writing to the {@link OutputStream} fails
+     */
+    public void write(final int[][] map, final OutputStream outputStream) throws IOException {
+        var rows = map.length;
+        var columns = rows == 0 ? 0 : map[0].length;
+        var output = new DataOutputStream(new BufferedOutputStream(outputStream));
+
+        output.writeInt(MAGIC);
+        output.writeInt(rows);
+        output.writeInt(columns);
+
+        var runValue = 0;
+        var runLength = 0;
+
+        for (var row : map) {
+            if (row.length != columns) {
+                throw new YaegerEngineException("All rows of a binary tile map should have the same length.");
+            }
+            for (var value : row) {
+                if (value < 0) {
+                    throw new YaegerEngineException("A binary tile map can only contain positive values.");
+                }
+                if (runLength > 0 && value == runValue) {
+                    runLength++;
+                } else {
+                    if (runLength > 0) {
+                        writeVarInt(output, runLength);
+                        writeVarInt(output, runValue);
+                    }
+                    runValue = value;
+                    runLength = 1;
+                }
+            }
+        }
+
+        if (runLength > 0) {
+            writeVarInt(output, runLength);
+            writeVarInt(output, runValue);
+        }
+
+        output.flush();
+    }
+
+    int[][] readCsv(final InputStream inputStream) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        var rows = new ArrayList<int[]>();
+        var row = new int[64];
+        var columns = 0;
+        var value = 0;
+        var negative = false;
+        var hasDigits = false;
+        var lineHasContent = false;
+
+        int character;
+        do {
+            character = reader.read();
+
+            if (character >= '0' && character <= '9') {
+                value = value * 10 + (character - '0');
+                hasDigits = true;
+                lineHasContent = true;
+            } else if (character == '-' && !hasDigits && !negative) {
+                negative = true;
+                lineHasContent = true;
+            } else if (character == ',' || character == '\n' || character == -1) {
+                // A trailing comma at the end of a line does not start a new column
+                if (character == ',' || hasDigits || negative) {
+                    if (negative && !hasDigits) {
+                        throw new YaegerEngineException(MESSAGE_INVALID_CSV + "-");
+                    }
+                    if (columns == row.length) {
+                        row = Arrays.copyOf(row, row.length * 2);
+                    }
+                    row[columns++] = negative ? -value : value;
+                    lineHasContent = true;
+                }
+                value = 0;
+                negative = false;
+                hasDigits = false;
+
+                if (character != ',' && lineHasContent) {
+                    rows.add(Arrays.copyOf(row, columns));
+                    columns = 0;
+                    lineHasContent = false;
+                }
+            } else if (!Character.isWhitespace(character)) {
+                throw new YaegerEngineException(MESSAGE_INVALID_CSV + (char) character);
+            }
+        } while (character != -1);
+
+        return rows.toArray(new int[0][]);
+    }
+
+    int[][] readBinary(final InputStream inputStream) throws IOException {
+        var input = new DataInputStream(new BufferedInputStream(inputStream));
+
+        if (input.readInt() != MAGIC) {
+            throw new YaegerEngineException(MESSAGE_INVALID_FORMAT + "unknown header");
+        }
+
+        var rows = input.readInt();
+        var columns = input.readInt();
+
+        if (rows < 0 || columns < 0) {
+            throw new YaegerEngineException(MESSAGE_INVALID_FORMAT + "negative dimensions");
+        }
+
+        var map = new int[rows][columns];
+        var cells = (long) rows * columns;
+        var cell = 0L;
+
+        while (cell < cells) {
+            var runLength = readVarInt(input);
+            var runValue = readVarInt(input);
+
+            if (runLength <= 0 || cell + runLength > cells) {
+                throw new YaegerEngineException(MESSAGE_INVALID_FORMAT + "invalid run length");
+            }
+
+            for (var i = 0; i < runLength; i++, cell++) {
+                map[(int) (cell / columns)][(int) (cell % columns)] = runValue;
+            }
+        }
+
+        return map;
+    }
+
+    private InputStream open(final String resource) throws IOException {
+        return new URL(createPathForResource(resource)).openStream();
+    }
+
+    private static void writeVarInt(final DataOutputStream output, final int value) throws IOException {
+        var remaining = value;
+
+        while ((remaining & ~0x7F) != 0) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte(remaining);
+    }
+
+    private static int readVarInt(final DataInputStream input) throws IOException {
+        var value = 0;
+
+        for (var shift = 0; shift < 32; shift += 7) {
+            var b = input.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new YaegerEngineException(MESSAGE_INVALID_FORMAT + "invalid variable length integer");
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+/**
+ * The {@link TileMapRenderMode} denotes how the tiles of a {@link TileMap} are added to the
+ * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+ */
+public enum TileMapRenderMode {
+    /**
+     * Each tile becomes a separate {@link com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity}.
+     */
+    ENTITIES,
+    /**
+     * Tiles are drawn onto a few large {@link javafx.scene.canvas.Canvas} layers. Tiles that are a
+     * {@link com.github.hanyaeger.api.engine.entities.entity.collisions.Collider} take part in collision detection
+     * through a {@link TileCollisionGrid}.
+     */
+    CANVAS
+}
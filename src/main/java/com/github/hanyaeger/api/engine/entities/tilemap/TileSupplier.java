@@ -0,0 +1,25 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+
+/**
+ * A {@link TileSupplier} creates the {@link SpriteEntity} for a tile of a {@link TileMap}. In general it is a
+ * reference to the constructor of the {@link SpriteEntity}, such as {@code Wall::new}, which avoids the
+ * use of reflection when creating the tiles.
+ *
+ * @param <T> the type of the {@link SpriteEntity}
+ */
+@FunctionalInterface
+public interface TileSupplier<T extends SpriteEntity> {
+
+    /**
+     * Create the {@link SpriteEntity} for a tile.
+     *
+     * @param location the {@link Coordinate2D} of the tile
+     * @param size     the {@link Size} of the tile
+     * @return a new {@link SpriteEntity}
+     */
+    T create(final Coordinate2D location, final Size size);
+}
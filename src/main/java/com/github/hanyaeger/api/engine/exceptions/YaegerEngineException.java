@@ -25,4 +25,15 @@ public class YaegerEngineException extends RuntimeException {
     public YaegerEngineException(final Exception e) {
         super(e);
     }
+
+    /**
+     * Create a new {@link YaegerEngineException} with the given message, that was caused by a caught
+     * {@link Exception}.
+     *
+     * @param message the message of this exception as a {@link String}
+     * @param e       the {@link Exception} that caused this {@link YaegerEngineException}
+     */
+    public YaegerEngineException(final String message, final Exception e) {
+        super(message, e);
+    }
 }
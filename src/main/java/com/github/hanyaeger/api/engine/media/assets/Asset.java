@@ -0,0 +1,27 @@
+package com.github.hanyaeger.api.engine.media.assets;
+
+import com.github.hanyaeger.api.engine.media.repositories.AudioRepository;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+
+/**
+ * An {@link Asset} is a media file, such as an image or an audio file, that can be loaded ahead of time by
+ * the {@link AssetPreloader}. After being loaded, the decoded media is available from the repository through
+ * which it was loaded.
+ */
+public interface Asset {
+
+    /**
+     * Load this {@link Asset} through the appropriate repository. This method can be called from any thread.
+     *
+     * @param imageRepository the {@link ImageRepository} to be used for loading images
+     * @param audioRepository the {@link AudioRepository} to be used for loading audio files
+     */
+    void load(final ImageRepository imageRepository, final AudioRepository audioRepository);
+
+    /**
+     * Return whether this {@link Asset} has been loaded.
+     *
+     * @return {@code true} if {@link #load(ImageRepository, AudioRepository)} has completed, {@code false} otherwise
+     */
+    boolean isLoaded();
+}
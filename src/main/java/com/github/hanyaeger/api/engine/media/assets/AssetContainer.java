@@ -0,0 +1,47 @@
+package com.github.hanyaeger.api.engine.media.assets;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.engine.scenes.YaegerScene;
+
+/**
+ * When implementing this interface, the {@link #setupAssets()} method needs to be implemented.
+ * This interface can be used with a {@link YaegerScene} and ensures that all instances of {@link Asset} added
+ * from {@link #setupAssets()} are loaded on a background thread, before the {@link YaegerScene} is activated.
+ * <p>
+ * Without preloading, an image is decoded the first time an Entity that uses it is initialized, which
+ * can cause the first frames of a {@link YaegerScene} to stutter.
+ * <p>
+ * While the {@link Asset}s are being loaded, the previous {@link YaegerScene} remains active. It can show
+ * the loading progress through {@link com.github.hanyaeger.api.engine.scenes.StaticScene#getAssetLoadingProgress()}.
+ */
+public interface AssetContainer extends AssetListProvider {
+
+    /**
+     * Use this method to add the instances of {@link Asset} that should be loaded before this
+     * {@link YaegerScene} is activated, using {@link #addAsset(Asset)}.
+     */
+    void setupAssets();
+
+    /**
+     * Add an {@link Asset} that should be loaded before the {@link YaegerScene} is activated.
+     *
+     * @param asset the {@link Asset} to be added
+     */
+    default void addAsset(final Asset asset) {
+        if (getAssets() != null) {
+            if (!getAssets().contains(asset)) {
+                getAssets().add(asset);
+            }
+        } else {
+            throw new YaegerEngineException("getAssets() returns null, please return an instance of ArrayList<>");
+        }
+    }
+
+    /**
+     * Clear the {@link Asset}s from a previous activation and call {@link #setupAssets()}.
+     */
+    default void initAssets() {
+        getAssets().clear();
+        setupAssets();
+    }
+}
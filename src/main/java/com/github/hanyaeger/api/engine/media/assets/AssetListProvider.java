@@ -0,0 +1,17 @@
+package com.github.hanyaeger.api.engine.media.assets;
+
+import java.util.List;
+
+/**
+ * Implementing the {@link AssetListProvider} interface guarantees that a {@link List} of
+ * instances of {@link Asset} is available.
+ */
+public interface AssetListProvider {
+
+    /**
+     * Return the {@link List} of {@link Asset} instances.
+     *
+     * @return the {@link List} of {@link Asset} instances
+     */
+    List<Asset> getAssets();
+}
@@ -0,0 +1,179 @@
+package com.github.hanyaeger.api.engine.media.assets;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.engine.media.repositories.AudioRepository;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@link AssetPreloader} loads instances of {@link Asset} in parallel on a pool of background threads. When
+ * all {@link Asset}s have been loaded, the callback passed to {@link #preload(Collection, Runnable)} is called
+ * on the JavaFX Application Thread. If one of them could not be loaded, the failure callback passed to
+ * {@link #preload(Collection, Runnable, Runnable)} is called instead, after which the failure is raised.
+ * <p>
+ * Only one batch of {@link Asset}s is tracked at a time. Starting a new batch makes the progress of the
+ * previous batch unavailable, and its callback will no longer be called.
+ */
+@Singleton
+public class AssetPreloader {
+
+    private static final String THREAD_NAME = "yaeger-asset-preloader-";
+
+    private ImageRepository imageRepository;
+    private AudioRepository audioRepository;
+    private ExecutorService executorService;
+    private Executor callbackExecutor = Platform::runLater;
+
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile int total = 0;
+    private final AtomicInteger loaded = new AtomicInteger();
+
+    /**
+     * Load all given {@link Asset}s on a background thread. After all {@link Asset}s are loaded, the
+     * {@code onFinished} callback is called on the JavaFX Application Thread.
+     *
+     * @param assets     a {@link Collection} of {@link Asset} instances that should be loaded
+     * @param onFinished the {@link Runnable} to be called after all {@link Asset}s have been loaded
+     * @throws YaegerEngineException thrown on the JavaFX Application Thread if one of the {@link Asset}s could not
+     *                               be loaded
+     */
+    public void preload(final Collection<? extends Asset> assets, final Runnable onFinished) {
+        preload(assets, onFinished, () -> {
+        });
+    }
+
+    /**
+     * Load all given {@link Asset}s on a background thread. After all {@link Asset}s are loaded, the
+     * {@code onFinished} callback is called on the JavaFX Application Thread. If one of the {@link Asset}s could not
+     * be loaded, the {@code onFailed} callback is called instead, before the failure is raised.
+     *
+     * @param assets     a {@link Collection} of {@link Asset} instances that should be loaded
+     * @param onFinished the {@link Runnable} to be called after all {@link Asset}s have been loaded
+     * @param onFailed   the {@link Runnable} to be called if one of the {@link Asset}s could not be loaded
+     * @throws YaegerEngineException thrown on the JavaFX Application Thread if one of the {@link Asset}s could not
+     *                               be loaded
+     */
+    public void preload(final Collection<? extends Asset> assets, final Runnable onFinished, final Runnable onFailed) {
+        var batch = new ArrayList<Asset>(assets);
+        var currentGeneration = generation.incrementAndGet();
+        var failure = new AtomicReference<RuntimeException>();
+        var remaining = new AtomicInteger(batch.size());
+
+        total = batch.size();
+        loaded.set(0);
+
+        if (batch.isEmpty()) {
+            callbackExecutor.execute(onFinished);
+            return;
+        }
+
+        for (final var asset : batch) {
+            getExecutorService().execute(() -> {
+                try {
+                    if (!asset.isLoaded()) {
+                        asset.load(imageRepository, audioRepository);
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+
+                if (generation.get() == currentGeneration) {
+                    loaded.incrementAndGet();
+                }
+
+                if (remaining.decrementAndGet() == 0) {
+                    callbackExecutor.execute(() -> finish(currentGeneration, failure.get(), onFinished, onFailed));
+                }
+            });
+        }
+    }
+
+    /**
+     * Return the progress of the batch of {@link Asset}s that is currently being loaded.
+     *
+     * @return a {@code double} between 0 and 1. If no {@link Asset}s are being loaded, 1 is returned
+     */
+    public double getProgress() {
+        if (total == 0) {
+            return 1;
+        }
+
+        return Math.min(1, (double) loaded.get() / total);
+    }
+
+    /**
+     * Return whether a batch of {@link Asset}s is currently being loaded.
+     *
+     * @return {@code true} if not all {@link Asset}s have been loaded yet, {@code false} otherwise
+     */
+    public boolean isLoading() {
+        return getProgress() < 1;
+    }
+
+    private void finish(final int batchGeneration, final RuntimeException failure, final Runnable onFinished,
+                        final Runnable onFailed) {
+        if (generation.get() != batchGeneration) {
+            return;
+        }
+
+        if (failure != null) {
+            onFailed.run();
+            throw new YaegerEngineException(failure);
+        }
+
+        onFinished.run();
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            var threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            var threadNumber = new AtomicInteger();
+
+            executorService = Executors.newFixedThreadPool(threadCount, runnable -> {
+                var thread = new Thread(runnable, THREAD_NAME + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executorService;
+    }
+
+    /**
+     * Set the {@link Executor} on which the callbacks should be executed. By default this is the
+     * JavaFX Application Thread.
+     *
+     * @param callbackExecutor the {@link Executor} to be used
+     */
+    void setCallbackExecutor(final Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Set the {@link ExecutorService} on which the {@link Asset}s should be loaded.
+     *
+     * @param executorService the {@link ExecutorService} to be used
+     */
+    void setExecutorService(final ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Inject
+    public void setImageRepository(final ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+
+    @Inject
+    public void setAudioRepository(final AudioRepository audioRepository) {
+        this.audioRepository = audioRepository;
+    }
+}
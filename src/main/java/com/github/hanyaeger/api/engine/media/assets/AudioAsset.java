@@ -0,0 +1,71 @@
+package com.github.hanyaeger.api.engine.media.assets;
+
+import com.github.hanyaeger.api.engine.media.repositories.AudioRepository;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import javafx.scene.media.AudioClip;
+
+import java.util.Objects;
+
+/**
+ * An {@link AudioAsset} is an {@link Asset} that encapsulates an audio file.
+ */
+public class AudioAsset implements Asset {
+
+    private final String url;
+    private final int cycleCount;
+    private volatile AudioClip audioClip;
+
+    /**
+     * Create a new {@link AudioAsset} for the given url, for a
+     * {@link com.github.hanyaeger.api.engine.media.audio.SoundClip} that is played once.
+     *
+     * @param url the url of the audio file. Relative to the resources folder
+     */
+    public AudioAsset(final String url) {
+        this(url, 1);
+    }
+
+    /**
+     * Create a new {@link AudioAsset} for the given url, for a
+     * {@link com.github.hanyaeger.api.engine.media.audio.SoundClip} with the given {@code cycleCount}.
+     *
+     * @param url        the url of the audio file. Relative to the resources folder
+     * @param cycleCount the {@code cycleCount} of the {@link com.github.hanyaeger.api.engine.media.audio.SoundClip}
+     */
+    public AudioAsset(final String url, final int cycleCount) {
+        this.url = url;
+        this.cycleCount = cycleCount;
+    }
+
+    @Override
+    public void load(final ImageRepository imageRepository, final AudioRepository audioRepository) {
+        audioClip = cycleCount == 1 ? audioRepository.get(url) : audioRepository.get(url, cycleCount);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return audioClip != null;
+    }
+
+    /**
+     * Return the {@link AudioClip} that was loaded.
+     *
+     * @return the {@link AudioClip}, or {@code null} if this {@link AudioAsset} has not yet been loaded
+     */
+    public AudioClip getAudioClip() {
+        return audioClip;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AudioAsset that = (AudioAsset) o;
+        return cycleCount == that.cycleCount && url.equals(that.url);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(url, cycleCount);
+    }
+}
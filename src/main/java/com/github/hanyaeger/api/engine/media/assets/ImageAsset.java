@@ -0,0 +1,92 @@
+package com.github.hanyaeger.api.engine.media.assets;
+
+import com.github.hanyaeger.api.engine.media.repositories.AudioRepository;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import javafx.scene.image.Image;
+
+import java.util.Objects;
+
+/**
+ * An {@link ImageAsset} is an {@link Asset} that encapsulates an image file. To ensure the preloaded
+ * {@link Image} is the one used by a {@link com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity},
+ * the {@code width} and {@code height} should be the same as those requested by that
+ * {@link com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity}.
+ */
+public class ImageAsset implements Asset {
+
+    private final String url;
+    private final double requestedWidth;
+    private final double requestedHeight;
+    private final boolean preserveRatio;
+    private final boolean sized;
+    private volatile Image image;
+
+    /**
+     * Create a new {@link ImageAsset} for the given url. The image will be loaded at its original size.
+     *
+     * @param url the url of the image file. Relative to the resources folder
+     */
+    public ImageAsset(final String url) {
+        this(url, 0, 0, false, false);
+    }
+
+    /**
+     * Create a new {@link ImageAsset} for the given url, which will be scaled to the given width and height.
+     *
+     * @param url             the url of the image file. Relative to the resources folder
+     * @param requestedWidth  the image's bounding box width
+     * @param requestedHeight the image's bounding box height
+     * @param preserveRatio   indicates whether to preserve the aspect ratio of the original image
+     */
+    public ImageAsset(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        this(url, requestedWidth, requestedHeight, preserveRatio, true);
+    }
+
+    private ImageAsset(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio, final boolean sized) {
+        this.url = url;
+        this.requestedWidth = requestedWidth;
+        this.requestedHeight = requestedHeight;
+        this.preserveRatio = preserveRatio;
+        this.sized = sized;
+    }
+
+    @Override
+    public void load(final ImageRepository imageRepository, final AudioRepository audioRepository) {
+        if (sized) {
+            image = imageRepository.get(url, requestedWidth, requestedHeight, preserveRatio);
+        } else {
+            image = imageRepository.get(url);
+        }
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return image != null;
+    }
+
+    /**
+     * Return the {@link Image} that was loaded.
+     *
+     * @return the {@link Image}, or {@code null} if this {@link ImageAsset} has not yet been loaded
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImageAsset that = (ImageAsset) o;
+        return Double.compare(that.requestedWidth, requestedWidth) == 0 &&
+                Double.compare(that.requestedHeight, requestedHeight) == 0 &&
+                preserveRatio == that.preserveRatio &&
+                sized == that.sized &&
+                url.equals(that.url);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(url, requestedWidth, requestedHeight, preserveRatio, sized);
+    }
+}
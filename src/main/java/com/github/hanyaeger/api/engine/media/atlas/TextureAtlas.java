@@ -0,0 +1,77 @@
+package com.github.hanyaeger.api.engine.media.atlas;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link TextureAtlas} is a single large {@link Image} that contains many smaller sprites. Rendering sprites
+ * from the same {@link TextureAtlas} means JavaFX only needs to upload and bind one texture, instead of one
+ * texture per sprite.
+ */
+public class TextureAtlas {
+
+    private final Image image;
+    private final Map<String, Rectangle2D> regions;
+
+    /**
+     * Create a new {@link TextureAtlas}.
+     *
+     * @param image   the {@link Image} that contains all sprites
+     * @param regions a {@link Map} with the key of each sprite, as created by
+     *                {@link #createKey(String, double, double, boolean)}, and the area it takes up in the {@link Image}
+     */
+    public TextureAtlas(final Image image, final Map<String, Rectangle2D> regions) {
+        this.image = image;
+        this.regions = Map.copyOf(regions);
+    }
+
+    /**
+     * Return the {@link TextureRegion} for the given key.
+     *
+     * @param key the key as created by {@link #createKey(String, double, double, boolean)}
+     * @return an {@link Optional} containing the {@link TextureRegion}, or an empty {@link Optional} if the sprite
+     * is not part of this {@link TextureAtlas}
+     */
+    public Optional<TextureRegion> getRegion(final String key) {
+        var viewport = regions.get(key);
+
+        if (viewport == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new TextureRegion(image, viewport));
+    }
+
+    /**
+     * Return the {@link Image} that contains all sprites.
+     *
+     * @return an {@link Image}
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Return the number of sprites that are part of this {@link TextureAtlas}.
+     *
+     * @return the number of sprites as an {@code int}
+     */
+    public int size() {
+        return regions.size();
+    }
+
+    /**
+     * Create the key that identifies a sprite within a {@link TextureAtlas}.
+     *
+     * @param url             the url of the image file
+     * @param requestedWidth  the image's bounding box width
+     * @param requestedHeight the image's bounding box height
+     * @param preserveRatio   whether the aspect ratio of the original image is preserved
+     * @return the key as a {@link String}
+     */
+    public static String createKey(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        return ((int) requestedWidth) + "-" + ((int) requestedHeight) + "-" + preserveRatio + "-" + url;
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.hanyaeger.api.engine.media.atlas;
+
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+import java.util.*;
+
+/**
+ * A {@link TextureAtlasBuilder} packs sprites into one or more instances of {@link TextureAtlas}. Sprites are
+ * packed in rows (shelves), with the highest sprites first. When a {@link TextureAtlas} is full, a new one is
+ * started.
+ * <p>
+ * Sprites that are larger than a single {@link TextureAtlas} are not packed.
+ */
+public class TextureAtlasBuilder {
+
+    /**
+     * The default width and height of a {@link TextureAtlas}, which is supported by all graphics hardware.
+     */
+    public static final int DEFAULT_ATLAS_SIZE = 2048;
+    static final int PADDING = 1;
+
+    private final ImageRepository imageRepository;
+    private final int atlasSize;
+    private final Map<String, Image> sprites = new LinkedHashMap<>();
+
+    /**
+     * Create a new {@link TextureAtlasBuilder} that creates instances of {@link TextureAtlas} of the default size.
+     *
+     * @param imageRepository the {@link ImageRepository} from which the images should be acquired
+     */
+    public TextureAtlasBuilder(final ImageRepository imageRepository) {
+        this(imageRepository, DEFAULT_ATLAS_SIZE);
+    }
+
+    /**
+     * Create a new {@link TextureAtlasBuilder}.
+     *
+     * @param imageRepository the {@link ImageRepository} from which the images should be acquired
+     * @param atlasSize       the width and height of a {@link TextureAtlas}
+     */
+    public TextureAtlasBuilder(final ImageRepository imageRepository, final int atlasSize) {
+        this.imageRepository = imageRepository;
+        this.atlasSize = atlasSize;
+    }
+
+    /**
+     * Add a sprite to be packed. Adding the same sprite multiple times, will only pack it once.
+     *
+     * @param url             the url of the image file
+     * @param requestedWidth  the image's bounding box width
+     * @param requestedHeight the image's bounding box height
+     * @param preserveRatio   whether the aspect ratio of the original image should be preserved
+     */
+    public void add(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        var key = TextureAtlas.createKey(url, requestedWidth, requestedHeight, preserveRatio);
+
+        if (!sprites.containsKey(key)) {
+            sprites.put(key, imageRepository.get(url, requestedWidth, requestedHeight, preserveRatio));
+        }
+    }
+
+    /**
+     * Pack all added sprites into one or more instances of {@link TextureAtlas}.
+     *
+     * @return a {@link List} of {@link TextureAtlas} instances
+     */
+    public List<TextureAtlas> build() {
+        var atlases = new ArrayList<TextureAtlas>();
+
+        for (var page : layout()) {
+            atlases.add(compose(page));
+        }
+
+        return atlases;
+    }
+
+    /**
+     * Calculate the placement of all sprites, without copying any pixels.
+     *
+     * @return a {@link List} of pages, where each page maps the key of a sprite to its area within the page
+     */
+    List<Map<String, Rectangle2D>> layout() {
+        var pages = new ArrayList<Map<String, Rectangle2D>>();
+
+        var packable = new ArrayList<Map.Entry<String, Image>>();
+        for (var entry : sprites.entrySet()) {
+            if (isPackable(entry.getValue())) {
+                packable.add(entry);
+            }
+        }
+        packable.sort(Comparator.comparingDouble((Map.Entry<String, Image> entry) -> entry.getValue().getHeight()).reversed());
+
+        Map<String, Rectangle2D> page = new LinkedHashMap<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+
+        for (var entry : packable) {
+            var width = (int) Math.ceil(entry.getValue().getWidth());
+            var height = (int) Math.ceil(entry.getValue().getHeight());
+
+            if (x + width > atlasSize) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+
+            if (y + height > atlasSize) {
+                pages.add(page);
+                page = new LinkedHashMap<>();
+                x = 0;
+                y = 0;
+                shelfHeight = 0;
+            }
+
+            page.put(entry.getKey(), new Rectangle2D(x, y, width, height));
+            x += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, height);
+        }
+
+        if (!page.isEmpty()) {
+            pages.add(page);
+        }
+
+        return pages;
+    }
+
+    private TextureAtlas compose(final Map<String, Rectangle2D> page) {
+        var usedWidth = 0;
+        var usedHeight = 0;
+
+        for (var region : page.values()) {
+            usedWidth = Math.max(usedWidth, (int) region.getMaxX());
+            usedHeight = Math.max(usedHeight, (int) region.getMaxY());
+        }
+
+        var atlasImage = new WritableImage(usedWidth, usedHeight);
+        var pixelWriter = atlasImage.getPixelWriter();
+
+        page.forEach((key, region) -> pixelWriter.setPixels((int) region.getMinX(), (int) region.getMinY(),
+                (int) region.getWidth(), (int) region.getHeight(), sprites.get(key).getPixelReader(), 0, 0));
+
+        return new TextureAtlas(atlasImage, page);
+    }
+
+    private boolean isPackable(final Image image) {
+        return image != null
+                && !image.isError()
+                && image.getPixelReader() != null
+                && image.getWidth() > 0
+                && image.getHeight() > 0
+                && image.getWidth() <= atlasSize
+                && image.getHeight() <= atlasSize;
+    }
+}
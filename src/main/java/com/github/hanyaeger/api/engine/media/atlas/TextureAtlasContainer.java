@@ -0,0 +1,20 @@
+package com.github.hanyaeger.api.engine.media.atlas;
+
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+import com.github.hanyaeger.api.engine.scenes.YaegerScene;
+
+/**
+ * Implementing this interface on a {@link YaegerScene} ensures the images of all instances of {@link SpriteEntity}
+ * that are added to the {@link YaegerScene} during activation, including those of a
+ * {@link com.github.hanyaeger.api.engine.entities.tilemap.TileMap}, are packed into one or more instances of
+ * {@link TextureAtlas}.
+ * <p>
+ * A {@link YaegerScene} that contains many different sprites, for instance a
+ * {@link com.github.hanyaeger.api.engine.entities.tilemap.TileMap} with many different tiles, is rendered using
+ * only a few large textures, which reduces the number of texture switches.
+ * <p>
+ * Instances of {@link SpriteEntity} that are spawned later on will use an existing {@link TextureAtlas} if their
+ * image is part of it. Otherwise they use their own image.
+ */
+public interface TextureAtlasContainer {
+}
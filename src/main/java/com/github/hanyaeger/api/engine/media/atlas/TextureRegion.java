@@ -0,0 +1,44 @@
+package com.github.hanyaeger.api.engine.media.atlas;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+/**
+ * A {@link TextureRegion} denotes the part of a {@link TextureAtlas} that contains a single sprite. It should be
+ * rendered by using the {@link #getImage()} of the {@link TextureAtlas} and the {@link #getViewport()} as the
+ * viewport of the {@link javafx.scene.image.ImageView}.
+ */
+public class TextureRegion {
+
+    private final Image image;
+    private final Rectangle2D viewport;
+
+    /**
+     * Create a new {@link TextureRegion}.
+     *
+     * @param image    the {@link Image} of the {@link TextureAtlas} that contains this {@link TextureRegion}
+     * @param viewport the {@link Rectangle2D} within the {@link Image} that contains the sprite
+     */
+    public TextureRegion(final Image image, final Rectangle2D viewport) {
+        this.image = image;
+        this.viewport = viewport;
+    }
+
+    /**
+     * Return the {@link Image} of the {@link TextureAtlas} that contains this {@link TextureRegion}.
+     *
+     * @return an {@link Image}
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Return the {@link Rectangle2D} within the {@link Image} that contains the sprite.
+     *
+     * @return a {@link Rectangle2D}
+     */
+    public Rectangle2D getViewport() {
+        return viewport;
+    }
+}
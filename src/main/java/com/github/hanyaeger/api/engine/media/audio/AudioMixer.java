@@ -0,0 +1,320 @@
+package com.github.hanyaeger.api.engine.media.audio;
+
+import com.google.inject.Singleton;
+import javafx.scene.media.AudioClip;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@link AudioMixer} decides whether a sound effect may actually be played. It limits the number of voices
+ * that play at the same time, both per {@link AudioClip} and in total, so a burst of sound effects can not stall
+ * the media thread.
+ * <ul>
+ *     <li>A sound effect that is requested again within the deduplication window, which is about one frame,
+ *     is only played once.</li>
+ *     <li>If an {@link AudioClip} already plays its maximum number of voices, the new voice is dropped.</li>
+ *     <li>If the total number of voices is reached, the voices of the {@link AudioClip} with the lowest priority
+ *     are stopped, provided that priority is not higher than the priority of the new voice. Otherwise the new
+ *     voice is dropped.</li>
+ * </ul>
+ * Since an {@link AudioClip} can not report the state of a single voice, each voice is released on its own once
+ * the maximum voice length has passed for each of its cycles. A voice that loops indefinitely is only released when
+ * its {@link AudioClip} stops playing, at which point all its voices are released.
+ */
+@Singleton
+public class AudioMixer {
+
+    /**
+     * The default maximum number of voices that can play at the same time.
+     */
+    public static final int DEFAULT_MAX_VOICES = 32;
+
+    /**
+     * The default maximum number of voices of a single {@link AudioClip} that can play at the same time.
+     */
+    public static final int DEFAULT_MAX_VOICES_PER_CLIP = 4;
+
+    /**
+     * The default window in nanoseconds within which identical sound effects are played only once.
+     */
+    public static final long DEFAULT_DEDUPLICATION_WINDOW = 16_000_000L;
+
+    /**
+     * The default time in nanoseconds after which a single cycle of a voice is considered to be finished.
+     */
+    public static final long DEFAULT_MAX_VOICE_LENGTH = 2_000_000_000L;
+
+    private static AudioMixer audioMixer;
+
+    private final Map<AudioClip, Voices> voices = new IdentityHashMap<>();
+    private LongSupplier clock = System::nanoTime;
+
+    private int maxVoices = DEFAULT_MAX_VOICES;
+    private int maxVoicesPerClip = DEFAULT_MAX_VOICES_PER_CLIP;
+    private long deduplicationWindow = DEFAULT_DEDUPLICATION_WINDOW;
+    private long maxVoiceLength = DEFAULT_MAX_VOICE_LENGTH;
+
+    public static synchronized AudioMixer getInstance() {
+        if (audioMixer == null) {
+            audioMixer = new AudioMixer();
+        }
+        return audioMixer;
+    }
+
+    /**
+     * Play the given {@link AudioClip}, if the limits of this {@link AudioMixer} allow it.
+     *
+     * @param audioClip the {@link AudioClip} to be played
+     * @param priority  the priority of the new voice. Voices with a higher priority can stop voices with a lower
+     *                  priority
+     * @return {@code true} if the {@link AudioClip} is played, {@code false} if it was dropped
+     */
+    public synchronized boolean play(final AudioClip audioClip, final int priority) {
+        return play(audioClip, audioClip, priority, audioClip.getCycleCount(), audioClip::play);
+    }
+
+    /**
+     * Play the given {@link AudioClip} with the given parameters, if the limits of this {@link AudioMixer} allow it.
+     * The parameters only apply to this voice, so an {@link AudioClip} can be shared by sound effects with different
+     * parameters.
+     *
+     * @param audioClip  the {@link AudioClip} to be played
+     * @param cycleCount the number of times the {@link AudioClip} should be played
+     * @param volume     the volume, between 0 and 1
+     * @param balance    the balance, between -1 (left) and 1 (right)
+     * @param rate       the playback rate, between 0.125 and 8
+     * @param pan        the pan, between -1 (left) and 1 (right)
+     * @param priority   the priority of the new voice. Voices with a higher priority can stop voices with a lower
+     *                   priority
+     * @return {@code true} if the {@link AudioClip} is played, {@code false} if it was dropped
+     */
+    public synchronized boolean play(final AudioClip audioClip, final int cycleCount, final double volume, final double balance,
+                                     final double rate, final double pan, final int priority) {
+        return play(audioClip, cycleCount, volume, balance, rate, pan, priority, audioClip);
+    }
+
+    /**
+     * Play the given {@link AudioClip} with the given parameters on behalf of the given owner, if the limits of this
+     * {@link AudioMixer} allow it. The voice can then be stopped through {@link #stop(AudioClip, Object)}, without
+     * affecting the voices of other owners.
+     *
+     * @param audioClip  the {@link AudioClip} to be played
+     * @param cycleCount the number of times the {@link AudioClip} should be played
+     * @param volume     the volume, between 0 and 1
+     * @param balance    the balance, between -1 (left) and 1 (right)
+     * @param rate       the playback rate, between 0.125 and 8
+     * @param pan        the pan, between -1 (left) and 1 (right)
+     * @param priority   the priority of the new voice. Voices with a higher priority can stop voices with a lower
+     *                   priority
+     * @param owner      the owner of the new voice, in general a {@link SoundClip}
+     * @return {@code true} if the {@link AudioClip} is played, {@code false} if it was dropped
+     */
+    public synchronized boolean play(final AudioClip audioClip, final int cycleCount, final double volume, final double balance,
+                                     final double rate, final double pan, final int priority, final Object owner) {
+        return play(audioClip, owner, priority, cycleCount, () -> {
+            // The cycle count is read when a voice starts, so it does not affect voices that are already playing
+            audioClip.setCycleCount(cycleCount);
+            audioClip.play(volume, balance, rate, pan, priority);
+        });
+    }
+
+    /**
+     * Release all voices of the given {@link AudioClip}. This should be called after the {@link AudioClip} has
+     * been stopped.
+     *
+     * @param audioClip the {@link AudioClip} of which the voices should be released
+     */
+    public synchronized void release(final AudioClip audioClip) {
+        voices.remove(audioClip);
+    }
+
+    /**
+     * Stop the voices of the given owner. Since an {@link AudioClip} can only be stopped as a whole, it is only
+     * stopped if no other owner has a voice playing on it. Otherwise the voices of the owner are only released.
+     *
+     * @param audioClip the {@link AudioClip} of which the voices should be stopped
+     * @param owner     the owner of the voices, as passed to
+     *                  {@link #play(AudioClip, int, double, double, double, double, int, Object)}
+     */
+    public synchronized void stop(final AudioClip audioClip, final Object owner) {
+        var clipVoices = voices.get(audioClip);
+
+        if (clipVoices != null) {
+            clipVoices.voices.removeIf(voice -> voice.owner == owner);
+            if (!clipVoices.voices.isEmpty()) {
+                return;
+            }
+            voices.remove(audioClip);
+        }
+
+        audioClip.stop();
+    }
+
+    /**
+     * Return the number of voices that are currently playing.
+     *
+     * @return the number of voices as an {@code int}
+     */
+    public synchronized int getActiveVoices() {
+        var activeVoices = 0;
+        for (var clipVoices : voices.values()) {
+            activeVoices += clipVoices.voices.size();
+        }
+        return activeVoices;
+    }
+
+    /**
+     * Set the maximum number of voices that can play at the same time.
+     *
+     * @param maxVoices the maximum number of voices
+     */
+    public synchronized void setMaxVoices(final int maxVoices) {
+        this.maxVoices = maxVoices;
+    }
+
+    /**
+     * Set the maximum number of voices of a single {@link AudioClip} that can play at the same time.
+     *
+     * @param maxVoicesPerClip the maximum number of voices per {@link AudioClip}
+     */
+    public synchronized void setMaxVoicesPerClip(final int maxVoicesPerClip) {
+        this.maxVoicesPerClip = maxVoicesPerClip;
+    }
+
+    /**
+     * Set the window within which identical sound effects are played only once.
+     *
+     * @param deduplicationWindow the window in nanoseconds
+     */
+    public synchronized void setDeduplicationWindow(final long deduplicationWindow) {
+        this.deduplicationWindow = deduplicationWindow;
+    }
+
+    /**
+     * Set the time after which a single cycle of a voice is considered to be finished. It should be at least the
+     * length of the longest sound effect, since a voice that is released too early makes room for voices that are
+     * then played at the same time.
+     *
+     * @param maxVoiceLength the maximum voice length in nanoseconds
+     */
+    public synchronized void setMaxVoiceLength(final long maxVoiceLength) {
+        this.maxVoiceLength = maxVoiceLength;
+    }
+
+    /**
+     * Release all voices, without stopping them.
+     */
+    public synchronized void clear() {
+        voices.clear();
+    }
+
+    /**
+     * Set the clock that should be used, which returns the current time in nanoseconds.
+     *
+     * @param clock the {@link LongSupplier} to be used
+     */
+    void setClock(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    private boolean play(final AudioClip audioClip, final Object owner, final int priority, final int cycleCount, final Runnable start) {
+        var now = clock.getAsLong();
+        releaseFinishedVoices(now);
+
+        var clipVoices = voices.get(audioClip);
+        if (clipVoices != null) {
+            if (now - clipVoices.lastStarted < deduplicationWindow) {
+                return false;
+            }
+            if (clipVoices.voices.size() >= maxVoicesPerClip) {
+                return false;
+            }
+        }
+
+        if (getActiveVoices() >= maxVoices && !stealVoices(priority, audioClip)) {
+            return false;
+        }
+
+        clipVoices = voices.computeIfAbsent(audioClip, clip -> new Voices());
+        clipVoices.voices.add(new Voice(owner, priority, getExpiry(now, cycleCount)));
+        clipVoices.priority = Math.max(clipVoices.priority, priority);
+        clipVoices.lastStarted = now;
+
+        start.run();
+        return true;
+    }
+
+    private long getExpiry(final long now, final int cycleCount) {
+        if (cycleCount == AudioClip.INDEFINITE) {
+            return Long.MAX_VALUE;
+        }
+
+        var length = maxVoiceLength * Math.max(1, cycleCount);
+        return length > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + length;
+    }
+
+    private void releaseFinishedVoices(final long now) {
+        var iterator = voices.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            var clipVoices = entry.getValue();
+
+            clipVoices.voices.removeIf(voice -> now >= voice.expiry);
+
+            // Directly after play() an AudioClip may not yet report that it is playing
+            if (clipVoices.voices.isEmpty()
+                    || (now - clipVoices.lastStarted >= deduplicationWindow && !entry.getKey().isPlaying())) {
+                iterator.remove();
+            } else {
+                clipVoices.priority = clipVoices.voices.stream().mapToInt(voice -> voice.priority).max().orElse(0);
+            }
+        }
+    }
+
+    private boolean stealVoices(final int priority, final AudioClip requester) {
+        Map.Entry<AudioClip, Voices> victim = null;
+
+        for (var entry : voices.entrySet()) {
+            var candidate = entry.getValue();
+            if (entry.getKey() == requester || candidate.priority > priority) {
+                continue;
+            }
+            if (victim == null
+                    || candidate.priority < victim.getValue().priority
+                    || (candidate.priority == victim.getValue().priority && candidate.lastStarted < victim.getValue().lastStarted)) {
+                victim = entry;
+            }
+        }
+
+        if (victim == null) {
+            return false;
+        }
+
+        victim.getKey().stop();
+        voices.remove(victim.getKey());
+        return true;
+    }
+
+    private static class Voices {
+        private final List<Voice> voices = new ArrayList<>();
+        private int priority = Integer.MIN_VALUE;
+        private long lastStarted;
+    }
+
+    private static class Voice {
+        private final Object owner;
+        private final int priority;
+        private final long expiry;
+
+        private Voice(final Object owner, final int priority, final long expiry) {
+            this.owner = owner;
+            this.priority = priority;
+            this.expiry = expiry;
+        }
+    }
+}
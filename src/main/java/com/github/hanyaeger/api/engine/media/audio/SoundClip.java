@@ -7,6 +7,15 @@ import javafx.scene.media.AudioClip;
  * A {@link SoundClip} encapsulates a mp3 audio file. This file can be played once, or looped for a given amount
  * of times, or indefinite. The path of the mp3 file should be passed to the constructor and the file should be
  * available on the class path.
+ * <p>
+ * A {@link SoundClip} is played through the {@link AudioMixer}, which limits the number of voices that play at the
+ * same time. When the limit is reached, a {@link SoundClip} with a higher priority can stop one with a lower
+ * priority.
+ * <p>
+ * All instances of {@link SoundClip} of the same file and {@code cycleCount} share one {@link AudioClip}, which is
+ * decoded only once and can be preloaded through an
+ * {@link com.github.hanyaeger.api.engine.media.assets.AudioAsset}. A {@link SoundClip} that is played once does
+ * therefore not share its {@link AudioClip} with a {@link SoundClip} that loops.
  */
 public class SoundClip {
 
@@ -14,6 +23,12 @@ public class SoundClip {
     private final int cycleCount;
     private AudioClip audioClip;
     private final AudioRepository audioRepository;
+    private final AudioMixer audioMixer;
+    private int priority = 0;
+    private double volume = 1;
+    private double balance = 0;
+    private double rate = 1;
+    private double pan = 0;
 
     /**
      * When instantiating a {@link SoundClip}, the value of the constructor parameter {@code cycleCount} can
@@ -45,6 +60,57 @@ public class SoundClip {
         this.cycleCount = cycleCount;
 
         this.audioRepository = AudioRepository.getInstance();
+        this.audioMixer = AudioMixer.getInstance();
+    }
+
+    /**
+     * Set the priority of this {@link SoundClip}, which is 0 by default. When the maximum number of voices is
+     * reached, a {@link SoundClip} can only be played by stopping one with the same or a lower priority.
+     *
+     * @param priority the priority as an {@code int}
+     */
+    public void setPriority(final int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Set the volume of this {@link SoundClip}, which is 1 by default. It applies to each following call
+     * of {@link #play()}.
+     *
+     * @param volume the volume, between 0 (muted) and 1 (full volume)
+     */
+    public void setVolume(final double volume) {
+        this.volume = volume;
+    }
+
+    /**
+     * Set the balance of this {@link SoundClip}, which is 0 by default. It applies to each following call
+     * of {@link #play()}.
+     *
+     * @param balance the balance, between -1 (left) and 1 (right)
+     */
+    public void setBalance(final double balance) {
+        this.balance = balance;
+    }
+
+    /**
+     * Set the playback rate of this {@link SoundClip}, which is 1 by default. It applies to each following call
+     * of {@link #play()}.
+     *
+     * @param rate the playback rate, between 0.125 and 8
+     */
+    public void setRate(final double rate) {
+        this.rate = rate;
+    }
+
+    /**
+     * Set the pan of this {@link SoundClip}, which is 0 by default. It applies to each following call
+     * of {@link #play()}.
+     *
+     * @param pan the pan, between -1 (left) and 1 (right)
+     */
+    public void setPan(final double pan) {
+        this.pan = pan;
     }
 
     /**
@@ -52,15 +118,21 @@ public class SoundClip {
      * be looped indefinably, the cycleCount should be set to the constant value {@link #INDEFINITE}.
      */
     public void play() {
-        audioClip = audioRepository.get(path);
-        audioClip.setCycleCount(cycleCount);
-        audioClip.play();
+        if (audioClip == null) {
+            audioClip = cycleCount == 1 ? audioRepository.get(path) : audioRepository.get(path, cycleCount);
+        }
+        audioMixer.play(audioClip, cycleCount, volume, balance, rate, pan, priority, this);
     }
 
     /**
-     * Stop playing the file.
+     * Stop playing the file. If this {@link SoundClip} shares its {@link AudioClip} with another {@link SoundClip}
+     * that is still playing, it can not be stopped without also stopping the other one. It then keeps playing until
+     * it has finished, or until the other {@link SoundClip} is stopped as well.
      */
     public void stop() {
-        audioClip.stop();
+        if (audioClip == null) {
+            return;
+        }
+        audioMixer.stop(audioClip, this);
     }
 }
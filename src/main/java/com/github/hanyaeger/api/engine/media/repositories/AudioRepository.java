@@ -5,21 +5,28 @@ import com.github.hanyaeger.api.engine.media.ResourceConsumer;
 import com.google.inject.Singleton;
 import javafx.scene.media.AudioClip;
 
-import java.util.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * An {@code AudioRepository} provides a central repository for acquiring audio files.
+ * An {@code AudioRepository} provides a central repository for acquiring audio files. Audio files can be
+ * acquired from any thread, which enables them to be preloaded on a background thread.
+ * <p>
+ * All audio files are strongly held, so an audio file is only decoded once and never reloaded during the game.
+ * Each audio file is represented by a single {@link AudioClip}, which can play multiple voices at once. Parameters
+ * such as the volume and the number of cycles are passed each time the {@link AudioClip} is played, see
+ * {@link com.github.hanyaeger.api.engine.media.audio.SoundClip}.
  */
 @Singleton
 public class AudioRepository implements ResourceConsumer, Destroyable {
 
     private static final String CYCLECOUNT = "-cyclecount-";
 
-    private final Map<String, AudioClip> audioMap = new WeakHashMap<>();
+    private final Map<String, AudioClip> audioMap = new ConcurrentHashMap<>();
 
     private static AudioRepository audioRepository;
 
-    public static AudioRepository getInstance() {
+    public static synchronized AudioRepository getInstance() {
         if (audioRepository == null) {
             audioRepository = new AudioRepository();
         }
@@ -37,7 +44,10 @@ public class AudioRepository implements ResourceConsumer, Destroyable {
     }
 
     /**
-     * Return a {@link AudioClip} for the given [@code audiofile] and {@code cycleCount}.
+     * Return a {@link AudioClip} for the given [@code audiofile] and {@code cycleCount}. The {@link AudioClip} is
+     * not shared with the {@link AudioClip} returned by {@link #get(String)}, so it can be stopped independently.
+     * This is used for background audio and for a looping
+     * {@link com.github.hanyaeger.api.engine.media.audio.SoundClip}.
      *
      * @param audiofile  the filename of the {@link AudioClip}
      * @param cycleCount the number of times the {@link AudioClip} should be repeated. To
@@ -49,13 +59,12 @@ public class AudioRepository implements ResourceConsumer, Destroyable {
         if (cycleCount != 0) {
             key = audiofile + CYCLECOUNT + cycleCount;
         }
-        if (audioMap.containsKey(key)) {
-            return audioMap.get(key);
-        } else {
-            var audioClip = new AudioClip(createPathForResource(audiofile));
-            audioMap.put(key, audioClip);
-            return audioClip;
+        var audioClip = audioMap.computeIfAbsent(key, k -> new AudioClip(createPathForResource(audiofile)));
+
+        if (cycleCount != 0) {
+            audioClip.setCycleCount(cycleCount);
         }
+        return audioClip;
     }
 
     /**
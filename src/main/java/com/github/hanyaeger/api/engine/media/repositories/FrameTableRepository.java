@@ -0,0 +1,59 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+import com.github.hanyaeger.api.engine.Destroyable;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.FrameTable;
+import com.google.inject.Singleton;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A {@code FrameTableRepository} provides a central repository for the instances of {@link FrameTable} used by
+ * animated sprites. All sprites that use the same {@link Image} with the same grid layout share a single
+ * {@link FrameTable}.
+ * <p>
+ * The instances of {@link FrameTable} are held for as long as their {@link Image} is in use, so they do not
+ * outlive an {@link Image} that has been evicted from the {@link ImageRepository}.
+ */
+@Singleton
+public class FrameTableRepository implements Destroyable {
+
+    private final Map<Image, Map<String, FrameTable>> frameTables = new WeakHashMap<>();
+
+    /**
+     * Return the {@link FrameTable} for the given {@link Image} and grid layout. If no such {@link FrameTable}
+     * exists, it is created.
+     *
+     * @param image   the {@link Image} that contains the frames
+     * @param region  the region of the {@link Image} that contains the frames
+     * @param rows    the number of rows of frames
+     * @param columns the number of columns of frames
+     * @return the shared {@link FrameTable}
+     */
+    public synchronized FrameTable get(final Image image, final Rectangle2D region, final int rows, final int columns) {
+        var tablesForImage = frameTables.computeIfAbsent(image, key -> new HashMap<>());
+
+        return tablesForImage.computeIfAbsent(constructKey(region, rows, columns), key -> FrameTable.create(region, rows, columns));
+    }
+
+    /**
+     * Return the number of instances of {@link FrameTable} in this {@link FrameTableRepository}.
+     *
+     * @return the number of instances of {@link FrameTable} as an {@code int}
+     */
+    public synchronized int size() {
+        return frameTables.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private String constructKey(final Rectangle2D region, final int rows, final int columns) {
+        return rows + "-" + columns + "-" + region.getMinX() + "-" + region.getMinY() + "-" + region.getWidth() + "-" + region.getHeight();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        frameTables.clear();
+    }
+}
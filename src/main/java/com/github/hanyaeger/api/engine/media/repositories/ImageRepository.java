@@ -2,23 +2,49 @@ package com.github.hanyaeger.api.engine.media.repositories;
 
 import com.github.hanyaeger.api.engine.Destroyable;
 import com.github.hanyaeger.api.engine.media.ResourceConsumer;
+import com.github.hanyaeger.api.engine.media.atlas.TextureAtlas;
+import com.github.hanyaeger.api.engine.media.atlas.TextureRegion;
 import com.github.hanyaeger.api.javafx.image.ImageFactory;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import javafx.scene.image.Image;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Optional;
 
 /**
- * An {@code ImageRepository} provides a central repository for acquiring sprites.
+ * An {@code ImageRepository} provides a central repository for acquiring sprites. Images can be
+ * acquired from any thread, which enables them to be preloaded on a background thread.
+ * <p>
+ * All images are strongly held in a Least Recently Used cache. The size of an image is the number of bytes
+ * its decoded pixels take up. When the total size exceeds the memory budget, the least recently used images
+ * are evicted until the cache fits within the budget again.
+ * <p>
+ * Next to individual images, the {@link ImageRepository} holds the instances of {@link TextureAtlas} that are used
+ * by the active {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
  */
 @Singleton
 public class ImageRepository implements ResourceConsumer, Destroyable {
 
-    private final Map<String, Image> imageMap = new WeakHashMap<>();
+    /**
+     * The default memory budget of 256 MB.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 256L * 1024 * 1024;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final Map<String, Image> imageMap = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<TextureAtlas> textureAtlases = new ArrayList<>();
     private ImageFactory factory;
 
+    private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+    private long sizeInBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
     /**
      * Return an {@link Image} with content loaded from the specified
      * url.
@@ -28,14 +54,12 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      * @return an {@link Image} with content loaded from the specified url
      */
     public Image get(final String url) {
+        var image = lookup(url);
 
-        if (imageMap.containsKey(url)) {
-            return imageMap.get(url);
-        } else {
-            var image = factory.create(createPathForResource(url));
-            imageMap.put(url, image);
-            return image;
+        if (image == null) {
+            image = store(url, factory.create(createPathForResource(url)));
         }
+        return image;
     }
 
     /**
@@ -53,14 +77,76 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
     public Image get(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
 
         String imageKey = constructKey(url, requestedWidth, requestedHeight, preserveRatio);
+        var image = lookup(imageKey);
 
-        if (imageMap.containsKey(imageKey)) {
-            return imageMap.get(imageKey);
-        } else {
-            var image = factory.create(createPathForResource(url), requestedWidth, requestedHeight, preserveRatio);
-            imageMap.put(imageKey, image);
-            return image;
+        if (image == null) {
+            image = store(imageKey, factory.create(createPathForResource(url), requestedWidth, requestedHeight, preserveRatio));
+        }
+        return image;
+    }
+
+    /**
+     * Return the {@link TextureRegion} that contains the image with the specified parameters, if that image has been
+     * packed into one of the registered instances of {@link TextureAtlas}.
+     *
+     * @param url             the string representing the URL of the image
+     * @param requestedWidth  the image's bounding box width
+     * @param requestedHeight the image's bounding box height
+     * @param preserveRatio   indicates whether to preserve the aspect ratio of the original image
+     * @return an {@link Optional} containing the {@link TextureRegion}, or an empty {@link Optional} if the image
+     * is not part of a {@link TextureAtlas}
+     */
+    public synchronized Optional<TextureRegion> getRegion(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        if (textureAtlases.isEmpty()) {
+            return Optional.empty();
         }
+
+        var key = TextureAtlas.createKey(url, requestedWidth, requestedHeight, preserveRatio);
+
+        for (var textureAtlas : textureAtlases) {
+            var region = textureAtlas.getRegion(key);
+            if (region.isPresent()) {
+                return region;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Set the instances of {@link TextureAtlas} that should be used. These replace any previously set instances.
+     *
+     * @param textureAtlases a {@link List} of {@link TextureAtlas} instances
+     */
+    public synchronized void setTextureAtlases(final List<TextureAtlas> textureAtlases) {
+        this.textureAtlases.clear();
+        this.textureAtlases.addAll(textureAtlases);
+    }
+
+    /**
+     * Remove all instances of {@link TextureAtlas}.
+     */
+    public synchronized void clearTextureAtlases() {
+        textureAtlases.clear();
+    }
+
+    /**
+     * Set the memory budget of this {@link ImageRepository}. If the images currently cached exceed the new budget,
+     * the least recently used images are evicted.
+     *
+     * @param memoryBudget the maximum number of bytes the decoded images may take up
+     */
+    public synchronized void setMemoryBudget(final long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        evict(null);
+    }
+
+    /**
+     * Return the memory budget of this {@link ImageRepository}.
+     *
+     * @return the maximum number of bytes the decoded images may take up
+     */
+    public synchronized long getMemoryBudget() {
+        return memoryBudget;
     }
 
     @Inject
@@ -68,8 +154,51 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
         this.factory = factory;
     }
 
+    private synchronized Image lookup(final String key) {
+        var image = imageMap.get(key);
+
+        if (image == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return image;
+    }
+
+    private synchronized Image store(final String key, final Image image) {
+        // Another thread may have decoded the same image in the mean time
+        var cached = imageMap.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        imageMap.put(key, image);
+        sizeInBytes += sizeOf(image);
+        evict(key);
+
+        return image;
+    }
+
+    private void evict(final String keep) {
+        var iterator = imageMap.entrySet().iterator();
+
+        while (sizeInBytes > memoryBudget && iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            sizeInBytes -= sizeOf(entry.getValue());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private long sizeOf(final Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
     private String constructKey(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
-        return ((int) requestedWidth) + "-" + ((int) requestedHeight) + "-" + preserveRatio + "-" + url;
+        return TextureAtlas.createKey(url, requestedWidth, requestedHeight, preserveRatio);
     }
 
     /**
@@ -79,12 +208,50 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      *
      * @return the number of key-value mappings in this map
      */
-    public int size() {
+    public synchronized int size() {
         return imageMap.size();
     }
 
+    /**
+     * Return the number of bytes taken up by all decoded images in this {@link ImageRepository}.
+     *
+     * @return the size in bytes as a {@code long}
+     */
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Return the number of times an {@link Image} was requested that was already cached.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Return the number of times an {@link Image} was requested that was not yet cached and had to be decoded.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Return the number of images that were evicted because the memory budget was exceeded.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
     @Override
-    public void destroy() {
+    public synchronized void destroy() {
         imageMap.clear();
+        textureAtlases.clear();
+        sizeInBytes = 0;
     }
 }
@@ -0,0 +1,267 @@
+package com.github.hanyaeger.api.engine.scenes;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Camera} shows part of a world that can be larger than the {@link YaegerScene}. All instances of
+ * {@link YaegerEntity} are placed on a world layer, which is translated so that the viewport of the
+ * {@link Camera} is shown. Entities use world coordinates, which are independent of the location of the
+ * {@link Camera}.
+ * <p>
+ * Entities that are outside the viewport, plus a margin, are culled: they are made invisible, so they are no
+ * longer rendered. Optionally, culled entities are also excluded from the Game Loop. Culling only applies to the
+ * entities that are added directly to the {@link YaegerScene}, not to the children of a
+ * {@link com.github.hanyaeger.api.engine.entities.entity.CompositeEntity}.
+ * <p>
+ * A {@link Camera} is only available for a {@link YaegerScene} that implements {@link CameraContainer}. In a
+ * {@link DynamicScene} the {@link Camera} is updated once every cycle of the Game Loop. A {@link StaticScene} has
+ * no Game Loop, so there the {@link Camera} is updated directly when its location, world size or followed entity is
+ * set. A followed entity that moves afterwards is then not followed.
+ */
+public class Camera implements Updatable {
+
+    /**
+     * The default margin around the viewport, in pixels, within which entities are not culled.
+     */
+    public static final double DEFAULT_CULLING_MARGIN = 64;
+
+    private final Pane worldLayer;
+    private final Size viewportSize;
+    private final Set<Node> culled = new HashSet<>();
+    private final List<Consumer<Rectangle2D>> viewportListeners = new ArrayList<>();
+
+    private Size worldSize;
+    private YaegerEntity target;
+    private double x;
+    private double y;
+    private double cullingMargin = DEFAULT_CULLING_MARGIN;
+    private boolean cullUpdates = false;
+    private int culledUpdateInterval = 1;
+    private Rectangle2D lastViewport;
+    private Runnable updateAction;
+
+    /**
+     * Create a new {@link Camera}.
+     *
+     * @param worldLayer   the {@link Pane} that contains all entities and will be translated by this {@link Camera}
+     * @param viewportSize the {@link Size} of the {@link YaegerScene}
+     */
+    public Camera(final Pane worldLayer, final Size viewportSize) {
+        this.worldLayer = worldLayer;
+        this.viewportSize = viewportSize;
+    }
+
+    /**
+     * Set the location of the top-left corner of the viewport, in world coordinates.
+     *
+     * @param location the {@link Coordinate2D} of the top-left corner of the viewport
+     */
+    public void setLocation(final Coordinate2D location) {
+        x = location.getX();
+        y = location.getY();
+        clamp();
+        runUpdateAction();
+    }
+
+    /**
+     * Return the location of the top-left corner of the viewport, in world coordinates.
+     *
+     * @return the {@link Coordinate2D} of the top-left corner of the viewport
+     */
+    public Coordinate2D getLocation() {
+        return new Coordinate2D(x, y);
+    }
+
+    /**
+     * Set the {@link Size} of the world. If set, the viewport will never show anything outside the world.
+     *
+     * @param worldSize the {@link Size} of the world
+     */
+    public void setWorldSize(final Size worldSize) {
+        this.worldSize = worldSize;
+        clamp();
+        runUpdateAction();
+    }
+
+    /**
+     * Let the {@link Camera} follow the given {@link YaegerEntity}, by keeping it in the center of the viewport.
+     * Use {@code null} to stop following.
+     *
+     * @param target the {@link YaegerEntity} to follow
+     */
+    public void follow(final YaegerEntity target) {
+        this.target = target;
+        runUpdateAction();
+    }
+
+    /**
+     * Set the margin around the viewport, within which entities are not culled.
+     *
+     * @param cullingMargin the margin in pixels
+     */
+    public void setCullingMargin(final double cullingMargin) {
+        this.cullingMargin = cullingMargin;
+    }
+
+    /**
+     * Set whether culled entities should also be excluded from the Game Loop. By default they are still updated.
+     *
+     * @param cullUpdates {@code true} if culled entities should not be updated
+     */
+    public void setCullUpdates(final boolean cullUpdates) {
+        this.cullUpdates = cullUpdates;
+    }
+
+    /**
+     * Set the number of cycles of the Game Loop between two updates of a culled entity. By default culled entities
+     * are updated every cycle. A culled entity that moves still moves at its full speed. This setting has no effect if
+     * culled entities are excluded from updates.
+     *
+     * @param culledUpdateInterval the interval as an {@code int}, where {@code 1} means every cycle
+     */
+    public void setCulledUpdateInterval(final int culledUpdateInterval) {
+        this.culledUpdateInterval = Math.max(1, culledUpdateInterval);
+    }
+
+    /**
+     * Return the number of cycles of the Game Loop between two updates of the given {@link Object}.
+     *
+     * @param object the {@link Object}, in general an {@link Updatable}
+     * @return the interval as an {@code int}, where {@code 1} means every cycle
+     */
+    public int getUpdateInterval(final Object object) {
+        if (culledUpdateInterval == 1 || !isCulled(object)) {
+            return 1;
+        }
+        return culledUpdateInterval;
+    }
+
+    /**
+     * Return the part of the world that is currently visible.
+     *
+     * @return the viewport as a {@link Rectangle2D} in world coordinates
+     */
+    public Rectangle2D getViewport() {
+        return new Rectangle2D(x, y, viewportSize.getWidth(), viewportSize.getHeight());
+    }
+
+    /**
+     * Add a listener that is notified whenever the viewport changes.
+     *
+     * @param viewportListener a {@link Consumer} of the new viewport
+     */
+    public void addViewportListener(final Consumer<Rectangle2D> viewportListener) {
+        viewportListeners.add(viewportListener);
+    }
+
+    /**
+     * Return whether the given {@link Object} should be skipped during this cycle of the Game Loop, because it
+     * is culled and culled entities are excluded from updates.
+     *
+     * @param object the {@link Object}, in general an {@link Updatable}
+     * @return {@code true} if the {@link Object} should not be updated
+     */
+    public boolean isExcludedFromUpdates(final Object object) {
+        return cullUpdates && isCulled(object);
+    }
+
+    /**
+     * Return the number of entities that are currently culled.
+     *
+     * @return the number of culled entities
+     */
+    public int getCulledCount() {
+        return culled.size();
+    }
+
+    @Override
+    public void update(final long timestamp) {
+        if (target != null) {
+            target.getNode().ifPresent(node -> {
+                var bounds = node.getBoundsInParent();
+                x = bounds.getCenterX() - viewportSize.getWidth() / 2;
+                y = bounds.getCenterY() - viewportSize.getHeight() / 2;
+                clamp();
+            });
+        }
+
+        worldLayer.setTranslateX(-x);
+        worldLayer.setTranslateY(-y);
+
+        var viewport = getViewport();
+        if (!viewport.equals(lastViewport)) {
+            lastViewport = viewport;
+            viewportListeners.forEach(listener -> listener.accept(viewport));
+        }
+
+        cull(viewport);
+    }
+
+    private void cull(final Rectangle2D viewport) {
+        var minX = viewport.getMinX() - cullingMargin;
+        var minY = viewport.getMinY() - cullingMargin;
+        var maxX = viewport.getMaxX() + cullingMargin;
+        var maxY = viewport.getMaxY() + cullingMargin;
+
+        culled.removeIf(node -> node.getParent() != worldLayer);
+
+        for (var node : worldLayer.getChildren()) {
+            var bounds = node.getBoundsInParent();
+            var outside = bounds.getMaxX() < minX || bounds.getMinX() > maxX || bounds.getMaxY() < minY || bounds.getMinY() > maxY;
+
+            if (outside && node.isVisible()) {
+                node.setVisible(false);
+                culled.add(node);
+            } else if (!outside && culled.remove(node)) {
+                node.setVisible(true);
+            }
+        }
+    }
+
+    /**
+     * Set the action that updates this {@link Camera} directly after it has been changed, for a
+     * {@link YaegerScene} without a Game Loop. The action should at least call {@link #update(long)}.
+     *
+     * @param updateAction the {@link Runnable} to be used, or {@code null} if the Game Loop updates this
+     *                     {@link Camera}
+     */
+    void setUpdateAction(final Runnable updateAction) {
+        this.updateAction = updateAction;
+    }
+
+    private void runUpdateAction() {
+        if (updateAction != null) {
+            updateAction.run();
+        }
+    }
+
+    private boolean isCulled(final Object object) {
+        if (culled.isEmpty() || !(object instanceof YaegerEntity)) {
+            return false;
+        }
+
+        var node = ((YaegerEntity) object).getNode();
+        return node.isPresent() && culled.contains(node.get());
+    }
+
+    private void clamp() {
+        if (worldSize == null) {
+            return;
+        }
+
+        x = Math.max(0, Math.min(x, worldSize.getWidth() - viewportSize.getWidth()));
+        y = Math.max(0, Math.min(y, worldSize.getHeight() - viewportSize.getHeight()));
+    }
+}
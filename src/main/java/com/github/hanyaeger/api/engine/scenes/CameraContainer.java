@@ -0,0 +1,18 @@
+package com.github.hanyaeger.api.engine.scenes;
+
+/**
+ * A {@link YaegerScene} that implements {@link CameraContainer} places all its entities on a world layer that is
+ * shown through a {@link Camera}. This way, the world can be larger than the {@link YaegerScene}, while only the
+ * entities within the viewport of the {@link Camera} are rendered.
+ */
+public interface CameraContainer {
+
+    /**
+     * Use this method to set up the {@link Camera}, for instance to set the size of the world or the
+     * {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity} that should be followed. This method
+     * is called after {@link YaegerScene#setupEntities()}.
+     *
+     * @param camera the {@link Camera} of this {@link YaegerScene}
+     */
+    void setupCamera(final Camera camera);
+}
@@ -1,6 +1,7 @@
 package com.github.hanyaeger.api.engine.scenes;
 
 import com.github.hanyaeger.api.engine.annotations.UpdatableProvider;
+import com.github.hanyaeger.api.engine.entities.entity.motion.PhysicsWorld;
 import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerFactory;
 import com.google.inject.Inject;
 import javafx.animation.AnimationTimer;
@@ -31,8 +32,27 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
     @Override
     public void activate() {
         super.activate();
+        entityCollection.setInputBatching(true);
         createGameLoop();
-        startGameLoop();
+
+        if (!isSuspended()) {
+            startGameLoop();
+        }
+    }
+
+    @Override
+    public void suspend() {
+        super.suspend();
+
+        if (animator != null) {
+            animator.stop();
+        }
+    }
+
+    @Override
+    public void resume() {
+        super.resume();
+        animator.start();
     }
 
     @Override
@@ -55,6 +75,31 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
         animator = null;
     }
 
+    /**
+     * Set the gravity that applies to all instances of
+     * {@link com.github.hanyaeger.api.engine.entities.entity.motion.Newtonian} in this {@link DynamicScene}. This
+     * method should be called from {@link #setupScene()}.
+     *
+     * @param gravity the gravity in meters per second squared, pointing down. By default this is
+     *                {@link PhysicsWorld#DEFAULT_GRAVITY}
+     */
+    protected void setGravity(final double gravity) {
+        entityCollection.getPhysicsWorld().setGravity(gravity);
+    }
+
+    /**
+     * Set whether the physics of all instances of
+     * {@link com.github.hanyaeger.api.engine.entities.entity.motion.Newtonian} in this {@link DynamicScene} should be
+     * stepped on a dedicated simulation thread, so it overlaps with rendering. Their locations then trail the
+     * simulation by one cycle of the Game Loop. Collision detection and timers still run on the JavaFX Application
+     * Thread. This method should be called from {@link #setupScene()}.
+     *
+     * @param simulationThreadEnabled {@code true} if the physics should be stepped on the simulation thread
+     */
+    protected void setSimulationThreadEnabled(final boolean simulationThreadEnabled) {
+        entityCollection.getPhysicsWorld().setSimulationThreadEnabled(simulationThreadEnabled);
+    }
+
     @UpdatableProvider
     public Updatable entityCollectionUpdatable() {
         return timestamp -> {
@@ -92,6 +137,7 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
     }
 
     @Inject
+    @Override
     public void setUpdater(final Updater updater) {
         this.updater = updater;
     }
@@ -0,0 +1,20 @@
+package com.github.hanyaeger.api.engine.scenes;
+
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.ActionListener;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.InputMap;
+
+/**
+ * A {@link YaegerScene} that implements {@link InputMapContainer} has an {@link InputMap}, which maps keys and
+ * mouse buttons to named actions. All instances of {@link ActionListener} that are part of the
+ * {@link YaegerScene} are notified when the actions they are interested in are pressed or released.
+ */
+public interface InputMapContainer {
+
+    /**
+     * Use this method to bind keys and mouse buttons to actions. This method is called before
+     * {@link YaegerScene#setupScene()}.
+     *
+     * @param inputMap the {@link InputMap} of this {@link YaegerScene}
+     */
+    void setupInputMap(final InputMap inputMap);
+}
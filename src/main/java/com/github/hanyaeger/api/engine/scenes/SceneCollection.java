@@ -1,15 +1,24 @@
 package com.github.hanyaeger.api.engine.scenes;
 
+import com.github.hanyaeger.api.engine.ClassPreloader;
 import com.github.hanyaeger.api.engine.Initializable;
+import com.github.hanyaeger.api.engine.StartupTimings;
 import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
 import com.github.hanyaeger.api.engine.exceptions.YaegerSceneNotAvailableException;
+import com.github.hanyaeger.api.engine.media.assets.AssetContainer;
+import com.github.hanyaeger.api.engine.media.assets.AssetPreloader;
+import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerFactory;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import javafx.animation.AnimationTimer;
 import javafx.stage.Stage;
 import com.github.hanyaeger.api.engine.scenes.splash.SplashScreenFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -25,7 +34,19 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
     private transient YaegerScene activeScene;
     private int firstScene;
     private SplashScreenFactory splashScreenFactory;
+    private AssetPreloader assetPreloader;
+    private ClassPreloader classPreloader;
+    private AnimationTimerFactory animationTimerFactory;
+    private transient AnimationTimer trainingRunTimer;
+    private StartupTimings startupTimings;
     private boolean finishedSplashScreen = false;
+    private boolean startupFinished = false;
+    private Integer pendingScene;
+    private Integer preparingScene;
+    private Integer activeSceneId;
+    private int maxSuspendedScenes = 0;
+    private final transient LinkedHashMap<Integer, YaegerScene> suspendedScenes = new LinkedHashMap<>(16, 0.75f, true);
+    private final transient Map<Integer, YaegerScene> preparedScenes = new HashMap<>();
 
     /**
      * Create a new {@link SceneCollection} for the given {@link Stage} and {@link YaegerConfig}.
@@ -64,9 +85,86 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
         return activeScene;
     }
 
+    /**
+     * Set the maximum number of instances of {@link YaegerScene} that are kept in memory while they are not active.
+     * When a {@link Suspendable} {@link YaegerScene} is replaced by another one, it is suspended instead of destroyed,
+     * so it can be resumed instantly. If more instances of {@link YaegerScene} are suspended than allowed, the least
+     * recently used are destroyed. By default no {@link YaegerScene} is kept.
+     *
+     * @param maxSuspendedScenes the maximum number of suspended instances of {@link YaegerScene}
+     */
+    public void setMaxSuspendedScenes(final int maxSuspendedScenes) {
+        this.maxSuspendedScenes = maxSuspendedScenes;
+        evictSuspendedScenes();
+    }
+
+    /**
+     * Return whether the {@link YaegerScene} of the given {@code int} is currently suspended.
+     *
+     * @param id the {@link Integer} identifying the {@link YaegerScene}
+     * @return {@code true} if the {@link YaegerScene} is suspended
+     */
+    public boolean isSuspended(final int id) {
+        return suspendedScenes.containsKey(id);
+    }
+
+    /**
+     * Prepare the {@link YaegerScene} of the given {@code int} ahead of time, for instance while a splash or
+     * level-complete screen is showing. Its assets are loaded on a background thread and, if it is
+     * {@link Suspendable}, it is built in the suspended state. A later call to {@link #setActive(int)} then only
+     * needs to show the {@link YaegerScene} on the {@link Stage}.
+     * <p>
+     * A {@link YaegerScene} that is not {@link Suspendable} only has its assets loaded. Preparing is skipped while
+     * another {@link YaegerScene} is waiting for its assets to become active.
+     *
+     * @param id the {@link Integer} identifying the {@link YaegerScene}
+     */
+    public void prepare(final int id) {
+        var requestedScene = get(id);
+
+        if (requestedScene == null) {
+            throw new YaegerSceneNotAvailableException(id);
+        }
+
+        if (isLoading() || isPrepared(id) || Objects.equals(preparingScene, id)
+                || Objects.equals(activeSceneId, id) || isSuspended(id)) {
+            return;
+        }
+
+        if (requestedScene instanceof AssetContainer) {
+            var assetContainer = (AssetContainer) requestedScene;
+            assetContainer.initAssets();
+
+            if (!assetContainer.getAssets().isEmpty()) {
+                preparingScene = id;
+                assetPreloader.preload(assetContainer.getAssets(), () -> onPrepared(id, requestedScene),
+                        () -> onFailed(id));
+                return;
+            }
+        }
+
+        onPrepared(id, requestedScene);
+    }
+
+    /**
+     * Return whether the {@link YaegerScene} of the given {@code int} has been built ahead of time through
+     * {@link #prepare(int)} and is waiting to become active.
+     *
+     * @param id the {@link Integer} identifying the {@link YaegerScene}
+     * @return {@code true} if the {@link YaegerScene} is prepared
+     */
+    public boolean isPrepared(final int id) {
+        return preparedScenes.containsKey(id);
+    }
+
     /**
      * Set the {@link YaegerScene} of the given {@code int}. The set {@link YaegerScene} will be shown and if available
      * its {@code GameLoop} and {@code EventListeners} will be active.
+     * <p>
+     * If the {@link YaegerScene} is an {@link AssetContainer}, its assets are first loaded on a background thread.
+     * During loading, the current {@link YaegerScene} remains active and the switch is made only after
+     * all assets have been loaded. A {@link YaegerScene} that has been prepared through {@link #prepare(int)} is
+     * shown directly.
      *
      * @param id the {@link Integer} identifying the {@link YaegerScene}
      */
@@ -81,19 +179,185 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
             throw new YaegerSceneNotAvailableException(id);
         }
 
+        if (isPrepared(id)) {
+            switchTo(id, requestedScene);
+            return;
+        }
+
+        if (Objects.equals(preparingScene, id)) {
+            // The scene becomes active as soon as its preparation has finished
+            pendingScene = id;
+            return;
+        }
+
+        if (requestedScene instanceof AssetContainer) {
+            if (Objects.equals(pendingScene, id)) {
+                return;
+            }
+
+            var assetContainer = (AssetContainer) requestedScene;
+            assetContainer.initAssets();
+
+            if (!assetContainer.getAssets().isEmpty()) {
+                // Loading these assets cancels the preparation of any other scene
+                preparingScene = null;
+                pendingScene = id;
+                assetPreloader.preload(assetContainer.getAssets(), () -> onLoaded(id, requestedScene),
+                        () -> onFailed(id));
+                return;
+            }
+        }
+
+        switchTo(id, requestedScene);
+    }
+
+    /**
+     * Return whether the {@link YaegerScene} that was requested through {@link #setActive(int)} is still
+     * loading its assets.
+     *
+     * @return {@code true} if assets are being loaded before a {@link YaegerScene} is activated
+     */
+    public boolean isLoading() {
+        return pendingScene != null;
+    }
+
+    private void switchTo(final int id, final YaegerScene scene) {
+        pendingScene = null;
+
+        // Take the requested scene out first, so it can not be evicted when the active scene is suspended
+        var suspendedScene = suspendedScenes.remove(id);
+        var preparedScene = preparedScenes.remove(id);
+
         if (activeScene != null) {
-            activeScene.destroy();
+            if (activeSceneId != null && activeSceneId != id && maxSuspendedScenes > 0 && activeScene instanceof Suspendable) {
+                suspend(activeSceneId, activeScene);
+            } else {
+                activeScene.destroy();
+            }
+        }
+
+        if (suspendedScene != null) {
+            resume(suspendedScene);
+        } else if (preparedScene != null) {
+            ((Suspendable) preparedScene).resume();
+            show(preparedScene);
+        } else {
+            activate(scene);
+        }
+        activeSceneId = id;
+
+        if (!startupFinished) {
+            finishStartup();
+        }
+    }
+
+    private void finishStartup() {
+        startupFinished = true;
+        startupTimings.mark("Show first scene");
+
+        if (yaegerConfig.isShowStartupTimings()) {
+            System.out.print(startupTimings.getReport());
+        }
+
+        if (yaegerConfig.isCdsTraining()) {
+            startTrainingRun();
+        }
+    }
+
+    private void startTrainingRun() {
+        var ids = new ArrayList<>(keySet());
+        ids.remove(activeSceneId);
+
+        trainingRunTimer = animationTimerFactory.create(new TrainingRun(ids, this::setActive, this::isLoading, this::finishTrainingRun));
+        trainingRunTimer.start();
+    }
+
+    private void finishTrainingRun() {
+        trainingRunTimer.stop();
+
+        // Closing the last window exits the JVM, which then writes the class-data sharing archive
+        stage.close();
+    }
+
+    private void suspend(final int id, final YaegerScene scene) {
+        ((Suspendable) scene).suspend();
+        suspendedScenes.put(id, scene);
+        evictSuspendedScenes();
+    }
+
+    private void resume(final YaegerScene scene) {
+        ((Suspendable) scene).resume();
+
+        activeScene = scene;
+        setActiveSceneOnStage();
+    }
+
+    private void evictSuspendedScenes() {
+        var iterator = suspendedScenes.values().iterator();
+
+        while (suspendedScenes.size() > maxSuspendedScenes && iterator.hasNext()) {
+            var leastRecentlyUsed = iterator.next();
+            iterator.remove();
+            leastRecentlyUsed.destroy();
         }
+    }
 
-        activate(requestedScene);
+    private void onLoaded(final int id, final YaegerScene scene) {
+        // Another scene may have been activated while the assets were loading
+        if (Objects.equals(pendingScene, id)) {
+            switchTo(id, scene);
+        }
+    }
+
+    private void onPrepared(final int id, final YaegerScene scene) {
+        preparingScene = null;
+
+        if (scene instanceof Suspendable) {
+            ((Suspendable) scene).suspend();
+            build(scene);
+            preparedScenes.put(id, scene);
+        }
+
+        if (Objects.equals(pendingScene, id)) {
+            switchTo(id, scene);
+        }
+    }
+
+    private void onFailed(final int id) {
+        // The scene can be requested again, instead of waiting forever for assets that will not arrive
+        if (Objects.equals(pendingScene, id)) {
+            pendingScene = null;
+        }
+
+        if (Objects.equals(preparingScene, id)) {
+            preparingScene = null;
+        }
+
+        if (!startupFinished) {
+            failStartup();
+        }
+    }
+
+    private void failStartup() {
+        // Without its first scene the game can not start, so it is closed instead of showing the splash screen forever
+        finishedSplashScreen = true;
+        startupFinished = true;
+        stage.close();
     }
 
     private void activate(final YaegerScene scene) {
+        build(scene);
+        show(scene);
+    }
+
+    private void build(final YaegerScene scene) {
         injector.injectMembers(scene);
         annotationProcessor.configureUpdateDelegators(scene);
         annotationProcessor.invokeActivators(scene);
         scene.activate();
+    }
 
+    private void show(final YaegerScene scene) {
         activeScene = scene;
         setActiveSceneOnStage();
 
@@ -133,13 +397,27 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
     }
 
     private void addSplashScreen() {
-        var splash = splashScreenFactory.create(() -> {
-            this.finishedSplashScreen = true;
-            activateFirstScene();
-        });
+        var splash = splashScreenFactory.create(this::finishSplashScreen);
         splash.init(injector);
         splash.setStage(stage);
         activate(splash);
+        startupTimings.mark("Show splash screen");
+
+        // Build the first scene while the splash screen is showing
+        if (get(firstScene) != null) {
+            prepare(firstScene);
+        }
+    }
+
+    private void finishSplashScreen() {
+        // The splash screen keeps asking until all work that was started during start up is done
+        if (finishedSplashScreen || !classPreloader.isDone() || preparingScene != null) {
+            return;
+        }
+
+        finishedSplashScreen = true;
+        startupTimings.mark("Wait for splash screen");
+        activateFirstScene();
     }
 
     private void activateFirstScene() {
@@ -155,6 +433,26 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
         this.annotationProcessor = annotationProcessor;
     }
 
+    @Inject
+    public void setAssetPreloader(final AssetPreloader assetPreloader) {
+        this.assetPreloader = assetPreloader;
+    }
+
+    @Inject
+    public void setAnimationTimerFactory(final AnimationTimerFactory animationTimerFactory) {
+        this.animationTimerFactory = animationTimerFactory;
+    }
+
+    @Inject
+    public void setClassPreloader(final ClassPreloader classPreloader) {
+        this.classPreloader = classPreloader;
+    }
+
+    @Inject
+    public void setStartupTimings(final StartupTimings startupTimings) {
+        this.startupTimings = startupTimings;
+    }
+
     @Inject
     public void setSplashScreenFactory(final SplashScreenFactory splashScreenFactory) {
         this.splashScreenFactory = splashScreenFactory;
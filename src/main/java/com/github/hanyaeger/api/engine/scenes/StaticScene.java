@@ -1,17 +1,33 @@
 package com.github.hanyaeger.api.engine.scenes;
 
 import com.github.hanyaeger.api.engine.DependencyInjector;
+import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.debug.Debugger;
+import com.github.hanyaeger.api.engine.entities.entity.StaticLayer;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+import com.github.hanyaeger.api.engine.entities.tilemap.ChunkedTileMap;
 import com.github.hanyaeger.api.engine.entities.tilemap.TileMap;
 import com.github.hanyaeger.api.engine.entities.tilemap.TileMapListProvider;
+import com.github.hanyaeger.api.engine.media.assets.Asset;
+import com.github.hanyaeger.api.engine.media.assets.AssetListProvider;
+import com.github.hanyaeger.api.engine.media.assets.AssetPreloader;
+import com.github.hanyaeger.api.engine.media.atlas.TextureAtlas;
+import com.github.hanyaeger.api.engine.media.atlas.TextureAtlasBuilder;
+import com.github.hanyaeger.api.engine.media.atlas.TextureAtlasContainer;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import com.github.hanyaeger.api.guice.factories.CameraFactory;
 import com.github.hanyaeger.api.guice.factories.EntityCollectionFactory;
+import com.github.hanyaeger.api.guice.factories.InputMapFactory;
+import com.github.hanyaeger.api.guice.factories.MouseDispatcherFactory;
 import com.github.hanyaeger.api.guice.factories.SceneFactory;
+import com.github.hanyaeger.api.guice.factories.StaticLayerFactory;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.github.hanyaeger.api.engine.entities.EntitySpawner;
 import javafx.scene.Scene;
 import javafx.scene.effect.ColorAdjust;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
@@ -19,7 +35,9 @@ import com.github.hanyaeger.api.engine.YaegerGame;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
 import com.github.hanyaeger.api.engine.entities.EntitySupplier;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.ActionListener;
 import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.MouseDispatcher;
 import com.github.hanyaeger.api.engine.scenes.delegates.BackgroundDelegate;
 import com.github.hanyaeger.api.engine.scenes.delegates.KeyListenerDelegate;
 
@@ -31,10 +49,14 @@ import java.util.Set;
  * A {@link StaticScene} is the abstract superclass of all scenes that do not require a Game Loop. If a Game
  * Loop is required, extend a {@link DynamicScene}.
  */
-public abstract class StaticScene implements YaegerScene, SupplierProvider, TileMapListProvider, EntityCollectionSupplier, DependencyInjector {
+public abstract class StaticScene implements YaegerScene, Suspendable, SupplierProvider, TileMapListProvider, AssetListProvider, EntityCollectionSupplier, DependencyInjector {
 
     private EntityCollectionFactory entityCollectionFactory;
     private SceneFactory sceneFactory;
+    private CameraFactory cameraFactory;
+    private StaticLayerFactory staticLayerFactory;
+    private InputMapFactory inputMapFactory;
+    private MouseDispatcherFactory mouseDispatcherFactory;
 
     protected Injector injector;
 
@@ -43,12 +65,21 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
     private EntitySupplier entitySupplier;
     private KeyListenerDelegate keyListenerDelegate;
     private BackgroundDelegate backgroundDelegate;
+    private AssetPreloader assetPreloader;
+    private ImageRepository imageRepository;
 
     private final List<TileMap> tileMaps = new ArrayList<>();
+    private final List<Asset> assets = new ArrayList<>();
+    private List<TextureAtlas> textureAtlases = new ArrayList<>();
+    private boolean suspended = false;
 
     private Stage stage;
     private Scene scene;
     private Pane pane;
+    private Pane worldLayer;
+    private Camera camera;
+    private MouseDispatcher mouseDispatcher;
+    private StaticLayer staticLayer;
     private ColorAdjust colorAdjust;
     Debugger debugger;
 
@@ -63,30 +94,123 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
 
         scene = sceneFactory.create(pane);
 
-        entityCollection = entityCollectionFactory.create(pane);
+        if (this instanceof CameraContainer) {
+            pane.getChildren().add(worldLayer);
+            camera = cameraFactory.create(worldLayer, new Size(getWidth(), getHeight()));
+            entityCollection = entityCollectionFactory.create(worldLayer);
+            entityCollection.setCamera(camera);
+        } else {
+            entityCollection = entityCollectionFactory.create(pane);
+        }
         injector.injectMembers(entityCollection);
         entityCollection.init(injector);
         entityCollection.addStatisticsObserver(debugger);
 
         debugger.setup(pane);
-        keyListenerDelegate.setup(scene, this::onInputChanged);
+        if (!suspended) {
+            keyListenerDelegate.setup(scene, this::onInputChanged);
+        }
 
         if (this instanceof KeyListener) {
             entityCollection.registerKeyListener((KeyListener) this);
         }
+        if (this instanceof InputMapContainer) {
+            setupInputMap();
+        }
+        if (this instanceof ActionListener) {
+            entityCollection.registerActionListener((ActionListener) this);
+        }
         backgroundDelegate.setup(pane);
 
         setupScene();
         setupEntities();
+
+        if (camera != null) {
+            ((CameraContainer) this).setupCamera(camera);
+        }
     }
 
     @Override
     public void postActivate() {
+        if (this instanceof TextureAtlasContainer) {
+            buildTextureAtlases();
+        }
+
         entityCollection.registerSupplier(entitySupplier);
+        tileMaps.stream()
+                .filter(ChunkedTileMap.class::isInstance)
+                .forEach(entityCollection::registerSupplier);
+        tileMaps.forEach(tileMap -> tileMap.getCollisionGrid().ifPresent(entityCollection::registerColliderGrid));
+        if (camera != null) {
+            tileMaps.stream()
+                    .filter(ChunkedTileMap.class::isInstance)
+                    .forEach(tileMap -> camera.addViewportListener(((ChunkedTileMap) tileMap)::setViewport));
+        }
         entityCollection.initialUpdate();
+        if (camera != null && !(this instanceof DynamicScene)) {
+            // Without a Game Loop, changes to the camera are applied, and chunks are supplied, right away
+            camera.setUpdateAction(entityCollection::initialUpdate);
+        }
         debugger.toFront();
     }
 
+    private void setupInputMap() {
+        var inputMap = inputMapFactory.create();
+        ((InputMapContainer) this).setupInputMap(inputMap);
+        entityCollection.setInputMap(inputMap);
+
+        scene.addEventFilter(MouseEvent.MOUSE_PRESSED, event -> entityCollection.notifyMouseButtonPressed(event.getButton()));
+        scene.addEventFilter(MouseEvent.MOUSE_RELEASED, event -> entityCollection.notifyMouseButtonReleased(event.getButton()));
+    }
+
+    private void buildTextureAtlases() {
+        var textureAtlasBuilder = new TextureAtlasBuilder(imageRepository);
+
+        entitySupplier.forEach(entity -> entity.applyEntityProcessor(yaegerEntity -> {
+            if (yaegerEntity instanceof SpriteEntity) {
+                ((SpriteEntity) yaegerEntity).addToTextureAtlas(textureAtlasBuilder);
+            }
+        }));
+
+        textureAtlases = textureAtlasBuilder.build();
+        imageRepository.setTextureAtlases(textureAtlases);
+    }
+
+    @Override
+    public void suspend() {
+        suspended = true;
+        backgroundDelegate.suspend();
+
+        // A scene that is prepared ahead of time, is suspended before it is activated
+        if (scene != null) {
+            keyListenerDelegate.tearDown(scene);
+        }
+        if (entityCollection != null) {
+            // Keys held while suspending are released, so entities do not act on them after resuming
+            entityCollection.releaseInput();
+        }
+    }
+
+    @Override
+    public void resume() {
+        suspended = false;
+        keyListenerDelegate.setup(scene, this::onInputChanged);
+        backgroundDelegate.resume();
+
+        if (this instanceof TextureAtlasContainer) {
+            imageRepository.setTextureAtlases(textureAtlases);
+        }
+    }
+
+    /**
+     * Return whether this {@link YaegerScene} is currently suspended.
+     *
+     * @return {@code true} if this {@link YaegerScene} is suspended
+     */
+    protected boolean isSuspended() {
+        return suspended;
+    }
+
     /**
      * Add an {@link YaegerEntity} to this {@link YaegerScene}.
      * <p>
@@ -100,6 +224,26 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         entitySupplier.add(yaegerEntity);
     }
 
+    /**
+     * Add an {@link YaegerEntity} that is not expected to change to the {@link StaticLayer} of this
+     * {@link YaegerScene}. All members of the {@link StaticLayer} are rendered to a cached bitmap, which is
+     * only rendered again when one of them changes. The {@link StaticLayer} is placed at the position in the
+     * drawing order where this method is first called.
+     * <p>
+     * This method can only be used during initialisation.
+     * </p>
+     *
+     * @param yaegerEntity the {@link YaegerEntity} to be added
+     */
+    protected void addStaticEntity(final YaegerEntity yaegerEntity) {
+        if (staticLayer == null) {
+            staticLayer = staticLayerFactory.create();
+            entitySupplier.add(staticLayer);
+        }
+
+        staticLayer.add(yaegerEntity);
+    }
+
     @Override
     public EntityCollection getEntityCollection() {
         return entityCollection;
@@ -110,6 +254,21 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         return tileMaps;
     }
 
+    @Override
+    public List<Asset> getAssets() {
+        return assets;
+    }
+
+    /**
+     * Return the progress of the assets that are being loaded for the {@link YaegerScene} that will become
+     * active next. Use this method from a loading screen, to show the progress to the player.
+     *
+     * @return a {@code double} between 0 and 1. If no assets are being loaded, 1 is returned
+     */
+    protected double getAssetLoadingProgress() {
+        return assetPreloader.getProgress();
+    }
+
     @Override
     public EntitySupplier getEntitySupplier() {
         return entitySupplier;
@@ -156,6 +315,22 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         return colorAdjust.getBrightness();
     }
 
+    /**
+     * Let this {@link YaegerScene} dispatch all mouse events to its entities through one set of handlers, instead of
+     * attaching handlers to the {@link javafx.scene.Node} of each entity that listens to the mouse. The entity under
+     * the mouse pointer is looked up in a grid of the bounds of all entities, which is faster if a {@link YaegerScene}
+     * contains many entities that listen to the mouse, such as the tiles of a board game.
+     * <p>
+     * This method should be called from {@link #setupScene()}.
+     */
+    protected void enableSceneMouseDispatch() {
+        if (mouseDispatcher == null) {
+            mouseDispatcher = mouseDispatcherFactory.create();
+            mouseDispatcher.attach(scene);
+            entityCollection.setMouseDispatcher(mouseDispatcher);
+        }
+    }
+
     @Override
     public Scene getScene() {
         return this.scene;
@@ -165,6 +340,14 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
     public void destroy() {
         keyListenerDelegate.tearDown(scene);
         backgroundDelegate.destroy();
+
+        // The texture atlases of a suspended scene have already been replaced by those of the active scene
+        if (this instanceof TextureAtlasContainer && !suspended) {
+            imageRepository.clearTextureAtlases();
+        }
+        textureAtlases = new ArrayList<>();
+        suspended = false;
+
         clear();
     }
 
@@ -180,6 +363,14 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         pane.getChildren().clear();
         pane = null;
         scene = null;
+
+        if (worldLayer != null) {
+            worldLayer.getChildren().clear();
+            worldLayer = null;
+        }
+        camera = null;
+        mouseDispatcher = null;
+        staticLayer = null;
     }
 
     /**
@@ -194,6 +385,17 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
     }
 
 
+    /**
+     * Set the {@link Pane} that should be used as the world layer, which contains all entities and is translated
+     * by the {@link Camera}. It is only used if this {@link YaegerScene} implements {@link CameraContainer}.
+     *
+     * @param worldLayer the {@link Pane} to be used
+     */
+    @Inject
+    public void setWorldLayer(final Pane worldLayer) {
+        this.worldLayer = worldLayer;
+    }
+
     /**
      * Set the {@link KeyListener} that should be used. In general, this will be the {@link YaegerScene}
      * itself.
@@ -230,11 +432,41 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         this.backgroundDelegate = backgroundDelegate;
     }
 
+    @Inject
+    public void setAssetPreloader(final AssetPreloader assetPreloader) {
+        this.assetPreloader = assetPreloader;
+    }
+
+    @Inject
+    public void setImageRepository(final ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+
     @Inject
     public void setEntityCollectionFactory(final EntityCollectionFactory entityCollectionFactory) {
         this.entityCollectionFactory = entityCollectionFactory;
     }
 
+    @Inject
+    public void setCameraFactory(final CameraFactory cameraFactory) {
+        this.cameraFactory = cameraFactory;
+    }
+
+    @Inject
+    public void setStaticLayerFactory(final StaticLayerFactory staticLayerFactory) {
+        this.staticLayerFactory = staticLayerFactory;
+    }
+
+    @Inject
+    public void setInputMapFactory(final InputMapFactory inputMapFactory) {
+        this.inputMapFactory = inputMapFactory;
+    }
+
+    @Inject
+    public void setMouseDispatcherFactory(final MouseDispatcherFactory mouseDispatcherFactory) {
+        this.mouseDispatcherFactory = mouseDispatcherFactory;
+    }
+
     @Inject
     public void setEntitySupplier(final EntitySupplier entitySupplier) {
         this.entitySupplier = entitySupplier;
@@ -0,0 +1,21 @@
+package com.github.hanyaeger.api.engine.scenes;
+
+/**
+ * A {@link YaegerScene} that is {@link Suspendable} can be kept in memory when another {@link YaegerScene} becomes
+ * active, instead of being destroyed. When it becomes active again, it is resumed with all its entities intact,
+ * which is much faster than activating it again.
+ */
+public interface Suspendable {
+
+    /**
+     * Suspend this {@link YaegerScene}. It will no longer receive input or be part of the Game Loop, but all its
+     * entities are kept. A {@link YaegerScene} that is prepared ahead of time, is suspended before it is activated,
+     * so it is built without becoming part of the Game Loop.
+     */
+    void suspend();
+
+    /**
+     * Resume this {@link YaegerScene}, after it has been suspended.
+     */
+    void resume();
+}
@@ -0,0 +1,61 @@
+package com.github.hanyaeger.api.engine.scenes;
+
+import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerHandler;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link TrainingRun} activates all instances of {@link YaegerScene} of a Game one after the other, each for a
+ * fixed number of frames, and finishes after the last one. It is used to train a class-data sharing archive: when
+ * the JVM is started with {@code -XX:ArchiveClassesAtExit}, all classes that were loaded during the run are written
+ * to the archive when the Game closes.
+ */
+public class TrainingRun implements AnimationTimerHandler {
+
+    /**
+     * The number of frames each {@link YaegerScene} is shown.
+     */
+    public static final int FRAMES_PER_SCENE = 30;
+
+    private final Iterator<Integer> ids;
+    private final IntConsumer activator;
+    private final BooleanSupplier loading;
+    private final Runnable onFinished;
+    private int frames = 0;
+    private boolean finished = false;
+
+    /**
+     * Create a new {@link TrainingRun}.
+     *
+     * @param ids        the identifiers of the instances of {@link YaegerScene} that should be activated, in order
+     * @param activator  the {@link IntConsumer} that activates the {@link YaegerScene} of an identifier
+     * @param loading    the {@link BooleanSupplier} that returns whether a {@link YaegerScene} is still loading its
+     *                   assets. While loading, no frames are counted
+     * @param onFinished the {@link Runnable} to be called after the last {@link YaegerScene} has been shown
+     */
+    public TrainingRun(final List<Integer> ids, final IntConsumer activator, final BooleanSupplier loading, final Runnable onFinished) {
+        this.ids = ids.iterator();
+        this.activator = activator;
+        this.loading = loading;
+        this.onFinished = onFinished;
+    }
+
+    @Override
+    public void handle(final long now) {
+        if (finished || loading.getAsBoolean() || ++frames < FRAMES_PER_SCENE) {
+            return;
+        }
+
+        frames = 0;
+
+        if (ids.hasNext()) {
+            activator.accept(ids.next());
+        } else {
+            finished = true;
+            onFinished.run();
+        }
+    }
+}
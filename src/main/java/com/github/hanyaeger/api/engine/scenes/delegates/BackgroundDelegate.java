@@ -16,6 +16,10 @@ import javafx.scene.paint.Color;
 /**
  * A {@link BackgroundDelegate} follows the Delegate pattern and embraces Composition over Inheritence.
  * It can be used to deal with both background audio and background images for a {@link YaegerScene}.
+ * <p>
+ * The {@link AudioClip} of the background audio is shared by all scenes that use the same audio file. A
+ * {@link BackgroundDelegate} therefore only stops it if it has started it itself, so a suspended or prepared
+ * {@link YaegerScene} does not stop the background audio of the active one.
  */
 public class BackgroundDelegate implements ResourceConsumer, Destroyable {
 
@@ -26,6 +30,8 @@ public class BackgroundDelegate implements ResourceConsumer, Destroyable {
     private BackgroundFactory backgroundFactory;
 
     private AudioClip backgroundAudio;
+    private boolean suspended = false;
+    private boolean playing = false;
 
     /**
      * Setup the {@link Pane} belonging to this  {@link BackgroundDelegate}.
@@ -43,9 +49,12 @@ public class BackgroundDelegate implements ResourceConsumer, Destroyable {
      */
     public void setBackgroundAudio(final String backgroundAudioUrl) {
         if (backgroundAudioUrl != null) {
-
+            stopBackgroundAudio();
             backgroundAudio = audioRepository.get(backgroundAudioUrl, SoundClip.INDEFINITE);
-            backgroundAudio.play();
+
+            if (!suspended) {
+                playBackgroundAudio();
+            }
         }
     }
 
@@ -74,16 +83,43 @@ public class BackgroundDelegate implements ResourceConsumer, Destroyable {
         }
     }
 
-    private void stopBackgroundAudio() {
+    /**
+     * Stop the background audio, while keeping it available for {@link #resume()}. Background audio that is set
+     * while suspended, is only started on {@link #resume()}.
+     */
+    public void suspend() {
+        suspended = true;
+        stopBackgroundAudio();
+    }
+
+    /**
+     * Start the background audio again, after {@link #suspend()} has been called.
+     */
+    public void resume() {
+        suspended = false;
+
         if (backgroundAudio != null) {
+            playBackgroundAudio();
+        }
+    }
+
+    private void playBackgroundAudio() {
+        backgroundAudio.play();
+        playing = true;
+    }
+
+    private void stopBackgroundAudio() {
+        if (playing) {
             backgroundAudio.stop();
-            backgroundAudio = null;
+            playing = false;
         }
     }
 
     @Override
     public void destroy() {
         stopBackgroundAudio();
+        backgroundAudio = null;
+        suspended = false;
         pane.setBackground(null);
         pane = null;
     }
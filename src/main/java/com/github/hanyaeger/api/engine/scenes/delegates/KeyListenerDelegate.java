@@ -21,21 +21,23 @@ public class KeyListenerDelegate {
         this.keyListener = keyListener;
         scene.setOnKeyPressed(
                 e -> {
-                    var code = e.getCode();
-                    input.add(code);
-                    inputChanged(input);
+                    // Key repeats do not change the pressed keys
+                    if (input.add(e.getCode())) {
+                        inputChanged(input);
+                    }
                 });
 
         scene.setOnKeyReleased(
                 e -> {
-                    var code = e.getCode();
-                    input.remove(code);
-                    inputChanged(input);
+                    if (input.remove(e.getCode())) {
+                        inputChanged(input);
+                    }
                 });
     }
 
     public void tearDown(final Scene scene) {
         keyListener = null;
+        input.clear();
         scene.setOnKeyPressed(null);
         scene.setOnKeyReleased(null);
     }
@@ -5,13 +5,16 @@ import com.github.hanyaeger.api.engine.scenes.splash.SplashScene;
 
 /**
  * The {@link Timer} that will be used for timing the duration of a
- * {@link SplashScene}.
+ * {@link SplashScene}. After the minimum duration, it calls its {@link Runnable} at a short interval, until the
+ * work that is done during start up has finished.
  */
 public class SplashSceneTimer extends Timer {
 
-    private static final int INTERVAL_IN_MS = 5000;
+    private static final int INTERVAL_IN_MS = 50;
+    private static final long MINIMUM_DURATION_IN_NS = 1_000_000_000L;
 
     private Runnable runnable;
+    private long start = 0;
 
     /**
      * Create a new instance of {@link SplashSceneTimer}.
@@ -26,6 +29,13 @@ public class SplashSceneTimer extends Timer {
 
     @Override
     public void onAnimationUpdate(final long timestamp) {
-        runnable.run();
+        if (start == 0) {
+            start = timestamp;
+        }
+
+        // Give the logo the time to fade in
+        if (timestamp - start >= MINIMUM_DURATION_IN_NS) {
+            runnable.run();
+        }
     }
 }
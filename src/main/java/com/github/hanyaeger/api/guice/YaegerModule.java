@@ -1,6 +1,22 @@
 package com.github.hanyaeger.api.guice;
 
+import com.github.hanyaeger.api.engine.ClassPreloader;
+import com.github.hanyaeger.api.engine.StartupTimings;
+import com.github.hanyaeger.api.engine.media.audio.AudioMixer;
+import com.github.hanyaeger.api.engine.media.repositories.AudioRepository;
 import com.google.inject.AbstractModule;
 
 public class YaegerModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        // A SoundClip is created by the game itself and acquires these through getInstance(), so the injected
+        // instances should be the same ones
+        bind(AudioRepository.class).toInstance(AudioRepository.getInstance());
+        bind(AudioMixer.class).toInstance(AudioMixer.getInstance());
+
+        // These are started before the Injector is created
+        bind(StartupTimings.class).toInstance(StartupTimings.getInstance());
+        bind(ClassPreloader.class).toInstance(ClassPreloader.getInstance());
+    }
 }
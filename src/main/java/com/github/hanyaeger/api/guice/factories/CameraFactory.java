@@ -0,0 +1,22 @@
+package com.github.hanyaeger.api.guice.factories;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.scenes.Camera;
+import javafx.scene.layout.Pane;
+
+/**
+ * A {@link CameraFactory} should be used to create instances of {@link Camera}.
+ */
+public class CameraFactory {
+
+    /**
+     * Create a {@link Camera}.
+     *
+     * @param worldLayer   the {@link Pane} that contains all entities and will be translated by the {@link Camera}
+     * @param viewportSize the {@link Size} of the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}
+     * @return an instance of {@link Camera}
+     */
+    public Camera create(final Pane worldLayer, final Size viewportSize) {
+        return new Camera(worldLayer, viewportSize);
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.hanyaeger.api.guice.factories;
+
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.InputMap;
+
+/**
+ * An {@link InputMapFactory} should be used to create instances of {@link InputMap}.
+ */
+public class InputMapFactory {
+
+    /**
+     * Create an {@link InputMap}.
+     *
+     * @return an instance of {@link InputMap}
+     */
+    public InputMap create() {
+        return new InputMap();
+    }
+}
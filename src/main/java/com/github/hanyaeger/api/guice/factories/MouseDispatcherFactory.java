@@ -0,0 +1,18 @@
+package com.github.hanyaeger.api.guice.factories;
+
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.MouseDispatcher;
+
+/**
+ * A {@link MouseDispatcherFactory} should be used to create instances of {@link MouseDispatcher}.
+ */
+public class MouseDispatcherFactory {
+
+    /**
+     * Create a {@link MouseDispatcher} with a grid of the default cell size.
+     *
+     * @return an instance of {@link MouseDispatcher}
+     */
+    public MouseDispatcher create() {
+        return new MouseDispatcher();
+    }
+}
@@ -1,10 +1,15 @@
 package com.github.hanyaeger.api.guice.factories;
 
+import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.FrameTable;
+import com.github.hanyaeger.api.engine.media.repositories.FrameTableRepository;
+import com.google.inject.Inject;
 import javafx.scene.image.ImageView;
 import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.SpriteAnimationDelegate;
 
 public class SpriteAnimationDelegateFactory {
 
+    private FrameTableRepository frameTableRepository;
+
     /**
      * Create a new {@code SpriteAnimationDelegate} for the given {@link ImageView} and number of frames.
      * After construction, the spriteIndex will be set to the first frame.
@@ -14,6 +19,26 @@ public class SpriteAnimationDelegateFactory {
      * @return an {@link SpriteAnimationDelegate}
      */
     public SpriteAnimationDelegate create(final ImageView imageView, final int frames) {
-        return new SpriteAnimationDelegate(imageView, frames);
+        return create(imageView, 1, frames);
+    }
+
+    /**
+     * Create a new {@code SpriteAnimationDelegate} for the given {@link ImageView}, of which the frames are laid
+     * out in a grid of rows and columns. After construction, the spriteIndex will be set to the first frame.
+     *
+     * @param imageView the {@link ImageView} for which the different frames should be created
+     * @param rows      the number of rows of frames
+     * @param columns   the number of columns of frames
+     * @return an {@link SpriteAnimationDelegate}
+     */
+    public SpriteAnimationDelegate create(final ImageView imageView, final int rows, final int columns) {
+        var frameTable = frameTableRepository.get(imageView.getImage(), FrameTable.regionOf(imageView), rows, columns);
+
+        return new SpriteAnimationDelegate(imageView, frameTable);
+    }
+
+    @Inject
+    public void setFrameTableRepository(final FrameTableRepository frameTableRepository) {
+        this.frameTableRepository = frameTableRepository;
     }
 }
@@ -0,0 +1,18 @@
+package com.github.hanyaeger.api.guice.factories;
+
+import com.github.hanyaeger.api.engine.entities.entity.StaticLayer;
+
+/**
+ * A {@link StaticLayerFactory} should be used to create instances of {@link StaticLayer}.
+ */
+public class StaticLayerFactory {
+
+    /**
+     * Create a {@link StaticLayer}.
+     *
+     * @return an instance of {@link StaticLayer}
+     */
+    public StaticLayer create() {
+        return new StaticLayer();
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.hanyaeger.api.javafx.canvas;
+
+import com.google.inject.Singleton;
+import javafx.scene.canvas.Canvas;
+
+/**
+ * A {@code CanvasFactory} should be used for creating instance of {@link Canvas}.
+ */
+@Singleton
+public class CanvasFactory {
+
+    /**
+     * Constructs a {@link Canvas} of the given width and height.
+     *
+     * @param width  The width of the {@link Canvas}.
+     * @param height The height of the {@link Canvas}.
+     * @return An instance of {@link Canvas}.
+     */
+    public Canvas create(final double width, final double height) {
+
+        var canvas = new Canvas(width, height);
+        canvas.setManaged(false);
+        canvas.setFocusTraversable(false);
+        return canvas;
+    }
+}
@@ -8,6 +8,7 @@ module hanyaeger.api {
     requires transitive javafx.media;
     requires transitive javafx.graphics;
     requires transitive com.google.guice;
+    requires org.dyn4j;
 
     exports com.github.hanyaeger.api.engine;
     exports com.github.hanyaeger.api.engine.annotations;
@@ -17,6 +18,7 @@ module hanyaeger.api {
     exports com.github.hanyaeger.api.engine.media.repositories;
     exports com.github.hanyaeger.api.engine.debug;
     exports com.github.hanyaeger.api.engine.entities.entity.sprite;
+    exports com.github.hanyaeger.api.engine.entities.entity.sprite.delegates;
     exports com.github.hanyaeger.api.engine.entities.tilemap;
     exports com.github.hanyaeger.api.engine.entities.entity;
     exports com.github.hanyaeger.api.engine.entities.entity.shape to com.google.guice;
@@ -30,10 +32,13 @@ module hanyaeger.api {
     exports com.github.hanyaeger.api.engine.entities.entity.events.userinput;
     exports com.github.hanyaeger.api.engine.styles;
     exports com.github.hanyaeger.api.engine.media.audio;
+    exports com.github.hanyaeger.api.engine.media.assets;
+    exports com.github.hanyaeger.api.engine.media.atlas;
 
     exports com.github.hanyaeger.api.guice.factories;
 
     exports com.github.hanyaeger.api.javafx.image;
+    exports com.github.hanyaeger.api.javafx.canvas;
     exports com.github.hanyaeger.api.javafx.debug;
     exports com.github.hanyaeger.api.javafx.animationtimer;
 
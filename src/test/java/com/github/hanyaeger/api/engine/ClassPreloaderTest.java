@@ -0,0 +1,77 @@
+package com.github.hanyaeger.api.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassPreloaderTest {
+
+    @Test
+    void listClassesContainsClassesFromTheSameLocation() {
+        // Arrange
+        var sut = new ClassPreloader();
+        var location = ClassPreloader.locationOf(ClassPreloaderTest.class).orElseThrow();
+
+        // Act
+        var classes = sut.listClasses(location, Set.of(ClassPreloaderTest.class.getPackageName()));
+
+        // Assert
+        assertTrue(classes.contains(ClassPreloaderTest.class.getName()));
+        assertTrue(classes.stream().noneMatch(name -> name.endsWith("module-info") || name.endsWith("package-info")));
+    }
+
+    @Test
+    void listClassesOnlyContainsClassesOfTheGivenPackages() {
+        // Arrange
+        var sut = new ClassPreloader();
+        var location = ClassPreloader.locationOf(ClassPreloaderTest.class).orElseThrow();
+        var packageName = "com.github.hanyaeger.api.engine.scenes";
+
+        // Act
+        var classes = sut.listClasses(location, Set.of(packageName));
+
+        // Assert
+        assertFalse(classes.isEmpty());
+        assertFalse(classes.contains(ClassPreloaderTest.class.getName()));
+        assertTrue(classes.stream().allMatch(name -> name.startsWith(packageName + ".")));
+    }
+
+    @Test
+    void locationOfAClassWithoutLocationIsEmpty() {
+        // Arrange
+
+        // Act
+        var location = ClassPreloader.locationOf(String.class);
+
+        // Assert
+        assertTrue(location.isEmpty());
+    }
+
+    @Test
+    void preloadLoadsAllClassesInTheBackground() throws Exception {
+        // Arrange
+        var sut = new ClassPreloader();
+
+        // Act
+        var loaded = sut.preload(ClassPreloaderTest.class).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(loaded > 0);
+        assertTrue(sut.isDone());
+    }
+
+    @Test
+    void isDoneWithoutPreloadingReturnsTrue() {
+        // Arrange
+        var sut = new ClassPreloader();
+
+        // Act
+        var done = sut.isDone();
+
+        // Assert
+        assertTrue(done);
+    }
+}
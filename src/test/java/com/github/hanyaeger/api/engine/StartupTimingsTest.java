@@ -0,0 +1,86 @@
+package com.github.hanyaeger.api.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimingsTest {
+
+    private static final long MILLI = 1_000_000;
+
+    private StartupTimings sut;
+    private AtomicLong now;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong();
+        sut = new StartupTimings();
+        sut.setClock(now::get);
+        sut.start();
+    }
+
+    @Test
+    void markRecordsTheDurationSinceThePreviousPhase() {
+        // Arrange
+        now.set(10 * MILLI);
+        sut.mark("first");
+        now.set(25 * MILLI);
+
+        // Act
+        sut.mark("second");
+
+        // Assert
+        var phases = sut.getPhases();
+        assertEquals(10, phases.get("first"));
+        assertEquals(15, phases.get("second"));
+        assertEquals(25, sut.getTotal());
+    }
+
+    @Test
+    void markBackgroundRecordsTheTimeSinceTheStart() {
+        // Arrange
+        now.set(10 * MILLI);
+        sut.mark("first");
+        now.set(40 * MILLI);
+
+        // Act
+        sut.markBackground("background");
+
+        // Assert
+        assertEquals(40, sut.getBackgroundTasks().get("background"));
+        assertEquals(10, sut.getTotal());
+    }
+
+    @Test
+    void startRemovesPreviousPhases() {
+        // Arrange
+        sut.mark("first");
+        sut.markBackground("background");
+
+        // Act
+        sut.start();
+
+        // Assert
+        assertTrue(sut.getPhases().isEmpty());
+        assertTrue(sut.getBackgroundTasks().isEmpty());
+    }
+
+    @Test
+    void reportContainsAllPhases() {
+        // Arrange
+        now.set(5 * MILLI);
+        sut.mark("Create injector");
+        sut.markBackground("Preload classes");
+
+        // Act
+        var report = sut.getReport();
+
+        // Assert
+        assertTrue(report.contains("Create injector"));
+        assertTrue(report.contains("Preload classes"));
+        assertTrue(report.contains("Total"));
+    }
+}
@@ -37,6 +37,33 @@ class YaegerCommandLineParserTest {
         assertFalse(actual.isShowSplash());
     }
 
+    @Test
+    void showStartupTimingsReturnsCorrectConfig() {
+        // Arrange
+        var sut = new YaegerCommandLineParser();
+        var showStartupTimingsArgs = Arrays.asList("--showStartupTimings");
+
+        // Act
+        var actual = sut.parseToConfig(showStartupTimingsArgs);
+
+        // Assert
+        assertTrue(actual.isShowStartupTimings());
+        assertTrue(actual.isShowSplash());
+    }
+
+    @Test
+    void cdsTrainingReturnsCorrectConfig() {
+        // Arrange
+        var sut = new YaegerCommandLineParser();
+        var cdsTrainingArgs = Arrays.asList("--cdsTraining");
+
+        // Act
+        var actual = sut.parseToConfig(cdsTrainingArgs);
+
+        // Assert
+        assertTrue(actual.isCdsTraining());
+    }
+
     @Test
     void helpPrintsHelpScreen() {
         // Arrange
@@ -53,5 +80,7 @@ class YaegerCommandLineParserTest {
         String output = new String(ba.toByteArray());
         assertTrue(output.contains("--noSplash"));
         assertTrue(output.contains("--help"));
+        assertTrue(output.contains("--showStartupTimings"));
+        assertTrue(output.contains("--cdsTraining"));
     }
 }
@@ -32,6 +32,30 @@ class YaegerConfigTest {
         assertFalse(showSplash);
     }
 
+    @Test
+    void showStartupTimingsDefaultToFalse() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        var showStartupTimings = sut.isShowStartupTimings();
+
+        // Assert
+        assertFalse(showStartupTimings);
+    }
+
+    @Test
+    void cdsTrainingDefaultToFalse() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        var cdsTraining = sut.isCdsTraining();
+
+        // Assert
+        assertFalse(cdsTraining);
+    }
+
     @Test
     void yaegerConfigIsNotEqualToNull() {
         // Arrange
@@ -35,6 +35,7 @@ class YaegerStageTest {
 
         sut = new YaegerStage(yaegerGame, stage, yaegerConfig);
         sut.setSceneCollectionFactory(sceneCollectionFactory);
+        sut.setStartupTimings(mock(StartupTimings.class));
 
         when(sceneCollectionFactory.create(stage, yaegerConfig)).thenReturn(sceneCollection);
     }
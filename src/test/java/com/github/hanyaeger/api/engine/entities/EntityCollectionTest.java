@@ -1,11 +1,21 @@
 package com.github.hanyaeger.api.engine.entities;
 
 import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.UpdateIntervalProvider;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
 import com.github.hanyaeger.api.engine.debug.Debugger;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.ActionListener;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.ActionState;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.InputMap;
 import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
+import com.github.hanyaeger.api.engine.entities.entity.motion.DefaultMotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Direction;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+import com.github.hanyaeger.api.engine.scenes.Camera;
+import com.github.hanyaeger.api.guice.factories.MotionApplierFactory;
 import com.google.inject.Injector;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
@@ -13,6 +23,7 @@ import javafx.event.EventType;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
 import javafx.scene.layout.Pane;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -73,6 +84,173 @@ class EntityCollectionTest {
         verify(supplier).clear();
     }
 
+    @Test
+    void updatableWithIntervalIsOnlyUpdatedOnceEveryInterval() {
+        // Arrange
+        var updatable = new IntervalUpdatable(3);
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addDynamicEntity(updatable);
+
+        // Act
+        for (var i = 0; i < 9; i++) {
+            sut.update(i);
+        }
+
+        // Assert
+        assertEquals(3, updatable.updates);
+    }
+
+    @Test
+    void updatablesWithSameIntervalAreSpreadAcrossCycles() {
+        // Arrange
+        var first = new IntervalUpdatable(2);
+        var second = new IntervalUpdatable(2);
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addDynamicEntity(first);
+        sut.addDynamicEntity(second);
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        assertEquals(1, first.updates + second.updates);
+    }
+
+    @Test
+    void culledMoveableCatchesUpOnSkippedMotion() {
+        // Arrange
+        var culled = new MovingUpdatable();
+        var visible = new MovingUpdatable();
+        var camera = mock(Camera.class);
+        when(camera.getUpdateInterval(any())).thenReturn(1);
+        when(camera.getUpdateInterval(culled)).thenReturn(4);
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.setCamera(camera);
+        sut.addDynamicEntity(culled);
+        sut.addDynamicEntity(visible);
+
+        // Act
+        for (var i = 0; i < 8; i++) {
+            sut.update(i);
+        }
+
+        // Assert
+        assertEquals(2, culled.updates);
+        assertEquals(8, visible.getAnchorLocation().getX(), 0.001);
+        assertEquals(visible.getAnchorLocation().getX(), culled.getAnchorLocation().getX(), 0.001);
+    }
+
+    @Test
+    void moveableExcludedFromUpdatesDoesNotCatchUp() {
+        // Arrange
+        var moveable = new MovingUpdatable();
+        var camera = mock(Camera.class);
+        when(camera.getUpdateInterval(any())).thenReturn(1);
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.setCamera(camera);
+        sut.addDynamicEntity(moveable);
+
+        when(camera.isExcludedFromUpdates(moveable)).thenReturn(true);
+        for (var i = 0; i < 4; i++) {
+            sut.update(i);
+        }
+        when(camera.isExcludedFromUpdates(moveable)).thenReturn(false);
+
+        // Act
+        sut.update(4);
+
+        // Assert
+        assertEquals(1, moveable.getAnchorLocation().getX(), 0.001);
+    }
+
+    @Test
+    void actionListenerIsOnlyNotifiedOfItsOwnActions() {
+        // Arrange
+        var inputMap = new InputMap();
+        inputMap.bind("jump", KeyCode.SPACE);
+        inputMap.bind("fire", KeyCode.ENTER);
+        var jumpListener = mock(ActionListener.class);
+        when(jumpListener.getActions()).thenReturn(Set.of("jump"));
+        var fireListener = mock(ActionListener.class);
+        when(fireListener.getActions()).thenReturn(Set.of("fire"));
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.setInputBatching(true);
+        sut.setInputMap(inputMap);
+        sut.registerActionListener(jumpListener);
+        sut.registerActionListener(fireListener);
+        sut.notifyGameObjectsOfPressedKeys(Set.of(KeyCode.SPACE));
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        verify(jumpListener).onAction("jump", ActionState.PRESSED);
+        verify(fireListener, never()).onAction(anyString(), any(ActionState.class));
+    }
+
+    @Test
+    void releaseInputReleasesHeldKeysAndActions() {
+        // Arrange
+        var inputMap = new InputMap();
+        inputMap.bind("walk", KeyCode.RIGHT);
+        var walkListener = mock(ActionListener.class);
+        when(walkListener.getActions()).thenReturn(Set.of("walk"));
+        var keyListener = mock(KeyListener.class);
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.setInputBatching(true);
+        sut.setInputMap(inputMap);
+        sut.registerActionListener(walkListener);
+        sut.registerKeyListener(keyListener);
+        sut.notifyGameObjectsOfPressedKeys(Set.of(KeyCode.RIGHT));
+        sut.update(0);
+        sut.notifyGameObjectsOfPressedKeys(Set.of(KeyCode.RIGHT, KeyCode.UP));
+
+        // Act
+        sut.releaseInput();
+        sut.update(1);
+
+        // Assert
+        verify(walkListener).onAction("walk", ActionState.RELEASED);
+        verify(keyListener).onPressedKeysChange(Set.of());
+        verify(keyListener, never()).onPressedKeysChange(Set.of(KeyCode.RIGHT, KeyCode.UP));
+        assertFalse(inputMap.isHeld("walk"));
+    }
+
+    @Test
+    void actionListenerIsNotifiedOfReleasedMouseButton() {
+        // Arrange
+        var inputMap = new InputMap();
+        inputMap.bind("fire", MouseButton.PRIMARY);
+        var fireListener = mock(ActionListener.class);
+        when(fireListener.getActions()).thenReturn(Set.of("fire"));
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.setInputMap(inputMap);
+        sut.registerActionListener(fireListener);
+        sut.notifyMouseButtonPressed(MouseButton.PRIMARY);
+
+        // Act
+        sut.notifyMouseButtonReleased(MouseButton.PRIMARY);
+
+        // Assert
+        verify(fireListener).onAction("fire", ActionState.PRESSED);
+        verify(fireListener).onAction("fire", ActionState.RELEASED);
+    }
+
     @Nested
     class TestsWithKeyListeningEntites {
 
@@ -133,6 +311,42 @@ class EntityCollectionTest {
             // Assert
             assertEquals(keycodes, keyListeningEntity.getPressedKeys());
         }
+
+        @Test
+        void keyListeningEntityIsNotNotifiedBeforeUpdateWhenInputIsBatched() {
+            // Arrange
+            sut = new EntityCollection(pane);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.setInputBatching(true);
+            sut.registerSupplier(entitySupplier);
+            sut.update(0);
+
+            // Act
+            sut.notifyGameObjectsOfPressedKeys(Set.of(KeyCode.A));
+
+            // Assert
+            assertNull(keyListeningEntity.getPressedKeys());
+        }
+
+        @Test
+        void keyListeningEntityIsNotifiedDuringUpdateWhenInputIsBatched() {
+            // Arrange
+            sut = new EntityCollection(pane);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.setInputBatching(true);
+            sut.registerSupplier(entitySupplier);
+            sut.update(0);
+            sut.notifyGameObjectsOfPressedKeys(Set.of(KeyCode.A));
+            sut.notifyGameObjectsOfPressedKeys(Set.of(KeyCode.A, KeyCode.B));
+
+            // Act
+            sut.update(1);
+
+            // Assert
+            assertEquals(Set.of(KeyCode.A, KeyCode.B), keyListeningEntity.getPressedKeys());
+        }
     }
 
     @Nested
@@ -187,6 +401,53 @@ class EntityCollectionTest {
             verify(annotationProcessor).configureUpdateDelegators(updatableEntity);
         }
 
+        @Test
+        void initialUpdateUsesEntityMembersInjectorIfItInjectsTheEntity() {
+            // Arrange
+            var supplier = new EntitySupplier();
+            supplier.add(updatableEntity);
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+            var entityMembersInjector = mock(EntityMembersInjector.class);
+            when(entityMembersInjector.injectMembers(updatableEntity)).thenReturn(true);
+
+            sut = new EntityCollection(pane);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.setEntityMembersInjector(entityMembersInjector);
+            sut.init(injector);
+
+            // Act
+            sut.registerSupplier(supplier);
+            sut.initialUpdate();
+
+            // Assert
+            verify(entityMembersInjector).injectMembers(updatableEntity);
+            verify(injector, never()).injectMembers(updatableEntity);
+        }
+
+        @Test
+        void initialUpdateFallsBackToInjectorIfEntityMembersInjectorDoesNotInjectTheEntity() {
+            // Arrange
+            var supplier = new EntitySupplier();
+            supplier.add(updatableEntity);
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+            var entityMembersInjector = mock(EntityMembersInjector.class);
+            when(entityMembersInjector.injectMembers(updatableEntity)).thenReturn(false);
+
+            sut = new EntityCollection(pane);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.setEntityMembersInjector(entityMembersInjector);
+            sut.init(injector);
+
+            // Act
+            sut.registerSupplier(supplier);
+            sut.initialUpdate();
+
+            // Assert
+            verify(injector).injectMembers(updatableEntity);
+        }
+
         @Test
         void addToEntityCollectionIsCalledForEachEntity() {
             // Arrange
@@ -379,4 +640,56 @@ class EntityCollectionTest {
             return pressedKeys;
         }
     }
+
+    private static class MovingUpdatable extends YaegerEntity implements Updatable, Moveable {
+
+        private final MotionApplier motionApplier = new DefaultMotionApplier();
+        private int updates = 0;
+
+        MovingUpdatable() {
+            super(LOCATION);
+            motionApplier.setMotion(1, Direction.RIGHT);
+        }
+
+        @Override
+        public void update(long timestamp) {
+            updates++;
+            setAnchorLocation(motionApplier.updateLocation(getAnchorLocation()));
+        }
+
+        @Override
+        public void injectMotionApplierFactory(MotionApplierFactory motionApplierFactory) {
+            // Not required here.
+        }
+
+        @Override
+        public MotionApplier getMotionApplier() {
+            return motionApplier;
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class IntervalUpdatable implements Updatable, UpdateIntervalProvider {
+
+        private final int interval;
+        private int updates = 0;
+
+        IntervalUpdatable(final int interval) {
+            this.interval = interval;
+        }
+
+        @Override
+        public void update(long timestamp) {
+            updates++;
+        }
+
+        @Override
+        public int getUpdateInterval() {
+            return interval;
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.motion.DefaultMotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplierType;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.DynamicSpriteEntity;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import com.github.hanyaeger.api.guice.factories.MotionApplierFactory;
+import com.github.hanyaeger.api.guice.factories.SpriteAnimationDelegateFactory;
+import com.github.hanyaeger.api.javafx.image.ImageViewFactory;
+import com.google.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EntityMembersInjectorTest {
+
+    private static final String RESOURCE = "images/bubble.png";
+    private static final Coordinate2D LOCATION = new Coordinate2D(37, 37);
+    private static final Size SIZE = new Size(39, 41);
+
+    private EntityMembersInjector sut;
+    private MotionApplierFactory motionApplierFactory;
+
+    @BeforeEach
+    void setup() {
+        motionApplierFactory = mock(MotionApplierFactory.class);
+        when(motionApplierFactory.create(any(MotionApplierType.class))).thenReturn(new DefaultMotionApplier());
+
+        sut = new EntityMembersInjector();
+        sut.setImageRepository(mock(ImageRepository.class));
+        sut.setImageViewFactory(mock(ImageViewFactory.class));
+        sut.setSpriteAnimationDelegateFactory(mock(SpriteAnimationDelegateFactory.class));
+        sut.setMotionApplierFactory(motionApplierFactory);
+    }
+
+    @Test
+    void disabledInjectorDoesNotInject() {
+        // Arrange
+        var entity = new DynamicSpriteEntityImpl();
+
+        // Act
+        var injected = sut.injectMembers(entity);
+
+        // Assert
+        assertFalse(injected);
+        assertNull(entity.getUpdater());
+    }
+
+    @Test
+    void enabledInjectorInjectsDynamicSpriteEntity() {
+        // Arrange
+        sut.setEnabled(true);
+        var entity = new DynamicSpriteEntityImpl();
+
+        // Act
+        var injected = sut.injectMembers(entity);
+
+        // Assert
+        assertTrue(injected);
+        assertNotNull(entity.getUpdater());
+        assertNotNull(entity.getMotionApplier());
+        verify(motionApplierFactory).create(MotionApplierType.DEFAULT);
+    }
+
+    @Test
+    void eachEntityReceivesItsOwnUpdater() {
+        // Arrange
+        sut.setEnabled(true);
+        var first = new DynamicSpriteEntityImpl();
+        var second = new DynamicSpriteEntityImpl();
+
+        // Act
+        sut.injectMembers(first);
+        sut.injectMembers(second);
+
+        // Assert
+        assertNotSame(first.getUpdater(), second.getUpdater());
+    }
+
+    @Test
+    void entityWithOwnInjectionPointsIsLeftToGuice() {
+        // Arrange
+        sut.setEnabled(true);
+        var entity = new InjectingDynamicSpriteEntity();
+
+        // Act
+        var injected = sut.injectMembers(entity);
+
+        // Assert
+        assertFalse(injected);
+        assertNull(entity.getUpdater());
+    }
+
+    private static class DynamicSpriteEntityImpl extends DynamicSpriteEntity {
+
+        DynamicSpriteEntityImpl() {
+            super(RESOURCE, LOCATION, SIZE);
+        }
+    }
+
+    private static class InjectingDynamicSpriteEntity extends DynamicSpriteEntity {
+
+        InjectingDynamicSpriteEntity() {
+            super(RESOURCE, LOCATION, SIZE);
+        }
+
+        @Inject
+        public void setImageRepositoryOfGame(final ImageRepository imageRepository) {
+            // Only used to declare an injection point
+        }
+    }
+}
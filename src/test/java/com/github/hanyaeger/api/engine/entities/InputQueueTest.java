@@ -0,0 +1,100 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputQueueTest {
+
+    private InputQueue sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new InputQueue();
+    }
+
+    @Test
+    void pollWithoutInputReturnsNull() {
+        // Arrange
+
+        // Act
+        var actual = sut.poll();
+
+        // Assert
+        assertNull(actual);
+    }
+
+    @Test
+    void pollReturnsLastOfferedKeys() {
+        // Arrange
+        sut.offer(Set.of(KeyCode.A));
+        sut.offer(Set.of(KeyCode.A, KeyCode.B));
+
+        // Act
+        var actual = sut.poll();
+
+        // Assert
+        assertEquals(Set.of(KeyCode.A, KeyCode.B), actual);
+    }
+
+    @Test
+    void pollAfterIdenticalInputReturnsNull() {
+        // Arrange
+        sut.offer(Set.of(KeyCode.A));
+        sut.poll();
+        sut.offer(Set.of(KeyCode.A));
+        sut.offer(Set.of(KeyCode.A));
+
+        // Act
+        var actual = sut.poll();
+
+        // Assert
+        assertNull(actual);
+    }
+
+    @Test
+    void keyPressedAndReleasedBeforePollIsPartOfTheSnapshot() {
+        // Arrange
+        sut.offer(Set.of(KeyCode.SPACE));
+        sut.offer(Set.of());
+
+        // Act
+        var actual = sut.poll();
+
+        // Assert
+        assertEquals(Set.of(KeyCode.SPACE), actual);
+    }
+
+    @Test
+    void keyPressedAndReleasedBeforePollIsRemovedFromTheNextSnapshot() {
+        // Arrange
+        sut.offer(Set.of(KeyCode.SPACE));
+        sut.offer(Set.of());
+        sut.poll();
+
+        // Act
+        var actual = sut.poll();
+
+        // Assert
+        assertEquals(Set.of(), actual);
+    }
+
+    @Test
+    void clearForgetsThePreviousSnapshot() {
+        // Arrange
+        sut.offer(Set.of(KeyCode.A));
+        sut.poll();
+        sut.clear();
+        sut.offer(Set.of(KeyCode.A));
+
+        // Act
+        var actual = sut.poll();
+
+        // Assert
+        assertEquals(Set.of(KeyCode.A), actual);
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import com.google.inject.Injector;
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StaticLayerTest {
+
+    private StaticLayer sut;
+    private Group group;
+
+    @BeforeEach
+    void setup() {
+        group = mock(Group.class);
+
+        sut = new StaticLayer();
+        sut.setGroup(group);
+    }
+
+    @Test
+    void addedEntitiesBecomeMembers() {
+        // Arrange
+        var entity1 = mock(YaegerEntity.class);
+        var entity2 = mock(YaegerEntity.class);
+
+        // Act
+        sut.add(entity1);
+        sut.add(entity2);
+
+        // Assert
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void beforeInitializeKeepsAddedMembers() {
+        // Arrange
+        var entity = mock(YaegerEntity.class);
+        sut.add(entity);
+
+        // Act
+        sut.beforeInitialize();
+
+        // Assert
+        assertEquals(1, sut.size());
+        verify(entity).beforeInitialize();
+    }
+
+    @Test
+    void initEnablesCachingOfGroup() {
+        // Arrange
+        var injector = mock(Injector.class);
+
+        // Act
+        sut.init(injector);
+
+        // Assert
+        verify(group).setCache(true);
+        verify(group).setCacheHint(CacheHint.QUALITY);
+    }
+}
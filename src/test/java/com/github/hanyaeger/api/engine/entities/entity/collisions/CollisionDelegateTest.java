@@ -8,6 +8,7 @@ import com.github.hanyaeger.api.engine.entities.entity.motion.DefaultMotionAppli
 import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
 import com.github.hanyaeger.api.guice.factories.MotionApplierFactory;
 import com.google.inject.Injector;
+import javafx.geometry.BoundingBox;
 import javafx.scene.Node;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +49,48 @@ class CollisionDelegateTest {
         Assertions.assertEquals(1, argument.getValue().size());
     }
 
+    @Test
+    void collisionWithColliderGridIsReportedToCollided() {
+        // Arrange
+        var collided = mock(Collided.class);
+        var collider = mock(Collider.class);
+        var colliderGrid = mock(ColliderGrid.class);
+        var bounds = new BoundingBox(0, 0, 10, 10);
+
+        Mockito.when(collided.getBoundsInScene()).thenReturn(bounds);
+        Mockito.when(colliderGrid.findCollider(bounds)).thenReturn(Optional.of(collider));
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(colliderGrid);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided).onCollision(collider);
+        Mockito.verify(collided).undoUpdate();
+        Mockito.verify(collided, Mockito.never()).checkForCollisions(Mockito.anyList());
+    }
+
+    @Test
+    void withoutCollisionWithColliderGridCollidersAreChecked() {
+        // Arrange
+        var collided = mock(Collided.class);
+        var colliderGrid = mock(ColliderGrid.class);
+
+        Mockito.when(collided.getBoundsInScene()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        Mockito.when(colliderGrid.findCollider(Mockito.any())).thenReturn(Optional.empty());
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(colliderGrid);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided).checkForCollisions(Mockito.anyList());
+    }
+
     @Test
     void entitiesGetCorrectlyAdded() {
         // Arrange
@@ -0,0 +1,151 @@
+package com.github.hanyaeger.api.engine.entities.entity.events.userinput;
+
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputMapTest {
+
+    private static final String JUMP = "jump";
+    private static final String FIRE = "fire";
+
+    private InputMap sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new InputMap();
+        sut.bind(JUMP, KeyCode.SPACE, KeyCode.W);
+        sut.bind(FIRE, MouseButton.PRIMARY);
+    }
+
+    @Test
+    void boundKeyPressesAction() {
+        // Arrange
+        sut.setPressedKeys(Set.of(KeyCode.SPACE));
+
+        // Act
+        sut.update();
+
+        // Assert
+        assertTrue(sut.isPressed(JUMP));
+        assertTrue(sut.isHeld(JUMP));
+        assertFalse(sut.isReleased(JUMP));
+    }
+
+    @Test
+    void actionIsNoLongerPressedDuringNextUpdate() {
+        // Arrange
+        sut.setPressedKeys(Set.of(KeyCode.SPACE));
+        sut.update();
+
+        // Act
+        sut.update();
+
+        // Assert
+        assertFalse(sut.isPressed(JUMP));
+        assertTrue(sut.isHeld(JUMP));
+    }
+
+    @Test
+    void actionStaysHeldIfOneOfItsKeysIsStillPressed() {
+        // Arrange
+        sut.setPressedKeys(Set.of(KeyCode.SPACE, KeyCode.W));
+        sut.update();
+        sut.setPressedKeys(Set.of(KeyCode.W));
+
+        // Act
+        var actual = sut.update();
+
+        // Assert
+        assertTrue(sut.isHeld(JUMP));
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void releasingKeyReleasesAction() {
+        // Arrange
+        sut.setPressedKeys(Set.of(KeyCode.SPACE));
+        sut.update();
+        sut.setPressedKeys(Set.of());
+
+        // Act
+        var actual = sut.update();
+
+        // Assert
+        assertTrue(sut.isReleased(JUMP));
+        assertFalse(sut.isHeld(JUMP));
+        assertEquals(JUMP, sut.getAction(actual.nextSetBit(0)));
+    }
+
+    @Test
+    void mouseButtonPressedAndReleasedBeforeUpdateIsPressed() {
+        // Arrange
+        sut.pressMouseButton(MouseButton.PRIMARY);
+        sut.releaseMouseButton(MouseButton.PRIMARY);
+
+        // Act
+        sut.update();
+
+        // Assert
+        assertTrue(sut.isPressed(FIRE));
+    }
+
+    @Test
+    void mouseButtonPressedAndReleasedBeforeUpdateIsReleasedDuringNextUpdate() {
+        // Arrange
+        sut.pressMouseButton(MouseButton.PRIMARY);
+        sut.releaseMouseButton(MouseButton.PRIMARY);
+        sut.update();
+
+        // Act
+        sut.update();
+
+        // Assert
+        assertTrue(sut.isReleased(FIRE));
+    }
+
+    @Test
+    void unboundKeyDoesNotChangeAnyAction() {
+        // Arrange
+        sut.setPressedKeys(Set.of(KeyCode.Q));
+
+        // Act
+        var actual = sut.update();
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void unknownActionIsNeverHeld() {
+        // Arrange
+        sut.setPressedKeys(Set.of(KeyCode.SPACE));
+        sut.update();
+
+        // Act
+        var actual = sut.isHeld("crouch");
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void releaseAllReleasesHeldActionsDuringNextUpdate() {
+        // Arrange
+        sut.pressMouseButton(MouseButton.PRIMARY);
+        sut.update();
+
+        // Act
+        sut.releaseAll();
+        var changed = sut.update();
+
+        // Assert
+        assertTrue(sut.isReleased(FIRE));
+        assertEquals(1, changed.cardinality());
+    }
+}
@@ -0,0 +1,289 @@
+package com.github.hanyaeger.api.engine.entities.entity.events.userinput;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.MouseButton;
+import javafx.scene.transform.Transform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MouseDispatcherTest {
+
+    private MouseDispatcher sut;
+    private Scene scene;
+
+    @BeforeEach
+    void setup() {
+        sut = new MouseDispatcher(100);
+        scene = mock(Scene.class);
+    }
+
+    @Test
+    void registerRemovesHandlersAndMakesNodeMouseTransparent() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        var node = entity.getNode().get();
+
+        // Act
+        sut.register(entity);
+
+        // Verify
+        verify(node).setOnMousePressed(null);
+        verify(node).setOnMouseEntered(null);
+        verify(node).setOnMouseExited(null);
+        verify(node).setMouseTransparent(true);
+    }
+
+    @Test
+    void pickReturnsEntityAtLocation() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        sut.register(entity);
+
+        // Act
+        var actual = sut.pick(5, 5);
+
+        // Assert
+        assertEquals(List.of(entity), actual);
+    }
+
+    @Test
+    void pickReturnsEmptyListOutsideAllEntities() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        sut.register(entity);
+
+        // Act
+        var actual = sut.pick(50, 50);
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void pickFindsEntitySpanningMultipleCells() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(90, 90, 120, 120));
+        sut.register(entity);
+
+        // Act
+        var actual = sut.pick(205, 205);
+
+        // Assert
+        assertEquals(List.of(entity), actual);
+    }
+
+    @Test
+    void pickReturnsOnlyTheEntityRegisteredLastIfEntitiesOverlap() {
+        // Arrange
+        var bottom = createEntity(new BoundingBox(0, 0, 10, 10));
+        var top = createEntity(new BoundingBox(0, 0, 10, 10));
+        sut.register(bottom);
+        sut.register(top);
+
+        // Act
+        var actual = sut.pick(5, 5);
+
+        // Assert
+        assertEquals(List.of(top), actual);
+    }
+
+    @Test
+    void pickReturnsEntityShownOnTopByOrderOfChildren() {
+        // Arrange
+        var top = createEntity(new BoundingBox(0, 0, 10, 10));
+        var bottom = createEntity(new BoundingBox(0, 0, 10, 10));
+        var parent = mock(Group.class, withSettings().withoutAnnotations());
+        when(parent.getChildrenUnmodifiable()).thenReturn(
+                FXCollections.observableArrayList(bottom.getNode().get(), top.getNode().get()));
+        doReturn(parent).when(top.getNode().get()).getParent();
+        doReturn(parent).when(bottom.getNode().get()).getParent();
+        when(parent.isVisible()).thenReturn(true);
+        sut.register(top);
+        sut.register(bottom);
+
+        // Act
+        var actual = sut.pick(5, 5);
+
+        // Assert
+        assertEquals(List.of(top), actual);
+    }
+
+    @Test
+    void pickDoesNotRebuildGridIfNothingChanged() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        var node = entity.getNode().get();
+        sut.register(entity);
+        sut.pick(5, 5);
+
+        // Act
+        sut.pick(5, 5);
+
+        // Verify
+        verify(node, times(1)).getLocalToSceneTransform();
+    }
+
+    @Test
+    void pickRebuildsGridAfterBoundsOfEntityChanged() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        var node = entity.getNode().get();
+        var listener = ArgumentCaptor.forClass(InvalidationListener.class);
+        sut.register(entity);
+        sut.pick(5, 5);
+        verify(node.localToSceneTransformProperty()).addListener(listener.capture());
+        when(node.getLocalToSceneTransform().transform(any(Bounds.class))).thenReturn(new BoundingBox(50, 50, 10, 10));
+
+        // Act
+        listener.getValue().invalidated(node.localToSceneTransformProperty());
+
+        // Assert
+        assertTrue(sut.pick(5, 5).isEmpty());
+        assertEquals(List.of(entity), sut.pick(55, 55));
+    }
+
+    @Test
+    void pickSkipsInvisibleEntities() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        when(entity.getNode().get().isVisible()).thenReturn(false);
+        sut.register(entity);
+
+        // Act
+        var actual = sut.pick(5, 5);
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void pressedNotifiesEntityWithLocalCoordinates() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        sut.register(entity);
+
+        // Act
+        sut.pressed(MouseButton.PRIMARY, 5, 5);
+
+        // Assert
+        assertEquals(MouseButton.PRIMARY, entity.pressedButton);
+        assertEquals(1, entity.pressedX);
+    }
+
+    @Test
+    void movedNotifiesEntityOfEnterOnlyOnce() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        sut.register(entity);
+
+        // Act
+        sut.moved(5, 5);
+        sut.moved(6, 6);
+
+        // Assert
+        assertEquals(1, entity.entered);
+        assertEquals(0, entity.exited);
+    }
+
+    @Test
+    void movedOutsideEntityNotifiesEntityOfExit() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        sut.register(entity);
+        sut.moved(5, 5);
+
+        // Act
+        sut.moved(50, 50);
+
+        // Assert
+        assertEquals(1, entity.exited);
+    }
+
+    @Test
+    void removedEntityIsNoLongerPicked() {
+        // Arrange
+        var entity = createEntity(new BoundingBox(0, 0, 10, 10));
+        sut.register(entity);
+        sut.pick(5, 5);
+
+        // Act
+        sut.remove(entity);
+
+        // Assert
+        assertTrue(sut.pick(5, 5).isEmpty());
+        verify(entity.getNode().get().localToSceneTransformProperty()).removeListener(any(InvalidationListener.class));
+    }
+
+    private MouseListeningEntity createEntity(final Bounds bounds) {
+        var node = mock(Node.class, withSettings().withoutAnnotations());
+        var localToSceneTransform = mock(Transform.class);
+        when(node.getScene()).thenReturn(scene);
+        when(node.isVisible()).thenReturn(true);
+        when(node.localToSceneTransformProperty()).thenReturn(mock(ReadOnlyObjectProperty.class));
+        when(node.boundsInLocalProperty()).thenReturn(mock(ReadOnlyObjectProperty.class));
+        when(node.sceneProperty()).thenReturn(mock(ReadOnlyObjectProperty.class));
+        when(node.getLocalToSceneTransform()).thenReturn(localToSceneTransform);
+        when(localToSceneTransform.transform(any(Bounds.class))).thenReturn(bounds);
+        when(node.sceneToLocal(anyDouble(), anyDouble())).thenReturn(new Point2D(1, 2));
+        when(node.contains(any(Point2D.class))).thenReturn(true);
+
+        var entity = new MouseListeningEntity();
+        entity.setNode(node);
+        return entity;
+    }
+
+    private static class MouseListeningEntity extends YaegerEntity implements MouseButtonPressedListener, MouseEnterListener, MouseExitListener {
+
+        private Node node;
+        private MouseButton pressedButton;
+        private double pressedX;
+        private int entered;
+        private int exited;
+
+        MouseListeningEntity() {
+            super(new Coordinate2D(0, 0));
+        }
+
+        @Override
+        public void onMouseButtonPressed(final MouseButton button, final double x, final double y) {
+            pressedButton = button;
+            pressedX = x;
+        }
+
+        @Override
+        public void onMouseEntered() {
+            entered++;
+        }
+
+        @Override
+        public void onMouseExited() {
+            exited++;
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.ofNullable(node);
+        }
+
+        void setNode(final Node node) {
+            this.node = node;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.github.hanyaeger.api.engine.entities.entity.motion;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.guice.factories.MotionApplierFactory;
+import javafx.geometry.BoundingBox;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PhysicsWorldTest {
+
+    private static final long FRAME = 16_666_667L;
+
+    private PhysicsWorld sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new PhysicsWorld();
+    }
+
+    @Test
+    void registerAddsBodyForNewtonian() {
+        // Arrange
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+
+        // Act
+        sut.register(entity);
+
+        // Assert
+        assertEquals(1, sut.getBodyCount());
+    }
+
+    @Test
+    void registerIgnoresEntityThatIsNotNewtonian() {
+        // Arrange
+        var entity = mock(YaegerEntity.class);
+
+        // Act
+        sut.register(entity);
+
+        // Assert
+        assertEquals(0, sut.getBodyCount());
+    }
+
+    @Test
+    void stepLetsNewtonianFall() {
+        // Arrange
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        sut.register(entity);
+
+        // Act
+        step(30);
+
+        // Assert
+        assertTrue(entity.getAnchorLocation().getY() > 0);
+        assertEquals(0, entity.getAnchorLocation().getX(), 0.001);
+    }
+
+    @Test
+    void stepDoesNotMoveImmovableNewtonian() {
+        // Arrange
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        entity.setImmovable(true);
+        sut.register(entity);
+
+        // Act
+        step(30);
+
+        // Assert
+        assertEquals(new Coordinate2D(0, 0), entity.getAnchorLocation());
+    }
+
+    @Test
+    void stepWithoutGravityKeepsNewtonianAtRest() {
+        // Arrange
+        sut.setGravity(0);
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        sut.register(entity);
+
+        // Act
+        step(30);
+
+        // Assert
+        assertEquals(0, entity.getAnchorLocation().getY(), 0.001);
+    }
+
+    @Test
+    void speedAndDirectionBecomeVelocityOfBody() {
+        // Arrange
+        sut.setGravity(0);
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        sut.register(entity);
+        entity.setMotion(2, Direction.RIGHT);
+
+        // Act
+        step(10);
+
+        // Assert
+        assertEquals(20, entity.getAnchorLocation().getX(), 1);
+        assertEquals(2, entity.getSpeed(), 0.001);
+    }
+
+    @Test
+    void newtonianComesToRestOnImmovableNewtonian() {
+        // Arrange
+        var ground = new NewtonianEntity(new Coordinate2D(0, 100), 200, 20);
+        ground.setImmovable(true);
+        var entity = new NewtonianEntity(new Coordinate2D(50, 0), 10, 10);
+        sut.register(ground);
+        sut.register(entity);
+
+        // Act
+        step(300);
+
+        // Assert
+        assertEquals(90, entity.getAnchorLocation().getY(), 1);
+    }
+
+    @Test
+    void stepOnSimulationThreadLetsNewtonianFall() {
+        // Arrange
+        sut.setSimulationThreadEnabled(true);
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        sut.register(entity);
+
+        // Act
+        step(30);
+
+        // Assert
+        assertTrue(entity.getAnchorLocation().getY() > 0);
+        sut.clear();
+    }
+
+    @Test
+    void stepOnSimulationThreadAppliesSnapshotDuringNextStep() {
+        // Arrange
+        sut.setSimulationThreadEnabled(true);
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        sut.register(entity);
+
+        // Act
+        sut.step(FRAME);
+
+        // Assert
+        assertEquals(new Coordinate2D(0, 0), entity.getAnchorLocation());
+        sut.step(2 * FRAME);
+        assertTrue(entity.getAnchorLocation().getY() > 0);
+        sut.clear();
+    }
+
+    @Test
+    void motionSetDuringStepOnSimulationThreadBecomesVelocityOfBody() {
+        // Arrange
+        sut.setGravity(0);
+        sut.setSimulationThreadEnabled(true);
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        sut.register(entity);
+        sut.step(FRAME);
+
+        // Act
+        entity.setMotion(2, Direction.RIGHT);
+        sut.step(2 * FRAME);
+
+        // Assert
+        assertEquals(2, entity.getSpeed(), 0.001);
+        sut.step(3 * FRAME);
+        assertEquals(2, entity.getSpeed(), 0.001);
+        assertEquals(2, entity.getAnchorLocation().getX(), 0.001);
+        sut.clear();
+    }
+
+    @Test
+    void locationSetDuringStepOnSimulationThreadIsKept() {
+        // Arrange
+        sut.setGravity(0);
+        sut.setSimulationThreadEnabled(true);
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        sut.register(entity);
+        sut.step(FRAME);
+
+        // Act
+        entity.setAnchorLocation(new Coordinate2D(100, 50));
+        sut.step(2 * FRAME);
+
+        // Assert
+        assertEquals(new Coordinate2D(100, 50), entity.getAnchorLocation());
+        sut.step(3 * FRAME);
+        assertEquals(new Coordinate2D(100, 50), entity.getAnchorLocation());
+        sut.clear();
+    }
+
+    @Test
+    void disablingSimulationThreadAppliesPendingSnapshot() {
+        // Arrange
+        sut.setSimulationThreadEnabled(true);
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        sut.register(entity);
+        sut.step(FRAME);
+
+        // Act
+        sut.setSimulationThreadEnabled(false);
+
+        // Assert
+        assertFalse(sut.isSimulationThreadEnabled());
+        assertTrue(entity.getAnchorLocation().getY() > 0);
+    }
+
+    @Test
+    void removeRemovesBody() {
+        // Arrange
+        var entity = new NewtonianEntity(new Coordinate2D(0, 0), 10, 10);
+        sut.register(entity);
+
+        // Act
+        sut.remove(entity);
+
+        // Assert
+        assertEquals(0, sut.getBodyCount());
+    }
+
+    @Test
+    void clearRemovesAllBodies() {
+        // Arrange
+        sut.register(new NewtonianEntity(new Coordinate2D(0, 0), 10, 10));
+        sut.register(new NewtonianEntity(new Coordinate2D(20, 0), 10, 10));
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertEquals(0, sut.getBodyCount());
+    }
+
+    private void step(final int frames) {
+        for (var frame = 1; frame <= frames; frame++) {
+            sut.step(frame * FRAME);
+        }
+    }
+
+    private static class NewtonianEntity extends YaegerEntity implements Newtonian {
+
+        private final Node node;
+        private final NewtonianMotionApplier motionApplier = new NewtonianMotionApplier();
+
+        NewtonianEntity(final Coordinate2D initialLocation, final double width, final double height) {
+            super(initialLocation);
+            setAnchorLocation(initialLocation);
+            node = mock(Node.class, withSettings().withoutAnnotations());
+            when(node.getBoundsInParent()).thenReturn(new BoundingBox(initialLocation.getX(), initialLocation.getY(), width, height));
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.of(node);
+        }
+
+        @Override
+        public void injectMotionApplierFactory(final MotionApplierFactory motionApplierFactory) {
+            // Not required here
+        }
+
+        @Override
+        public MotionApplier getMotionApplier() {
+            return motionApplier;
+        }
+    }
+}
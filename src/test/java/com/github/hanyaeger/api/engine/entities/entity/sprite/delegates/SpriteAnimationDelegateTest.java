@@ -1,5 +1,6 @@
 package com.github.hanyaeger.api.engine.entities.entity.sprite.delegates;
 
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
 import com.github.hanyaeger.api.engine.media.ResourceConsumer;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
@@ -42,6 +43,57 @@ class SpriteAnimationDelegateTest implements ResourceConsumer {
         verify(imageView).setViewport(any(Rectangle2D.class));
     }
 
+    @Test
+    void viewPortIsCalculatedWithinExistingViewport() {
+        // Arrange
+        when(imageView.getViewport()).thenReturn(new Rectangle2D(200, 50, IMAGE_WIDTH, IMAGE_HEIGHT));
+
+        var argument = ArgumentCaptor.forClass(Rectangle2D.class);
+        var spriteAnimationDelegate = new SpriteAnimationDelegate(imageView, FRAMES);
+        reset(imageView);
+
+        // Act
+        spriteAnimationDelegate.setSpriteIndex(1);
+
+        // Assert
+        verify(imageView).setViewport(argument.capture());
+        Assertions.assertEquals(200 + IMAGE_WIDTH / FRAMES, argument.getValue().getMinX(), DELTA);
+        Assertions.assertEquals(50, argument.getValue().getMinY(), DELTA);
+        Assertions.assertEquals(IMAGE_WIDTH / FRAMES, argument.getValue().getWidth(), DELTA);
+        Assertions.assertEquals(IMAGE_HEIGHT, argument.getValue().getHeight(), DELTA);
+    }
+
+    @Test
+    void animationClipCyclesWithinItsFrames() {
+        // Arrange
+        var frameTable = FrameTable.create(new Rectangle2D(0, 0, IMAGE_WIDTH, IMAGE_HEIGHT * 2), 2, FRAMES);
+        var spriteAnimationDelegate = new SpriteAnimationDelegate(imageView, frameTable);
+        spriteAnimationDelegate.setAnimationClip(new AnimationClip("walk", FRAMES, 2));
+        reset(imageView);
+
+        var argument = ArgumentCaptor.forClass(Rectangle2D.class);
+
+        // Act
+        spriteAnimationDelegate.next();
+        spriteAnimationDelegate.next();
+
+        // Assert
+        verify(imageView, times(2)).setViewport(argument.capture());
+        Assertions.assertEquals(frameTable.getFrame(FRAMES + 1), argument.getAllValues().get(0));
+        Assertions.assertEquals(frameTable.getFrame(FRAMES), argument.getAllValues().get(1));
+    }
+
+    @Test
+    void animationClipOutsideFrameTableThrowsException() {
+        // Arrange
+        var frameTable = FrameTable.create(new Rectangle2D(0, 0, IMAGE_WIDTH, IMAGE_HEIGHT), 1, FRAMES);
+        var spriteAnimationDelegate = new SpriteAnimationDelegate(imageView, frameTable);
+
+        // Act & Assert
+        Assertions.assertThrows(YaegerEngineException.class,
+                () -> spriteAnimationDelegate.setAnimationClip(new AnimationClip("jump", FRAMES - 1, 2)));
+    }
+
     @Test
     void viewPortRectangleIsCalculatedCorrectly() {
         // Arrange
@@ -0,0 +1,88 @@
+package com.github.hanyaeger.api.engine.entities.entity.sprite.delegates;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+class SpriteAnimationTickerTest {
+
+    private static final long INTERVAL = 100;
+    private static final long OTHER_INTERVAL = 300;
+
+    private SpriteAnimationTicker sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new SpriteAnimationTicker();
+    }
+
+    @Test
+    void delegateWithoutAutoCycleIsNotRegistered() {
+        // Arrange
+        var delegate = createDelegate(0);
+
+        // Act
+        sut.register(delegate);
+
+        // Assert
+        Assertions.assertEquals(0, sut.size());
+    }
+
+    @Test
+    void groupIsAdvancedWhenIntervalHasElapsed() {
+        // Arrange
+        var delegate1 = createDelegate(INTERVAL);
+        var delegate2 = createDelegate(INTERVAL);
+        sut.register(delegate1);
+        sut.register(delegate2);
+        sut.update(INTERVAL + 1);
+
+        // Act
+        sut.update(INTERVAL + 2);
+        sut.update(2 * INTERVAL + 2);
+
+        // Assert
+        verify(delegate1, times(2)).next();
+        verify(delegate2, times(2)).next();
+    }
+
+    @Test
+    void groupsWithDifferentIntervalsAreAdvancedIndependently() {
+        // Arrange
+        var delegate1 = createDelegate(INTERVAL);
+        var delegate2 = createDelegate(OTHER_INTERVAL);
+        sut.register(delegate1);
+        sut.register(delegate2);
+        sut.update(OTHER_INTERVAL + 1);
+
+        // Act
+        sut.update(OTHER_INTERVAL + INTERVAL + 2);
+
+        // Assert
+        verify(delegate1, times(2)).next();
+        verify(delegate2, times(1)).next();
+    }
+
+    @Test
+    void clearRemovesAllDelegates() {
+        // Arrange
+        var delegate = createDelegate(INTERVAL);
+        sut.register(delegate);
+
+        // Act
+        sut.clear();
+        sut.update(INTERVAL + 1);
+
+        // Assert
+        Assertions.assertEquals(0, sut.size());
+        verify(delegate, never()).next();
+    }
+
+    private SpriteAnimationDelegate createDelegate(final long interval) {
+        var delegate = mock(SpriteAnimationDelegate.class);
+        when(delegate.getAutoCycleInterval()).thenReturn(interval);
+        return delegate;
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.scenes.DimensionsProvider;
+import javafx.geometry.Rectangle2D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChunkedTileMapTest {
+
+    private static final int TILES = 40;
+    private static final int CHUNK_SIZE = 8;
+    private static final Size TILE_SIZE = new Size(10, 10);
+    private static final double SCENE_WIDTH = 100;
+    private static final double SCENE_HEIGHT = 100;
+
+    private ChunkedTileMapImpl sut;
+    private TileFactory tileFactory;
+
+    @BeforeEach
+    void setup() {
+        sut = new ChunkedTileMapImpl();
+
+        var dimensionsProvider = mock(DimensionsProvider.class);
+        when(dimensionsProvider.getWidth()).thenReturn(SCENE_WIDTH);
+        when(dimensionsProvider.getHeight()).thenReturn(SCENE_HEIGHT);
+        sut.setDimensionsProvider(dimensionsProvider);
+
+        tileFactory = mock(TileFactory.class);
+        when(tileFactory.create(any(), any(), any())).thenAnswer(invocation -> mock(YaegerEntity.class));
+        sut.setTileFactory(tileFactory);
+    }
+
+    @Test
+    void activateOnlyLoadsChunksNearTheScene() {
+        // Arrange
+
+        // Act
+        sut.activate();
+
+        // Assert
+        assertEquals(9, sut.getLoadedChunkCount());
+        assertEquals(9 * CHUNK_SIZE * CHUNK_SIZE, sut.size());
+    }
+
+    @Test
+    void tilesHaveFixedSize() {
+        // Arrange
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(tileFactory, atLeastOnce()).create(any(), eq(new Coordinate2D(10, 20)), eq(TILE_SIZE));
+    }
+
+    @Test
+    void movingTheViewportUnloadsChunksOutOfRange() {
+        // Arrange
+        sut.activate();
+
+        // Act
+        sut.setViewport(new Rectangle2D(320, 320, SCENE_WIDTH, SCENE_HEIGHT));
+
+        // Assert
+        assertEquals(4, sut.getLoadedChunkCount());
+        assertEquals(4 * CHUNK_SIZE * CHUNK_SIZE, sut.size());
+    }
+
+    @Test
+    void movingTheViewportBackDoesNotReloadLoadedChunks() {
+        // Arrange
+        sut.activate();
+        clearInvocations(tileFactory);
+
+        // Act
+        sut.setViewport(new Rectangle2D(0, 0, SCENE_WIDTH, SCENE_HEIGHT));
+
+        // Assert
+        verifyNoInteractions(tileFactory);
+    }
+
+    private static class ChunkedTileMapImpl extends ChunkedTileMap {
+
+        ChunkedTileMapImpl() {
+            super(new Coordinate2D(0, 0), TILE_SIZE, CHUNK_SIZE);
+        }
+
+        @Override
+        public void setupEntities() {
+            addEntity(1, SpriteEntityOne.class);
+        }
+
+        @Override
+        public int[][] defineMap() {
+            var map = new int[TILES][TILES];
+            for (var row : map) {
+                Arrays.fill(row, 1);
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Collider;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+
+class SpriteEntityColliderImpl extends SpriteEntity implements Collider {
+
+    public SpriteEntityColliderImpl(Coordinate2D location, Size size) {
+        super(TileFactoryTest.DEFAULT_RESOURCE, location, size);
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileCollisionGridTest {
+
+    private static final double TILE_SIZE = 10;
+    private static final double DELTA = 0.00000000000001d;
+
+    private TileCollisionGrid sut;
+
+    @BeforeEach
+    void setup() {
+        int[][] map = {
+                {0, 0, 0, 0, 0},
+                {0, 1, 0, 0, 0},
+                {2, 2, 2, 1, 0}};
+
+        var rowTileWidths = new double[map.length];
+        Arrays.fill(rowTileWidths, TILE_SIZE);
+
+        sut = new TileCollisionGrid(map, Map.of(1, SpriteEntityOne.class, 2, SpriteEntityColliderImpl.class),
+                0, 0, TILE_SIZE, rowTileWidths);
+    }
+
+    @Test
+    void onlyColliderTilesAreSolid() {
+        // Arrange
+
+        // Act, Assert
+        assertFalse(sut.isSolid(1, 1));
+        assertTrue(sut.isSolid(2, 0));
+        assertFalse(sut.isSolid(2, 4));
+        assertFalse(sut.isSolid(5, 5));
+    }
+
+    @Test
+    void boundsNotOverlappingSolidTilesFindNoCollider() {
+        // Arrange
+        var bounds = new BoundingBox(2, 2, 5, 5);
+
+        // Act
+        var collider = sut.findCollider(bounds);
+
+        // Assert
+        assertTrue(collider.isEmpty());
+    }
+
+    @Test
+    void adjacentSolidTilesAreMergedIntoOneCollider() {
+        // Arrange
+        var bounds = new BoundingBox(12, 22, 5, 5);
+
+        // Act
+        var collider = sut.findCollider(bounds);
+
+        // Assert
+        assertTrue(collider.isPresent());
+        var tileCollider = (TileCollider) collider.get();
+        assertEquals(SpriteEntityColliderImpl.class, tileCollider.getEntityClass());
+        assertEquals(0, tileCollider.getBoundsInScene().getMinX(), DELTA);
+        assertEquals(20, tileCollider.getBoundsInScene().getMinY(), DELTA);
+        assertEquals(3 * TILE_SIZE, tileCollider.getBoundsInScene().getWidth(), DELTA);
+    }
+}
@@ -56,4 +56,29 @@ class TileFactoryTest {
         // Assert
         assertFalse(((SpriteEntityValidConstructorImpl) entity).isPreserveAspectRatio());
     }
+
+    @Test
+    void creatingTheSameEntityTwiceCreatesTwoInstances() {
+        // Arrange
+
+        // Act
+        var first = sut.create(SpriteEntityValidConstructorImpl.class, DEFAULT_LOCATION, DEFAULT_SIZE);
+        var second = sut.create(SpriteEntityValidConstructorImpl.class, DEFAULT_LOCATION, DEFAULT_SIZE);
+
+        // Assert
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void creatingEntityFromSupplierUsesSupplier() {
+        // Arrange
+        var expected = new SpriteEntityValidConstructorImpl(DEFAULT_LOCATION, DEFAULT_SIZE);
+
+        // Act
+        var entity = sut.createFromSupplier((location, size) -> expected, DEFAULT_LOCATION, DEFAULT_SIZE);
+
+        // Assert
+        assertSame(expected, entity);
+        assertFalse(expected.isPreserveAspectRatio());
+    }
 }
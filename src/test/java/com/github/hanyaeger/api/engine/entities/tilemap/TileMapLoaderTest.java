@@ -0,0 +1,116 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.exceptions.ResourceNotAvailableException;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileMapLoaderTest {
+
+    private static final int[][] MAP = {
+            {0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 2, 0, 3, 3, 3},
+            {2, 3, 0, 0, 0, 0, 1}};
+
+    private TileMapLoader sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new TileMapLoader();
+    }
+
+    @Test
+    void readCsvReadsAllRowsAndColumns() throws IOException {
+        // Arrange
+        var csv = "0,0,0,0,0,0,0\n0,0,2,0,3,3,3\r\n2,3,0,0,0,0,1\n";
+
+        // Act
+        var map = sut.readCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertArrayEquals(MAP, map);
+    }
+
+    @Test
+    void readCsvIgnoresTrailingCommasAndReadsNegativeValues() throws IOException {
+        // Arrange
+        var csv = "1, -1,\n12,0,";
+
+        // Act
+        var map = sut.readCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertArrayEquals(new int[][]{{1, -1}, {12, 0}}, map);
+    }
+
+    @Test
+    void readCsvWithInvalidValueThrowsYaegerEngineException() {
+        // Arrange
+        var csv = "1,a,2";
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> sut.readCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void writtenBinaryMapIsReadBackIdentically() throws IOException {
+        // Arrange
+        var outputStream = new ByteArrayOutputStream();
+
+        // Act
+        sut.write(MAP, outputStream);
+        var map = sut.readBinary(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        // Assert
+        assertArrayEquals(MAP, map);
+    }
+
+    @Test
+    void binaryMapIsRunLengthEncoded() throws IOException {
+        // Arrange
+        var outputStream = new ByteArrayOutputStream();
+        var map = new int[100][100];
+
+        // Act
+        sut.write(map, outputStream);
+
+        // Assert
+        // A header of three ints, followed by a single run of 10000 zeroes
+        assertEquals(12 + 3, outputStream.size());
+    }
+
+    @Test
+    void readBinaryWithInvalidHeaderThrowsYaegerEngineException() {
+        // Arrange
+        var bytes = new byte[]{0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 1};
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> sut.readBinary(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void loadReadsCsvFromClassPath() {
+        // Arrange
+
+        // Act
+        var map = sut.load("tilemaps/level.csv");
+
+        // Assert
+        assertArrayEquals(new int[][]{{1, 0, 2}, {0, 0, 0}, {3, 3, 3}}, map);
+    }
+
+    @Test
+    void loadWithUnavailableResourceThrowsResourceNotAvailableException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(ResourceNotAvailableException.class, () -> sut.load("tilemaps/unavailable" + TileMapLoader.BINARY_EXTENSION));
+    }
+}
@@ -6,7 +6,14 @@ import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import com.github.hanyaeger.api.engine.exceptions.EntityNotAvailableException;
 import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.engine.media.atlas.TextureRegion;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.engine.scenes.DimensionsProvider;
+import com.github.hanyaeger.api.javafx.canvas.CanvasFactory;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -197,6 +204,46 @@ class TileMapTest {
         assertTrue(localSut.size() == 1);
     }
 
+    @Test
+    void aTileMapWithTileSupplierUsesTheTileSupplier() {
+        // Arrange
+        TileSupplier<SpriteEntityOne> tileSupplier = SpriteEntityOne::new;
+        var localSut = new TileMap() {
+
+            @Override
+            public void setupEntities() {
+                addEntity(1, SpriteEntityOne.class, tileSupplier);
+            }
+
+            @Override
+            public int[][] defineMap() {
+                int[][] map = {
+                        {0, 1, 0},
+                        {0, 0, 1}};
+                return map;
+            }
+        };
+
+        var dimensionsProvider = mock(DimensionsProvider.class);
+        when(dimensionsProvider.getWidth()).thenReturn(WIDTH);
+        when(dimensionsProvider.getHeight()).thenReturn(HEIGHT);
+        localSut.setDimensionsProvider(dimensionsProvider);
+
+        var entity = mock(YaegerEntity.class);
+        var tileFactory = mock(TileFactory.class);
+        when(tileFactory.createFromSupplier(any(), any(), any())).thenReturn(entity);
+
+        localSut.setTileFactory(tileFactory);
+
+        // Act
+        localSut.activate();
+
+        // Assert
+        assertEquals(2, localSut.size());
+        verify(tileFactory, times(2)).createFromSupplier(eq(tileSupplier), any(), any());
+        verify(tileFactory, never()).create(any(), any(), any());
+    }
+
     @Test
     void aTileMapWithMultipleEntitiesCallsTheFactoryTheCorrectNumberTimes() {
         // Arrange
@@ -858,6 +905,126 @@ class TileMapTest {
         }
     }
 
+    @Test
+    void inCanvasRenderModeTilesAreDrawnOntoASingleTileLayer() {
+        // Arrange
+        var localSut = new TileMap(LOCATION, SIZE) {
+
+            @Override
+            public void setupEntities() {
+                setRenderMode(TileMapRenderMode.CANVAS);
+                addEntity(1, SpriteEntityOne.class);
+            }
+
+            @Override
+            public int[][] defineMap() {
+                int[][] map = {
+                        {1, 0, 1},
+                        {0, 1, 0}};
+                return map;
+            }
+        };
+
+        var graphicsContext = mock(GraphicsContext.class);
+        var canvasFactory = createCanvasFactory(graphicsContext);
+        var tileFactory = createPrototypeTileFactory();
+
+        localSut.setTileFactory(tileFactory);
+        localSut.setCanvasFactory(canvasFactory);
+        localSut.setImageRepository(mock(ImageRepository.class));
+
+        // Act
+        localSut.activate();
+
+        // Assert
+        assertEquals(1, localSut.size());
+        assertTrue(localSut.get(0) instanceof TileLayer);
+        verify(tileFactory, times(1)).create(any(), any(), any());
+        verify(graphicsContext, times(3)).drawImage(any(Image.class), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void inCanvasRenderModeCollidersArePartOfCollisionGrid() {
+        // Arrange
+        var localSut = new TileMap(LOCATION, SIZE) {
+
+            @Override
+            public void setupEntities() {
+                setRenderMode(TileMapRenderMode.CANVAS);
+                addEntity(1, SpriteEntityOne.class);
+                addEntity(2, SpriteEntityColliderImpl.class);
+            }
+
+            @Override
+            public int[][] defineMap() {
+                int[][] map = {
+                        {1, 2, 2}};
+                return map;
+            }
+        };
+
+        var canvasFactory = createCanvasFactory(mock(GraphicsContext.class));
+        var tileFactory = createPrototypeTileFactory();
+
+        localSut.setTileFactory(tileFactory);
+        localSut.setCanvasFactory(canvasFactory);
+        localSut.setImageRepository(mock(ImageRepository.class));
+
+        // Act
+        localSut.activate();
+
+        // Assert
+        assertEquals(1, localSut.size());
+        assertTrue(localSut.getCollisionGrid().isPresent());
+        assertFalse(localSut.getCollisionGrid().get().isSolid(0, 0));
+        assertTrue(localSut.getCollisionGrid().get().isSolid(0, 1));
+        assertTrue(localSut.getCollisionGrid().get().isSolid(0, 2));
+    }
+
+    @Test
+    void inEntitiesRenderModeNoCollisionGridIsCreated() {
+        // Arrange
+        var localSut = new TileMap(LOCATION, SIZE) {
+
+            @Override
+            public void setupEntities() {
+                addEntity(1, SpriteEntityColliderImpl.class);
+            }
+
+            @Override
+            public int[][] defineMap() {
+                int[][] map = {{1}};
+                return map;
+            }
+        };
+
+        var tileFactory = mock(TileFactory.class);
+        when(tileFactory.create(any(), any(), any())).thenReturn(mock(YaegerEntity.class));
+        localSut.setTileFactory(tileFactory);
+
+        // Act
+        localSut.activate();
+
+        // Assert
+        assertTrue(localSut.getCollisionGrid().isEmpty());
+    }
+
+    private CanvasFactory createCanvasFactory(final GraphicsContext graphicsContext) {
+        var canvas = mock(Canvas.class);
+        when(canvas.getGraphicsContext2D()).thenReturn(graphicsContext);
+        var canvasFactory = mock(CanvasFactory.class);
+        when(canvasFactory.create(anyDouble(), anyDouble())).thenReturn(canvas);
+        return canvasFactory;
+    }
+
+    private TileFactory createPrototypeTileFactory() {
+        var prototype = mock(SpriteEntityOne.class);
+        when(prototype.createFirstFrameRegion(any())).thenReturn(new TextureRegion(mock(Image.class), new Rectangle2D(0, 0, 10, 10)));
+        var tileFactory = mock(TileFactory.class);
+        when(tileFactory.create(any(), any(), any())).thenReturn(prototype);
+        return tileFactory;
+    }
+
     private class TileMapEmptyConstructorImpl extends TileMap {
 
         private boolean setupEntitiesCalled;
@@ -0,0 +1,215 @@
+package com.github.hanyaeger.api.engine.media.assets;
+
+import com.github.hanyaeger.api.engine.exceptions.ResourceNotAvailableException;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.engine.media.audio.SoundClip;
+import com.github.hanyaeger.api.engine.media.repositories.AudioRepository;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AssetPreloaderTest {
+
+    private AssetPreloader sut;
+    private ImageRepository imageRepository;
+    private AudioRepository audioRepository;
+
+    @BeforeEach
+    void setup() {
+        imageRepository = mock(ImageRepository.class);
+        audioRepository = mock(AudioRepository.class);
+
+        sut = new AssetPreloader();
+        sut.setImageRepository(imageRepository);
+        sut.setAudioRepository(audioRepository);
+        sut.setExecutorService(new DirectExecutorService());
+        sut.setCallbackExecutor(Runnable::run);
+    }
+
+    @Test
+    void progressIsCompleteWhenNothingIsLoading() {
+        // Arrange
+
+        // Act
+        var progress = sut.getProgress();
+
+        // Assert
+        assertEquals(1, progress);
+        assertFalse(sut.isLoading());
+    }
+
+    @Test
+    void preloadLoadsAllAssets() {
+        // Arrange
+        var asset1 = mock(Asset.class);
+        var asset2 = mock(Asset.class);
+
+        // Act
+        sut.preload(List.of(asset1, asset2), () -> {
+        });
+
+        // Assert
+        verify(asset1).load(imageRepository, audioRepository);
+        verify(asset2).load(imageRepository, audioRepository);
+    }
+
+    @Test
+    void preloadSkipsAssetsThatAreAlreadyLoaded() {
+        // Arrange
+        var asset = mock(Asset.class);
+        when(asset.isLoaded()).thenReturn(true);
+
+        // Act
+        sut.preload(List.of(asset), () -> {
+        });
+
+        // Assert
+        verify(asset, never()).load(any(), any());
+    }
+
+    @Test
+    void callbackIsCalledAfterAllAssetsAreLoaded() {
+        // Arrange
+        var asset = mock(Asset.class);
+        var calls = new ArrayList<String>();
+        doAnswer(invocation -> calls.add("load")).when(asset).load(imageRepository, audioRepository);
+
+        // Act
+        sut.preload(List.of(asset), () -> calls.add("finished"));
+
+        // Assert
+        assertEquals(List.of("load", "finished"), calls);
+        assertEquals(1, sut.getProgress());
+    }
+
+    @Test
+    void callbackIsCalledForEmptyCollection() {
+        // Arrange
+        var calls = new ArrayList<String>();
+
+        // Act
+        sut.preload(new ArrayList<Asset>(), () -> calls.add("finished"));
+
+        // Assert
+        assertEquals(List.of("finished"), calls);
+    }
+
+    @Test
+    void failingAssetThrowsYaegerEngineException() {
+        // Arrange
+        var asset = mock(Asset.class);
+        doThrow(new ResourceNotAvailableException("unavailable.png")).when(asset).load(imageRepository, audioRepository);
+
+        // Act
+        var exception = assertThrows(YaegerEngineException.class, () -> sut.preload(List.of(asset), () -> {
+        }));
+
+        // Assert
+        assertTrue(exception.getCause() instanceof ResourceNotAvailableException);
+    }
+
+    @Test
+    void failingAssetCallsOnFailedInsteadOfOnFinished() {
+        // Arrange
+        var asset = mock(Asset.class);
+        var calls = new ArrayList<String>();
+        doThrow(new ResourceNotAvailableException("unavailable.png")).when(asset).load(imageRepository, audioRepository);
+
+        // Act
+        assertThrows(YaegerEngineException.class,
+                () -> sut.preload(List.of(asset), () -> calls.add("finished"), () -> calls.add("failed")));
+
+        // Assert
+        assertEquals(List.of("failed"), calls);
+    }
+
+    @Test
+    void imageAssetWithSizeLoadsSizedImage() {
+        // Arrange
+        var imageAsset = new ImageAsset("waterworld/images/bubble.png", 20, 30, true);
+
+        // Act
+        imageAsset.load(imageRepository, audioRepository);
+
+        // Assert
+        verify(imageRepository).get("waterworld/images/bubble.png", 20, 30, true);
+    }
+
+    @Test
+    void audioAssetWithCycleCountLoadsAudioClipOfThatCycleCount() {
+        // Arrange
+        var audioAsset = new AudioAsset("waterworld/audio/ocean.mp3", SoundClip.INDEFINITE);
+
+        // Act
+        audioAsset.load(imageRepository, audioRepository);
+
+        // Assert
+        verify(audioRepository).get("waterworld/audio/ocean.mp3", SoundClip.INDEFINITE);
+        verify(audioRepository, never()).get("waterworld/audio/ocean.mp3");
+    }
+
+    @Test
+    void equalImageAssetsAreAddedOnlyOnce() {
+        // Arrange
+        List<Asset> assets = new ArrayList<>();
+        AssetContainer container = new AssetContainer() {
+            @Override
+            public void setupAssets() {
+                addAsset(new ImageAsset("waterworld/images/bubble.png"));
+                addAsset(new ImageAsset("waterworld/images/bubble.png"));
+                addAsset(new AudioAsset("waterworld/audio/ocean.mp3"));
+            }
+
+            @Override
+            public List<Asset> getAssets() {
+                return assets;
+            }
+        };
+
+        // Act
+        container.initAssets();
+
+        // Assert
+        assertEquals(2, assets.size());
+    }
+
+    private static class DirectExecutorService extends AbstractExecutorService {
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+            return true;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.hanyaeger.api.engine.media.atlas;
+
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+class TextureAtlasBuilderTest {
+
+    private static final int ATLAS_SIZE = 100;
+    private static final double DELTA = 0.00000000000001d;
+
+    private ImageRepository imageRepository;
+    private TextureAtlasBuilder sut;
+
+    @BeforeEach
+    void setup() {
+        imageRepository = mock(ImageRepository.class);
+        sut = new TextureAtlasBuilder(imageRepository, ATLAS_SIZE);
+    }
+
+    @Test
+    void addingSameSpriteTwiceFetchesImageOnce() {
+        // Arrange
+        var image = createImage(10, 10);
+        when(imageRepository.get("sprite.png", 10, 10, true)).thenReturn(image);
+
+        // Act
+        sut.add("sprite.png", 10, 10, true);
+        sut.add("sprite.png", 10, 10, true);
+
+        // Assert
+        verify(imageRepository, times(1)).get("sprite.png", 10, 10, true);
+        Assertions.assertEquals(1, sut.layout().get(0).size());
+    }
+
+    @Test
+    void spritesAreLaidOutNextToEachOther() {
+        // Arrange
+        when(imageRepository.get("a.png", 20, 30, true)).thenReturn(createImage(20, 30));
+        when(imageRepository.get("b.png", 20, 30, true)).thenReturn(createImage(20, 30));
+        sut.add("a.png", 20, 30, true);
+        sut.add("b.png", 20, 30, true);
+
+        // Act
+        var pages = sut.layout();
+
+        // Assert
+        Assertions.assertEquals(1, pages.size());
+        var a = pages.get(0).get(TextureAtlas.createKey("a.png", 20, 30, true));
+        var b = pages.get(0).get(TextureAtlas.createKey("b.png", 20, 30, true));
+        Assertions.assertEquals(0, a.getMinX(), DELTA);
+        Assertions.assertEquals(20 + TextureAtlasBuilder.PADDING, b.getMinX(), DELTA);
+        Assertions.assertEquals(0, b.getMinY(), DELTA);
+    }
+
+    @Test
+    void spriteThatDoesNotFitShelfIsPlacedOnNextShelf() {
+        // Arrange
+        when(imageRepository.get("a.png", 60, 40, true)).thenReturn(createImage(60, 40));
+        when(imageRepository.get("b.png", 60, 20, true)).thenReturn(createImage(60, 20));
+        sut.add("a.png", 60, 40, true);
+        sut.add("b.png", 60, 20, true);
+
+        // Act
+        var pages = sut.layout();
+
+        // Assert
+        var b = pages.get(0).get(TextureAtlas.createKey("b.png", 60, 20, true));
+        Assertions.assertEquals(0, b.getMinX(), DELTA);
+        Assertions.assertEquals(40 + TextureAtlasBuilder.PADDING, b.getMinY(), DELTA);
+    }
+
+    @Test
+    void spriteThatDoesNotFitPageIsPlacedOnNextPage() {
+        // Arrange
+        when(imageRepository.get("a.png", 100, 80, true)).thenReturn(createImage(100, 80));
+        when(imageRepository.get("b.png", 100, 40, true)).thenReturn(createImage(100, 40));
+        sut.add("a.png", 100, 80, true);
+        sut.add("b.png", 100, 40, true);
+
+        // Act
+        var pages = sut.layout();
+
+        // Assert
+        Assertions.assertEquals(2, pages.size());
+    }
+
+    @Test
+    void spriteLargerThanAtlasIsNotPacked() {
+        // Arrange
+        when(imageRepository.get("large.png", 200, 10, true)).thenReturn(createImage(200, 10));
+        sut.add("large.png", 200, 10, true);
+
+        // Act
+        var pages = sut.layout();
+
+        // Assert
+        Assertions.assertTrue(pages.isEmpty());
+    }
+
+    private Image createImage(final double width, final double height) {
+        var image = mock(Image.class);
+        when(image.getWidth()).thenReturn(width);
+        when(image.getHeight()).thenReturn(height);
+        when(image.getPixelReader()).thenReturn(mock(PixelReader.class));
+        return image;
+    }
+}
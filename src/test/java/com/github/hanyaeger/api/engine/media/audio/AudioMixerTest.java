@@ -0,0 +1,226 @@
+package com.github.hanyaeger.api.engine.media.audio;
+
+import javafx.scene.media.AudioClip;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AudioMixerTest {
+
+    private static final long FRAME = 20_000_000L;
+
+    private AudioMixer sut;
+    private long now;
+
+    @BeforeEach
+    void setup() {
+        now = 0;
+        sut = new AudioMixer();
+        sut.setClock(() -> now);
+    }
+
+    @Test
+    void playPlaysAudioClip() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+
+        // Act
+        var played = sut.play(audioClip, 0);
+
+        // Assert
+        assertTrue(played);
+        verify(audioClip).play();
+        assertEquals(1, sut.getActiveVoices());
+    }
+
+    @Test
+    void playWithParametersAppliesParametersToVoice() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+
+        // Act
+        sut.play(audioClip, 3, 0.5, -1, 2, 0.25, 7);
+
+        // Assert
+        verify(audioClip).setCycleCount(3);
+        verify(audioClip).play(0.5, -1, 2, 0.25, 7);
+    }
+
+    @Test
+    void identicalSoundWithinDeduplicationWindowIsPlayedOnce() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+
+        // Act
+        sut.play(audioClip, 0);
+        var played = sut.play(audioClip, 0);
+
+        // Assert
+        assertFalse(played);
+        verify(audioClip, times(1)).play();
+    }
+
+    @Test
+    void voicesPerClipAreLimited() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+        sut.setMaxVoicesPerClip(2);
+
+        // Act
+        sut.play(audioClip, 0);
+        now += FRAME;
+        sut.play(audioClip, 0);
+        now += FRAME;
+        var played = sut.play(audioClip, 0);
+
+        // Assert
+        assertFalse(played);
+        verify(audioClip, times(2)).play();
+    }
+
+    @Test
+    void voicesOfFinishedClipAreReleased() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+        sut.setMaxVoicesPerClip(1);
+        sut.play(audioClip, 0);
+        when(audioClip.isPlaying()).thenReturn(false);
+        now += FRAME;
+
+        // Act
+        var played = sut.play(audioClip, 0);
+
+        // Assert
+        assertTrue(played);
+        assertEquals(1, sut.getActiveVoices());
+    }
+
+    @Test
+    void voiceIsReleasedAfterMaxVoiceLengthWhileClipKeepsPlaying() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+        sut.setMaxVoicesPerClip(2);
+        sut.setMaxVoiceLength(10 * FRAME);
+        sut.play(audioClip, 0);
+        now += 5 * FRAME;
+        sut.play(audioClip, 0);
+        now += 5 * FRAME;
+
+        // Act
+        var played = sut.play(audioClip, 0);
+
+        // Assert
+        assertTrue(played);
+        verify(audioClip, times(3)).play();
+        assertEquals(2, sut.getActiveVoices());
+    }
+
+    @Test
+    void voiceWithMultipleCyclesIsReleasedAfterAllCycles() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+        sut.setMaxVoicesPerClip(1);
+        sut.setMaxVoiceLength(10 * FRAME);
+        sut.play(audioClip, 2, 1, 0, 1, 0, 0);
+        now += 10 * FRAME;
+
+        // Act
+        var played = sut.play(audioClip, 2, 1, 0, 1, 0, 0);
+
+        // Assert
+        assertFalse(played);
+    }
+
+    @Test
+    void indefiniteVoiceIsNotReleasedWhileClipKeepsPlaying() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+        sut.setMaxVoicesPerClip(1);
+        sut.setMaxVoiceLength(FRAME);
+        sut.play(audioClip, AudioClip.INDEFINITE, 1, 0, 1, 0, 0);
+        now += 100 * FRAME;
+
+        // Act
+        var played = sut.play(audioClip, 0);
+
+        // Assert
+        assertFalse(played);
+        assertEquals(1, sut.getActiveVoices());
+    }
+
+    @Test
+    void voiceWithHigherPriorityStealsVoiceWithLowerPriority() {
+        // Arrange
+        var lowPriority = createPlayingAudioClip();
+        var highPriority = createPlayingAudioClip();
+        sut.setMaxVoices(1);
+        sut.play(lowPriority, 0);
+
+        // Act
+        var played = sut.play(highPriority, 1);
+
+        // Assert
+        assertTrue(played);
+        verify(lowPriority).stop();
+        verify(highPriority).play();
+        assertEquals(1, sut.getActiveVoices());
+    }
+
+    @Test
+    void voiceWithLowerPriorityIsDroppedWhenAllVoicesAreUsed() {
+        // Arrange
+        var highPriority = createPlayingAudioClip();
+        var lowPriority = createPlayingAudioClip();
+        sut.setMaxVoices(1);
+        sut.play(highPriority, 1);
+
+        // Act
+        var played = sut.play(lowPriority, 0);
+
+        // Assert
+        assertFalse(played);
+        verify(highPriority, never()).stop();
+        verify(lowPriority, never()).play();
+    }
+
+    @Test
+    void stopStopsAudioClipWithOnlyVoicesOfOwner() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+        var owner = new Object();
+        sut.play(audioClip, 1, 1, 0, 1, 0, 0, owner);
+
+        // Act
+        sut.stop(audioClip, owner);
+
+        // Assert
+        verify(audioClip).stop();
+        assertEquals(0, sut.getActiveVoices());
+    }
+
+    @Test
+    void stopDoesNotStopVoicesOfOtherOwner() {
+        // Arrange
+        var audioClip = createPlayingAudioClip();
+        var owner = new Object();
+        var otherOwner = new Object();
+        sut.play(audioClip, 1, 1, 0, 1, 0, 0, owner);
+        now += FRAME;
+        sut.play(audioClip, 1, 1, 0, 1, 0, 0, otherOwner);
+
+        // Act
+        sut.stop(audioClip, owner);
+
+        // Assert
+        verify(audioClip, never()).stop();
+        assertEquals(1, sut.getActiveVoices());
+    }
+
+    private AudioClip createPlayingAudioClip() {
+        var audioClip = mock(AudioClip.class);
+        when(audioClip.isPlaying()).thenReturn(true);
+        return audioClip;
+    }
+}
@@ -93,4 +93,16 @@ class AudioRepositoryTest {
         Assertions.assertNotSame(audioClip1, audioClip2);
         Assertions.assertEquals(2, audioRepository.size());
     }
+
+    @Test
+    void getWithAGivenCycleCountSetsCycleCount() {
+        // Arrange
+        audioRepository.destroy();
+
+        // Act
+        AudioClip audioClip = audioRepository.get("waterworld/audio/waterworld.mp3", AudioClip.INDEFINITE);
+
+        // Assert
+        Assertions.assertEquals(AudioClip.INDEFINITE, audioClip.getCycleCount());
+    }
 }
@@ -0,0 +1,76 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+
+class FrameTableRepositoryTest {
+
+    private static final Rectangle2D REGION = new Rectangle2D(0, 0, 100, 50);
+    private static final double DELTA = 0.00000000000001d;
+
+    private FrameTableRepository sut;
+    private Image image;
+
+    @BeforeEach
+    void setup() {
+        sut = new FrameTableRepository();
+        image = mock(Image.class);
+    }
+
+    @Test
+    void sameImageAndLayoutShareFrameTable() {
+        // Arrange
+        var frameTable = sut.get(image, REGION, 2, 4);
+
+        // Act
+        var otherFrameTable = sut.get(image, REGION, 2, 4);
+
+        // Assert
+        Assertions.assertSame(frameTable, otherFrameTable);
+        Assertions.assertEquals(1, sut.size());
+    }
+
+    @Test
+    void differentLayoutCreatesNewFrameTable() {
+        // Arrange
+        var frameTable = sut.get(image, REGION, 2, 4);
+
+        // Act
+        var otherFrameTable = sut.get(image, REGION, 1, 8);
+
+        // Assert
+        Assertions.assertNotSame(frameTable, otherFrameTable);
+        Assertions.assertEquals(2, sut.size());
+    }
+
+    @Test
+    void framesAreNumberedRowByRow() {
+        // Arrange
+
+        // Act
+        var frameTable = sut.get(image, REGION, 2, 4);
+
+        // Assert
+        Assertions.assertEquals(8, frameTable.size());
+        Assertions.assertEquals(new Rectangle2D(75, 0, 25, 25), frameTable.getFrame(3));
+        Assertions.assertEquals(0, frameTable.getFrame(4).getMinX(), DELTA);
+        Assertions.assertEquals(25, frameTable.getFrame(4).getMinY(), DELTA);
+    }
+
+    @Test
+    void afterDestroyRepositoryIsEmpty() {
+        // Arrange
+        sut.get(image, REGION, 2, 4);
+
+        // Act
+        sut.destroy();
+
+        // Assert
+        Assertions.assertEquals(0, sut.size());
+    }
+}
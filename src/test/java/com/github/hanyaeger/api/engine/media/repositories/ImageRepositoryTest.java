@@ -1,11 +1,16 @@
 package com.github.hanyaeger.api.engine.media.repositories;
 
+import com.github.hanyaeger.api.engine.media.atlas.TextureAtlas;
 import com.github.hanyaeger.api.javafx.image.ImageFactory;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.Mockito.*;
 
 class ImageRepositoryTest {
@@ -109,5 +114,111 @@ class ImageRepositoryTest {
         Assertions.assertSame(firstImage, secondImage);
         Assertions.assertEquals(1, imageRepository.size());
     }
-}
 
+    @Test
+    void imagesAreNotEvictedWithinMemoryBudget() {
+        // Arrange
+        imageRepository.destroy();
+        when(imageFactory.create(anyString())).thenAnswer(invocation -> createImage(10, 10));
+
+        // Act
+        imageRepository.get("waterworld/images/bubble.png");
+        imageRepository.get("waterworld/images/poison.png");
+
+        // Assert
+        Assertions.assertEquals(2, imageRepository.size());
+        Assertions.assertEquals(800, imageRepository.getSizeInBytes());
+        Assertions.assertEquals(0, imageRepository.getEvictions());
+    }
+
+    @Test
+    void leastRecentlyUsedImageIsEvictedWhenMemoryBudgetIsExceeded() {
+        // Arrange
+        imageRepository.destroy();
+        imageRepository.setMemoryBudget(800);
+        when(imageFactory.create(anyString())).thenAnswer(invocation -> createImage(10, 10));
+
+        var bubble = imageRepository.get("waterworld/images/bubble.png");
+        imageRepository.get("waterworld/images/poison.png");
+        imageRepository.get("waterworld/images/bubble.png");
+
+        // Act
+        imageRepository.get("waterworld/images/sprite-with-two-frames.png");
+
+        // Assert
+        Assertions.assertEquals(2, imageRepository.size());
+        Assertions.assertEquals(1, imageRepository.getEvictions());
+        Assertions.assertSame(bubble, imageRepository.get("waterworld/images/bubble.png"));
+    }
+
+    @Test
+    void loweringMemoryBudgetEvictsImages() {
+        // Arrange
+        imageRepository.destroy();
+        when(imageFactory.create(anyString())).thenAnswer(invocation -> createImage(10, 10));
+        imageRepository.get("waterworld/images/bubble.png");
+        imageRepository.get("waterworld/images/poison.png");
+
+        // Act
+        imageRepository.setMemoryBudget(400);
+
+        // Assert
+        Assertions.assertEquals(1, imageRepository.size());
+        Assertions.assertEquals(400, imageRepository.getSizeInBytes());
+    }
+
+    @Test
+    void hitsAndMissesAreCounted() {
+        // Arrange
+        imageRepository.destroy();
+        Image image = mock(Image.class);
+        when(imageFactory.create(anyString())).thenReturn(image);
+
+        // Act
+        imageRepository.get("waterworld/images/bubble.png");
+        imageRepository.get("waterworld/images/bubble.png");
+        imageRepository.get("waterworld/images/bubble.png");
+
+        // Assert
+        Assertions.assertEquals(1, imageRepository.getMisses());
+        Assertions.assertEquals(2, imageRepository.getHits());
+    }
+
+    @Test
+    void getRegionReturnsRegionFromTextureAtlas() {
+        // Arrange
+        var atlasImage = createImage(64, 64);
+        var viewport = new Rectangle2D(10, 20, 30, 40);
+        var key = TextureAtlas.createKey("waterworld/images/bubble.png", 30, 40, true);
+        imageRepository.setTextureAtlases(List.of(new TextureAtlas(atlasImage, Map.of(key, viewport))));
+
+        // Act
+        var region = imageRepository.getRegion("waterworld/images/bubble.png", 30, 40, true);
+
+        // Assert
+        Assertions.assertTrue(region.isPresent());
+        Assertions.assertEquals(atlasImage, region.get().getImage());
+        Assertions.assertEquals(viewport, region.get().getViewport());
+    }
+
+    @Test
+    void getRegionReturnsEmptyAfterTextureAtlasesAreCleared() {
+        // Arrange
+        var key = TextureAtlas.createKey("waterworld/images/bubble.png", 30, 40, true);
+        imageRepository.setTextureAtlases(List.of(new TextureAtlas(createImage(64, 64), Map.of(key, new Rectangle2D(0, 0, 30, 40)))));
+        imageRepository.clearTextureAtlases();
+
+        // Act
+        var region = imageRepository.getRegion("waterworld/images/bubble.png", 30, 40, true);
+
+        // Assert
+        Assertions.assertTrue(region.isEmpty());
+    }
+
+    private Image createImage(final double width, final double height) {
+        Image image = mock(Image.class);
+        when(image.getWidth()).thenReturn(width);
+        when(image.getHeight()).thenReturn(height);
+        return image;
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.hanyaeger.api.engine.scenes;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CameraTest {
+
+    private static final Size VIEWPORT_SIZE = new Size(800, 600);
+
+    private Camera sut;
+    private Pane worldLayer;
+    private ObservableList<Node> children;
+
+    @BeforeEach
+    void setup() {
+        worldLayer = mock(Pane.class, withSettings().withoutAnnotations());
+        children = FXCollections.observableArrayList();
+        when(worldLayer.getChildren()).thenReturn(children);
+
+        sut = new Camera(worldLayer, VIEWPORT_SIZE);
+    }
+
+    @Test
+    void updateTranslatesWorldLayer() {
+        // Arrange
+        sut.setLocation(new Coordinate2D(100, 200));
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        verify(worldLayer).setTranslateX(-100);
+        verify(worldLayer).setTranslateY(-200);
+    }
+
+    @Test
+    void locationIsClampedToWorldSize() {
+        // Arrange
+        sut.setWorldSize(new Size(1000, 1000));
+
+        // Act
+        sut.setLocation(new Coordinate2D(900, -50));
+
+        // Assert
+        assertEquals(new Coordinate2D(200, 0), sut.getLocation());
+    }
+
+    @Test
+    void followedEntityIsCentered() {
+        // Arrange
+        var node = mock(Node.class);
+        when(node.getBoundsInParent()).thenReturn(new BoundingBox(1000, 1000, 20, 20));
+        var entity = mock(YaegerEntity.class);
+        when(entity.getNode()).thenReturn(Optional.of(node));
+        sut.follow(entity);
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        assertEquals(new Coordinate2D(610, 710), sut.getLocation());
+    }
+
+    @Test
+    void nodeOutsideViewportIsCulledAndRestored() {
+        // Arrange
+        var node = mockNode(new BoundingBox(2000, 0, 10, 10), true);
+        children.add(node);
+
+        // Act
+        sut.update(0);
+        sut.setLocation(new Coordinate2D(1500, 0));
+        sut.update(1);
+
+        // Assert
+        verify(node).setVisible(false);
+        verify(node).setVisible(true);
+    }
+
+    @Test
+    void nodeWithinMarginIsNotCulled() {
+        // Arrange
+        var node = mockNode(new BoundingBox(800 + Camera.DEFAULT_CULLING_MARGIN - 1, 0, 10, 10), true);
+        children.add(node);
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        verify(node, never()).setVisible(anyBoolean());
+        assertEquals(0, sut.getCulledCount());
+    }
+
+    @Test
+    void culledEntityIsOnlyExcludedFromUpdatesIfEnabled() {
+        // Arrange
+        var node = mockNode(new BoundingBox(-1000, 0, 10, 10), true);
+        children.add(node);
+        var entity = mock(YaegerEntity.class);
+        when(entity.getNode()).thenReturn(Optional.of(node));
+
+        // Act
+        sut.update(0);
+        var excludedByDefault = sut.isExcludedFromUpdates(entity);
+        sut.setCullUpdates(true);
+        var excludedWhenEnabled = sut.isExcludedFromUpdates(entity);
+
+        // Assert
+        assertFalse(excludedByDefault);
+        assertTrue(excludedWhenEnabled);
+    }
+
+    @Test
+    void culledEntityGetsCulledUpdateInterval() {
+        // Arrange
+        var node = mockNode(new BoundingBox(-1000, 0, 10, 10), true);
+        children.add(node);
+        var entity = mock(YaegerEntity.class);
+        when(entity.getNode()).thenReturn(Optional.of(node));
+        sut.setCulledUpdateInterval(4);
+
+        // Act
+        var intervalBeforeCulling = sut.getUpdateInterval(entity);
+        sut.update(0);
+        var intervalAfterCulling = sut.getUpdateInterval(entity);
+
+        // Assert
+        assertEquals(1, intervalBeforeCulling);
+        assertEquals(4, intervalAfterCulling);
+    }
+
+    @Test
+    void viewportListenerIsOnlyNotifiedWhenViewportChanges() {
+        // Arrange
+        var viewports = new ArrayList<Rectangle2D>();
+        Consumer<Rectangle2D> listener = viewports::add;
+        sut.addViewportListener(listener);
+
+        // Act
+        sut.update(0);
+        sut.update(1);
+        sut.setLocation(new Coordinate2D(10, 0));
+        sut.update(2);
+
+        // Assert
+        assertEquals(2, viewports.size());
+        assertEquals(new Rectangle2D(10, 0, 800, 600), viewports.get(1));
+    }
+
+    @Test
+    void changingCameraRunsUpdateAction() {
+        // Arrange
+        var updateAction = mock(Runnable.class);
+        sut.setUpdateAction(updateAction);
+
+        // Act
+        sut.setLocation(new Coordinate2D(10, 0));
+        sut.setWorldSize(new Size(1000, 1000));
+        sut.follow(null);
+
+        // Verify
+        verify(updateAction, times(3)).run();
+    }
+
+    @Test
+    void changingCameraWithoutUpdateActionDoesNotTranslateWorldLayer() {
+        // Arrange
+
+        // Act
+        sut.setLocation(new Coordinate2D(10, 0));
+
+        // Verify
+        verify(worldLayer, never()).setTranslateX(anyDouble());
+    }
+
+    private Node mockNode(final BoundingBox bounds, final boolean visible) {
+        var node = mock(Node.class);
+        when(node.getBoundsInParent()).thenReturn(bounds);
+        when(node.isVisible()).thenReturn(visible);
+        when(node.getParent()).thenReturn(worldLayer);
+        return node;
+    }
+}
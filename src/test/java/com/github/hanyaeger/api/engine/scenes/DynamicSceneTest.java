@@ -95,6 +95,19 @@ class DynamicSceneTest {
         assertTrue(timers.isEmpty());
     }
 
+    @Test
+    void activateEnablesInputBatching() {
+        // Arrange
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+
+        // Act
+        sut.activate();
+
+        // Verify
+        verify(entityCollection).setInputBatching(true);
+    }
+
     @Test
     void destroyClearsEntityCollection() {
         // Arrange
@@ -1,10 +1,18 @@
 package com.github.hanyaeger.api.engine.scenes;
 
+import com.github.hanyaeger.api.engine.ClassPreloader;
+import com.github.hanyaeger.api.engine.StartupTimings;
 import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
 import com.github.hanyaeger.api.engine.exceptions.YaegerSceneNotAvailableException;
+import com.github.hanyaeger.api.engine.media.assets.Asset;
+import com.github.hanyaeger.api.engine.media.assets.AssetContainer;
+import com.github.hanyaeger.api.engine.media.assets.AssetPreloader;
 import com.github.hanyaeger.api.engine.scenes.splash.SplashScene;
 import com.github.hanyaeger.api.engine.scenes.splash.SplashScreenFactory;
+import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerFactory;
+import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerHandler;
+import javafx.animation.AnimationTimer;
 import com.google.inject.Injector;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -13,6 +21,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.mockito.Mockito.*;
 
 class SceneCollectionTest {
@@ -23,6 +34,8 @@ class SceneCollectionTest {
     private AnnotationProcessor annotationProcessor;
     private SplashScreenFactory splashScreenFactory;
     private SplashScene splashScene;
+    private AssetPreloader assetPreloader;
+    private ClassPreloader classPreloader;
     private ArgumentCaptor<Runnable> loadFirstSceneCallBack;
     private YaegerConfig yaegerConfig;
 
@@ -33,6 +46,9 @@ class SceneCollectionTest {
         annotationProcessor = mock(AnnotationProcessor.class);
         splashScreenFactory = mock(SplashScreenFactory.class);
         splashScene = mock(SplashScene.class);
+        assetPreloader = mock(AssetPreloader.class);
+        classPreloader = mock(ClassPreloader.class);
+        when(classPreloader.isDone()).thenReturn(true);
 
         yaegerConfig = mock(YaegerConfig.class);
         when(yaegerConfig.isShowSplash()).thenReturn(true);
@@ -43,6 +59,9 @@ class SceneCollectionTest {
         sut.init(injector);
         sut.setAnnotationProcessor(annotationProcessor);
         sut.setSplashScreenFactory(splashScreenFactory);
+        sut.setAssetPreloader(assetPreloader);
+        sut.setClassPreloader(classPreloader);
+        sut.setStartupTimings(mock(StartupTimings.class));
     }
 
     @Test
@@ -121,6 +140,60 @@ class SceneCollectionTest {
         verify(scene).init(any(Injector.class));
     }
 
+    @Test
+    void splashScreenDoesNotFinishWhileClassesAreBeingPreloaded() {
+        // Arrange
+        var scene = mock(YaegerScene.class);
+        when(scene.getScene()).thenReturn(mock(Scene.class));
+        when(classPreloader.isDone()).thenReturn(false);
+
+        sut.addScene(0, scene);
+        sut.postSetupScenes();
+
+        // Act
+        loadFirstSceneCallBack.getValue().run();
+
+        // Verify
+        Assertions.assertEquals(splashScene, sut.getActiveScene());
+
+        when(classPreloader.isDone()).thenReturn(true);
+        loadFirstSceneCallBack.getValue().run();
+
+        Assertions.assertEquals(scene, sut.getActiveScene());
+    }
+
+    @Test
+    void trainingRunShowsAllScenesAndClosesTheStage() {
+        // Arrange
+        var intro = mock(YaegerScene.class);
+        var level1 = mock(YaegerScene.class);
+        when(intro.getScene()).thenReturn(mock(Scene.class));
+        when(level1.getScene()).thenReturn(mock(Scene.class));
+        when(yaegerConfig.isShowSplash()).thenReturn(false);
+        when(yaegerConfig.isCdsTraining()).thenReturn(true);
+
+        var animationTimerFactory = mock(AnimationTimerFactory.class);
+        var animationTimer = mock(AnimationTimer.class);
+        var handler = ArgumentCaptor.forClass(AnimationTimerHandler.class);
+        when(animationTimerFactory.create(handler.capture())).thenReturn(animationTimer);
+        sut.setAnimationTimerFactory(animationTimerFactory);
+
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+
+        // Act
+        sut.postSetupScenes();
+        for (var i = 0; i < TrainingRun.FRAMES_PER_SCENE * 2; i++) {
+            handler.getValue().handle(i);
+        }
+
+        // Verify
+        verify(animationTimer).start();
+        verify(level1).activate();
+        verify(animationTimer).stop();
+        verify(stage).close();
+    }
+
     @Test
     void yaegerExitsIfNoSceneWasAddedAfterSplashScreenFinishes() {
         // Arrange
@@ -255,6 +328,315 @@ class SceneCollectionTest {
         verify(intro).destroy();
     }
 
+    @Test
+    void selectingADifferentSceneSuspendsTheActiveSceneIfScenesAreKept() {
+        // Arrange
+        var intro = createSuspendableScene();
+        var level1 = createSuspendableScene();
+
+        sut.setMaxSuspendedScenes(1);
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+
+        sut.postSetupScenes();
+        loadFirstSceneCallBack.getValue().run();
+
+        // Act
+        sut.setActive(1);
+
+        // Verify
+        verify((Suspendable) intro).suspend();
+        verify(intro, never()).destroy();
+        Assertions.assertTrue(sut.isSuspended(0));
+    }
+
+    @Test
+    void selectingASuspendedSceneResumesItWithoutActivatingItAgain() {
+        // Arrange
+        var intro = createSuspendableScene();
+        var level1 = createSuspendableScene();
+
+        sut.setMaxSuspendedScenes(1);
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+
+        sut.postSetupScenes();
+        loadFirstSceneCallBack.getValue().run();
+        sut.setActive(1);
+
+        // Act
+        sut.setActive(0);
+
+        // Verify
+        verify((Suspendable) intro).resume();
+        verify(intro, times(1)).activate();
+        Assertions.assertEquals(intro, sut.getActiveScene());
+        Assertions.assertFalse(sut.isSuspended(0));
+        Assertions.assertTrue(sut.isSuspended(1));
+    }
+
+    @Test
+    void leastRecentlyUsedSuspendedSceneIsDestroyedWhenTooManyScenesAreKept() {
+        // Arrange
+        var intro = createSuspendableScene();
+        var level1 = createSuspendableScene();
+        var level2 = createSuspendableScene();
+
+        sut.setMaxSuspendedScenes(1);
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+        sut.addScene(2, level2);
+
+        sut.postSetupScenes();
+        loadFirstSceneCallBack.getValue().run();
+        sut.setActive(1);
+
+        // Act
+        sut.setActive(2);
+
+        // Verify
+        verify(intro).destroy();
+        verify(level1, never()).destroy();
+        Assertions.assertFalse(sut.isSuspended(0));
+        Assertions.assertTrue(sut.isSuspended(1));
+    }
+
+    @Test
+    void prepareBuildsASuspendableSceneWithoutShowingIt() {
+        // Arrange
+        var intro = createSuspendableScene();
+        var level1 = createSuspendableScene();
+        var level1Scene = level1.getScene();
+
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+        sut.setActive(0);
+
+        // Act
+        sut.prepare(1);
+
+        // Verify
+        verify((Suspendable) level1).suspend();
+        verify(level1).activate();
+        verify(level1, never()).postActivate();
+        verify(stage, never()).setScene(level1Scene);
+        Assertions.assertEquals(intro, sut.getActiveScene());
+        Assertions.assertTrue(sut.isPrepared(1));
+    }
+
+    @Test
+    void selectingAPreparedSceneOnlyShowsIt() {
+        // Arrange
+        var intro = createSuspendableScene();
+        var level1 = createSuspendableScene();
+        var level1Scene = level1.getScene();
+
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+        sut.setActive(0);
+        sut.prepare(1);
+
+        // Act
+        sut.setActive(1);
+
+        // Verify
+        verify(level1, times(1)).activate();
+        verify((Suspendable) level1).resume();
+        verify(level1).postActivate();
+        verify(stage).setScene(level1Scene);
+        Assertions.assertEquals(level1, sut.getActiveScene());
+        Assertions.assertFalse(sut.isPrepared(1));
+    }
+
+    @Test
+    void selectingASceneThatIsBeingPreparedActivatesItAfterPreparation() {
+        // Arrange
+        var intro = createSuspendableScene();
+        var level1 = mock(YaegerScene.class, withSettings().extraInterfaces(Suspendable.class, AssetContainer.class));
+        List<Asset> assets = new ArrayList<>(List.of(mock(Asset.class)));
+        var onFinished = ArgumentCaptor.forClass(Runnable.class);
+
+        when(level1.getScene()).thenReturn(mock(Scene.class));
+        when(((AssetContainer) level1).getAssets()).thenReturn(assets);
+
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+        sut.setActive(0);
+        sut.prepare(1);
+
+        // Act
+        sut.setActive(1);
+
+        // Verify
+        verify(assetPreloader, times(1)).preload(eq(assets), onFinished.capture(), any());
+        Assertions.assertEquals(intro, sut.getActiveScene());
+        Assertions.assertTrue(sut.isLoading());
+
+        onFinished.getValue().run();
+
+        verify(level1, times(1)).activate();
+        Assertions.assertEquals(level1, sut.getActiveScene());
+        Assertions.assertFalse(sut.isLoading());
+    }
+
+    @Test
+    void firstSceneIsPreparedWhileSplashScreenIsShowing() {
+        // Arrange
+        var level1 = createSuspendableScene();
+        sut.addScene(0, level1);
+
+        // Act
+        sut.postSetupScenes();
+
+        // Verify
+        verify(level1).activate();
+        Assertions.assertTrue(sut.isPrepared(0));
+
+        loadFirstSceneCallBack.getValue().run();
+
+        verify(level1, times(1)).activate();
+        Assertions.assertEquals(level1, sut.getActiveScene());
+    }
+
+    @Test
+    void failingAssetsOfFirstSceneCloseTheStage() {
+        // Arrange
+        var level1 = mock(YaegerScene.class, withSettings().extraInterfaces(Suspendable.class, AssetContainer.class));
+        List<Asset> assets = new ArrayList<>(List.of(mock(Asset.class)));
+        var onFailed = ArgumentCaptor.forClass(Runnable.class);
+
+        when(((AssetContainer) level1).getAssets()).thenReturn(assets);
+
+        sut.addScene(0, level1);
+        sut.postSetupScenes();
+        verify(assetPreloader).preload(eq(assets), any(), onFailed.capture());
+
+        // Act
+        onFailed.getValue().run();
+
+        // Verify
+        verify(stage).close();
+        loadFirstSceneCallBack.getValue().run();
+        verify(level1, never()).activate();
+    }
+
+    @Test
+    void selectingASceneWithAssetsOnlyActivatesAfterAssetsAreLoaded() {
+        // Arrange
+        var intro = mock(YaegerScene.class);
+        var level1 = mock(YaegerScene.class, withSettings().extraInterfaces(AssetContainer.class));
+        List<Asset> assets = new ArrayList<>(List.of(mock(Asset.class)));
+
+        var javaFXScene = mock(Scene.class);
+        var onFinished = ArgumentCaptor.forClass(Runnable.class);
+
+        when(intro.getScene()).thenReturn(javaFXScene);
+        when(level1.getScene()).thenReturn(javaFXScene);
+        when(((AssetContainer) level1).getAssets()).thenReturn(assets);
+
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+        sut.setActive(0);
+
+        // Act
+        sut.setActive(1);
+
+        // Verify
+        verify((AssetContainer) level1).initAssets();
+        verify(assetPreloader).preload(eq(assets), onFinished.capture(), any());
+        Assertions.assertEquals(intro, sut.getActiveScene());
+        Assertions.assertTrue(sut.isLoading());
+
+        onFinished.getValue().run();
+
+        verify(intro).destroy();
+        Assertions.assertEquals(level1, sut.getActiveScene());
+        Assertions.assertFalse(sut.isLoading());
+    }
+
+    @Test
+    void assetsLoadedAfterSelectingAnotherSceneDoNotActivateTheEarlierScene() {
+        // Arrange
+        var intro = mock(YaegerScene.class);
+        var level1 = mock(YaegerScene.class, withSettings().extraInterfaces(AssetContainer.class));
+        var level2 = mock(YaegerScene.class);
+        List<Asset> assets = new ArrayList<>(List.of(mock(Asset.class)));
+
+        var javaFXScene = mock(Scene.class);
+        var onFinished = ArgumentCaptor.forClass(Runnable.class);
+
+        when(intro.getScene()).thenReturn(javaFXScene);
+        when(level1.getScene()).thenReturn(javaFXScene);
+        when(level2.getScene()).thenReturn(javaFXScene);
+        when(((AssetContainer) level1).getAssets()).thenReturn(assets);
+
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+        sut.addScene(2, level2);
+        sut.setActive(0);
+        sut.setActive(1);
+        sut.setActive(2);
+        verify(assetPreloader).preload(eq(assets), onFinished.capture(), any());
+
+        // Act
+        onFinished.getValue().run();
+
+        // Verify
+        verify(level1, never()).activate();
+        Assertions.assertEquals(level2, sut.getActiveScene());
+        Assertions.assertFalse(sut.isLoading());
+    }
+
+    @Test
+    void failingAssetsOfSelectedSceneAllowSelectingTheSceneAgain() {
+        // Arrange
+        var intro = mock(YaegerScene.class);
+        var level1 = mock(YaegerScene.class, withSettings().extraInterfaces(AssetContainer.class));
+        List<Asset> assets = new ArrayList<>(List.of(mock(Asset.class)));
+
+        var javaFXScene = mock(Scene.class);
+        var onFailed = ArgumentCaptor.forClass(Runnable.class);
+
+        when(intro.getScene()).thenReturn(javaFXScene);
+        when(level1.getScene()).thenReturn(javaFXScene);
+        when(((AssetContainer) level1).getAssets()).thenReturn(assets);
+
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+        sut.setActive(0);
+        sut.setActive(1);
+        verify(assetPreloader).preload(eq(assets), any(), onFailed.capture());
+
+        // Act
+        onFailed.getValue().run();
+
+        // Verify
+        Assertions.assertFalse(sut.isLoading());
+        Assertions.assertEquals(intro, sut.getActiveScene());
+
+        sut.setActive(1);
+        verify(assetPreloader, times(2)).preload(eq(assets), any(), any());
+    }
+
+    @Test
+    void selectingASceneWithoutAssetsDoesNotUseAssetPreloader() {
+        // Arrange
+        var level1 = mock(YaegerScene.class, withSettings().extraInterfaces(AssetContainer.class));
+        var javaFXScene = mock(Scene.class);
+
+        when(level1.getScene()).thenReturn(javaFXScene);
+        when(((AssetContainer) level1).getAssets()).thenReturn(new ArrayList<>());
+
+        sut.addScene(0, level1);
+
+        // Act
+        sut.setActive(0);
+
+        // Verify
+        verifyNoInteractions(assetPreloader);
+        Assertions.assertEquals(level1, sut.getActiveScene());
+    }
+
     @Test
     void equalsSucceedsWithSameInstance() {
         // Arrange
@@ -316,4 +698,10 @@ class SceneCollectionTest {
         // Verify
         Assertions.assertNotEquals(hash1, hash2);
     }
+
+    private YaegerScene createSuspendableScene() {
+        var scene = mock(YaegerScene.class, withSettings().extraInterfaces(Suspendable.class));
+        when(scene.getScene()).thenReturn(mock(Scene.class));
+        return scene;
+    }
 }
@@ -4,19 +4,28 @@ import com.github.hanyaeger.api.engine.debug.Debugger;
 import com.github.hanyaeger.api.engine.entities.EntitySupplier;
 import com.github.hanyaeger.api.engine.scenes.delegates.BackgroundDelegate;
 import com.github.hanyaeger.api.engine.scenes.delegates.KeyListenerDelegate;
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.guice.factories.CameraFactory;
 import com.github.hanyaeger.api.guice.factories.EntityCollectionFactory;
+import com.github.hanyaeger.api.guice.factories.InputMapFactory;
+import com.github.hanyaeger.api.guice.factories.MouseDispatcherFactory;
 import com.github.hanyaeger.api.guice.factories.SceneFactory;
+import com.github.hanyaeger.api.guice.factories.StaticLayerFactory;
 import com.google.inject.Injector;
 import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 import javafx.scene.effect.ColorAdjust;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
+import com.github.hanyaeger.api.engine.entities.entity.StaticLayer;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.InputMap;
 import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.MouseDispatcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -31,6 +40,10 @@ class StaticSceneTest {
     private StaticSceneImpl sut;
     private SceneFactory sceneFactory;
     private EntityCollectionFactory entityCollectionFactory;
+    private CameraFactory cameraFactory;
+    private StaticLayerFactory staticLayerFactory;
+    private InputMapFactory inputMapFactory;
+    private MouseDispatcherFactory mouseDispatcherFactory;
 
     private KeyListenerDelegate keyListenerDelegate;
     private BackgroundDelegate backgroundDelegate;
@@ -54,12 +67,20 @@ class StaticSceneTest {
         entitySupplier = mock(EntitySupplier.class);
         sceneFactory = mock(SceneFactory.class);
         entityCollectionFactory = mock(EntityCollectionFactory.class);
+        cameraFactory = mock(CameraFactory.class);
+        staticLayerFactory = mock(StaticLayerFactory.class);
+        inputMapFactory = mock(InputMapFactory.class);
+        mouseDispatcherFactory = mock(MouseDispatcherFactory.class);
         injector = mock(Injector.class);
         stage = mock(Stage.class);
 
         sut.setDebugger(debugger);
         sut.setSceneFactory(sceneFactory);
         sut.setEntityCollectionFactory(entityCollectionFactory);
+        sut.setCameraFactory(cameraFactory);
+        sut.setStaticLayerFactory(staticLayerFactory);
+        sut.setInputMapFactory(inputMapFactory);
+        sut.setMouseDispatcherFactory(mouseDispatcherFactory);
         sut.setPane(pane);
         sut.setBackgroundDelegate(backgroundDelegate);
         sut.setKeyListenerDelegate(keyListenerDelegate);
@@ -185,6 +206,59 @@ class StaticSceneTest {
         verify(children).clear();
     }
 
+    @Test
+    void suspendTearsDownInputAndSuspendsBackground() {
+        // Arrange
+        sut.activate();
+
+        // Act
+        sut.suspend();
+
+        // Verify
+        verify(keyListenerDelegate).tearDown(scene);
+        verify(backgroundDelegate).suspend();
+        verify(backgroundDelegate, never()).destroy();
+    }
+
+    @Test
+    void suspendReleasesInputOfEntityCollection() {
+        // Arrange
+        sut.activate();
+
+        // Act
+        sut.suspend();
+
+        // Verify
+        verify(entityCollection).releaseInput();
+    }
+
+    @Test
+    void activatingASuspendedSceneDoesNotSetUpInput() {
+        // Arrange
+        sut.suspend();
+
+        // Act
+        sut.activate();
+
+        // Verify
+        verify(keyListenerDelegate, never()).setup(any(Scene.class), any(KeyListener.class));
+        verify(backgroundDelegate).suspend();
+    }
+
+    @Test
+    void resumeSetsUpInputAndResumesBackground() {
+        // Arrange
+        sut.activate();
+        sut.suspend();
+
+        // Act
+        sut.resume();
+
+        // Verify
+        verify(keyListenerDelegate, times(2)).setup(any(Scene.class), any(KeyListener.class));
+        verify(backgroundDelegate).resume();
+    }
+
     @Test
     void addEntityAddsTheEntitySupplier() {
         // Arrange
@@ -383,6 +457,35 @@ class StaticSceneTest {
         verify(entityCollection).notifyGameObjectsOfPressedKeys(input);
     }
 
+    @Test
+    void enableSceneMouseDispatchSetsMouseDispatcherOnEntityCollection() {
+        // Arrange
+        var mouseDispatcher = mock(MouseDispatcher.class);
+        when(mouseDispatcherFactory.create()).thenReturn(mouseDispatcher);
+        sut.activate();
+
+        // Act
+        sut.enableSceneMouseDispatch();
+
+        // Verify
+        verify(mouseDispatcher).attach(scene);
+        verify(entityCollection).setMouseDispatcher(mouseDispatcher);
+    }
+
+    @Test
+    void enableSceneMouseDispatchTwiceCreatesSingleMouseDispatcher() {
+        // Arrange
+        when(mouseDispatcherFactory.create()).thenReturn(mock(MouseDispatcher.class));
+        sut.activate();
+
+        // Act
+        sut.enableSceneMouseDispatch();
+        sut.enableSceneMouseDispatch();
+
+        // Verify
+        verify(mouseDispatcherFactory).create();
+    }
+
     @Test
     void postActivationMakesRequiredCalls() {
         // Arrange
@@ -397,6 +500,102 @@ class StaticSceneTest {
         verify(debugger).toFront();
     }
 
+    @Test
+    void activateSetsUpInputMapCreatedByInputMapFactory() {
+        // Arrange
+        var inputMapSut = new StaticSceneInputMapImpl();
+        var inputMap = mock(InputMap.class);
+        when(inputMapFactory.create()).thenReturn(inputMap);
+
+        inputMapSut.setDebugger(debugger);
+        inputMapSut.setSceneFactory(sceneFactory);
+        inputMapSut.setEntityCollectionFactory(entityCollectionFactory);
+        inputMapSut.setInputMapFactory(inputMapFactory);
+        inputMapSut.setPane(pane);
+        inputMapSut.setBackgroundDelegate(backgroundDelegate);
+        inputMapSut.setKeyListenerDelegate(keyListenerDelegate);
+        inputMapSut.setEntitySupplier(entitySupplier);
+        inputMapSut.setStage(stage);
+        inputMapSut.init(injector);
+
+        // Act
+        inputMapSut.activate();
+
+        // Assert
+        verify(entityCollection).setInputMap(inputMap);
+        verify(scene).addEventFilter(eq(MouseEvent.MOUSE_PRESSED), any());
+        verify(scene).addEventFilter(eq(MouseEvent.MOUSE_RELEASED), any());
+        assertEquals(inputMap, inputMapSut.inputMap);
+    }
+
+    @Test
+    void activateSetsUpCameraCreatedByCameraFactory() {
+        // Arrange
+        var cameraSut = new StaticSceneCameraImpl();
+        var worldLayer = mock(Pane.class, withSettings().withoutAnnotations());
+        var camera = mock(Camera.class);
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+        when(cameraFactory.create(eq(worldLayer), any(Size.class))).thenReturn(camera);
+        when(entityCollectionFactory.create(worldLayer)).thenReturn(entityCollection);
+
+        cameraSut.setDebugger(debugger);
+        cameraSut.setSceneFactory(sceneFactory);
+        cameraSut.setEntityCollectionFactory(entityCollectionFactory);
+        cameraSut.setCameraFactory(cameraFactory);
+        cameraSut.setPane(pane);
+        cameraSut.setWorldLayer(worldLayer);
+        cameraSut.setBackgroundDelegate(backgroundDelegate);
+        cameraSut.setKeyListenerDelegate(keyListenerDelegate);
+        cameraSut.setEntitySupplier(entitySupplier);
+        cameraSut.setStage(stage);
+        cameraSut.init(injector);
+
+        // Act
+        cameraSut.activate();
+
+        // Assert
+        verify(children).add(worldLayer);
+        verify(entityCollection).setCamera(camera);
+        assertEquals(camera, cameraSut.camera);
+    }
+
+    @Test
+    void addStaticEntityAddsSingleStaticLayerToEntitySupplier() {
+        // Arrange
+        var staticLayer = mock(StaticLayer.class);
+        when(staticLayerFactory.create()).thenReturn(staticLayer);
+        var staticSut = new StaticScene() {
+            @Override
+            public void setupScene() {
+            }
+
+            @Override
+            public void setupEntities() {
+                addStaticEntity(mock(YaegerEntity.class));
+                addStaticEntity(mock(YaegerEntity.class));
+            }
+        };
+        staticSut.setDebugger(debugger);
+        staticSut.setSceneFactory(sceneFactory);
+        staticSut.setEntityCollectionFactory(entityCollectionFactory);
+        staticSut.setStaticLayerFactory(staticLayerFactory);
+        staticSut.setPane(pane);
+        staticSut.setBackgroundDelegate(backgroundDelegate);
+        staticSut.setKeyListenerDelegate(keyListenerDelegate);
+        staticSut.setEntitySupplier(entitySupplier);
+        staticSut.setStage(stage);
+        staticSut.init(injector);
+
+        // Act
+        staticSut.activate();
+
+        // Assert
+        verify(staticLayerFactory).create();
+        verify(entitySupplier).add(staticLayer);
+        verify(staticLayer, times(2)).add(any(YaegerEntity.class));
+    }
+
     private class StaticSceneImpl extends StaticScene {
 
         @Override
@@ -408,6 +607,42 @@ class StaticSceneTest {
         }
     }
 
+    private class StaticSceneInputMapImpl extends StaticScene implements InputMapContainer {
+
+        private InputMap inputMap;
+
+        @Override
+        public void setupInputMap(final InputMap inputMap) {
+            this.inputMap = inputMap;
+        }
+
+        @Override
+        public void setupScene() {
+        }
+
+        @Override
+        public void setupEntities() {
+        }
+    }
+
+    private class StaticSceneCameraImpl extends StaticScene implements CameraContainer {
+
+        private Camera camera;
+
+        @Override
+        public void setupCamera(final Camera camera) {
+            this.camera = camera;
+        }
+
+        @Override
+        public void setupScene() {
+        }
+
+        @Override
+        public void setupEntities() {
+        }
+    }
+
     private class StaticSceneKeyListenerImpl extends StaticScene implements KeyListener {
 
         @Override
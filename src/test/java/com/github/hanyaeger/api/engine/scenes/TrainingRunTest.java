@@ -0,0 +1,69 @@
+package com.github.hanyaeger.api.engine.scenes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrainingRunTest {
+
+    private List<Integer> activated;
+    private boolean loading;
+    private int finished;
+    private TrainingRun sut;
+
+    @BeforeEach
+    void setup() {
+        activated = new ArrayList<>();
+        loading = false;
+        finished = 0;
+        sut = new TrainingRun(List.of(1, 2), activated::add, () -> loading, () -> finished++);
+    }
+
+    @Test
+    void nextSceneIsActivatedAfterFramesPerScene() {
+        // Arrange
+        handleFrames(TrainingRun.FRAMES_PER_SCENE - 1);
+
+        // Act
+        sut.handle(0);
+
+        // Assert
+        assertEquals(List.of(1), activated);
+    }
+
+    @Test
+    void framesAreNotCountedWhileLoading() {
+        // Arrange
+        loading = true;
+        handleFrames(TrainingRun.FRAMES_PER_SCENE);
+        loading = false;
+
+        // Act
+        handleFrames(TrainingRun.FRAMES_PER_SCENE - 1);
+
+        // Assert
+        assertTrue(activated.isEmpty());
+    }
+
+    @Test
+    void finishesOnceAfterTheLastScene() {
+        // Arrange
+
+        // Act
+        handleFrames(TrainingRun.FRAMES_PER_SCENE * 5);
+
+        // Assert
+        assertEquals(List.of(1, 2), activated);
+        assertEquals(1, finished);
+    }
+
+    private void handleFrames(final int frames) {
+        for (var i = 0; i < frames; i++) {
+            sut.handle(i);
+        }
+    }
+}
@@ -73,6 +73,44 @@ class BackgroundDelegateTest {
         verify(audioClip).play();
     }
 
+    @Test
+    void suspendStopsAndResumeRestartsTheBackgroundAudio() {
+        // Arrange
+        var audioClip = mock(AudioClip.class);
+
+        var audioRepository = mock(AudioRepository.class);
+        sut.setAudioRepository(audioRepository);
+        when(audioRepository.get(audioFile, SoundClip.INDEFINITE)).thenReturn(audioClip);
+        sut.setBackgroundAudio(audioFile);
+
+        // Act
+        sut.suspend();
+        sut.resume();
+
+        // Verify
+        verify(audioClip).stop();
+        verify(audioClip, times(2)).play();
+    }
+
+    @Test
+    void backgroundAudioSetWhileSuspendedOnlyPlaysAfterResume() {
+        // Arrange
+        var audioClip = mock(AudioClip.class);
+
+        var audioRepository = mock(AudioRepository.class);
+        sut.setAudioRepository(audioRepository);
+        when(audioRepository.get(audioFile, SoundClip.INDEFINITE)).thenReturn(audioClip);
+        sut.suspend();
+
+        // Act
+        sut.setBackgroundAudio(audioFile);
+
+        // Verify
+        verify(audioClip, never()).play();
+        sut.resume();
+        verify(audioClip).play();
+    }
+
     @Test
     void setBackgroundColorWithNullPaneDoesNotBreak() {
         // Arrange
@@ -132,4 +170,40 @@ class BackgroundDelegateTest {
         // Verify
         verify(audioClip).stop();
     }
+
+    @Test
+    void destroyWhileSuspendedDoesNotStopAudioFileAgain() {
+        // Arrange
+        var audioClip = mock(AudioClip.class);
+
+        var audioRepository = mock(AudioRepository.class);
+        sut.setAudioRepository(audioRepository);
+        when(audioRepository.get(audioFile, SoundClip.INDEFINITE)).thenReturn(audioClip);
+        sut.setBackgroundAudio(audioFile);
+        sut.suspend();
+
+        // Act
+        sut.destroy();
+
+        // Verify
+        verify(audioClip, times(1)).stop();
+    }
+
+    @Test
+    void destroyDoesNotStopAudioFileThatWasNeverStarted() {
+        // Arrange
+        var audioClip = mock(AudioClip.class);
+
+        var audioRepository = mock(AudioRepository.class);
+        sut.setAudioRepository(audioRepository);
+        when(audioRepository.get(audioFile, SoundClip.INDEFINITE)).thenReturn(audioClip);
+        sut.suspend();
+        sut.setBackgroundAudio(audioFile);
+
+        // Act
+        sut.destroy();
+
+        // Verify
+        verify(audioClip, never()).stop();
+    }
 }
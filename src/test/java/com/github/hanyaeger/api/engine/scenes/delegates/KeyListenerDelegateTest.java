@@ -1,9 +1,13 @@
 package com.github.hanyaeger.api.engine.scenes.delegates;
 
+import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import static org.mockito.Mockito.*;
 
@@ -40,4 +44,22 @@ class KeyListenerDelegateTest {
         // Verify
         verify(scene).setOnKeyPressed(null);
     }
+
+    @Test
+    void keyRepeatDoesNotNotifyKeyListener() {
+        // Arrange
+        var scene = mock(Scene.class);
+        var keyListener = mock(KeyListener.class);
+        keyListenerDelegate.setup(scene, keyListener);
+        ArgumentCaptor<EventHandler<KeyEvent>> captor = ArgumentCaptor.forClass(EventHandler.class);
+        verify(scene).setOnKeyPressed(captor.capture());
+        var keyEvent = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.A, false, false, false, false);
+
+        // Act
+        captor.getValue().handle(keyEvent);
+        captor.getValue().handle(keyEvent);
+
+        // Verify
+        verify(keyListener, times(1)).onPressedKeysChange(anySet());
+    }
 }